@@ -16,6 +16,9 @@ package joserodpt.realmines.api;
 import com.google.common.base.Preconditions;
 import joserodpt.realmines.api.managers.MineManagerAPI;
 import joserodpt.realmines.api.managers.MineResetTasksManagerAPI;
+import joserodpt.realmines.api.mine.components.actions.BreakActionCoalescer;
+import joserodpt.realmines.api.mine.components.actions.DropAggregator;
+import joserodpt.realmines.api.mine.storage.MineStorage;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -24,8 +27,8 @@ import java.util.logging.Logger;
 
 public abstract class RealMinesAPI {
 
-    private static final Random r = new Random();
     private static RealMinesAPI instance;
+    private static final ThreadLocal<Random> RANDOM = ThreadLocal.withInitial(Random::new);
 
     /**
      * Gets instance of this API
@@ -56,15 +59,25 @@ public abstract class RealMinesAPI {
 
     public abstract MineResetTasksManagerAPI getMineResetTasksManager();
 
+    public abstract MineStorage getMineStorage();
+
     public abstract boolean hasNewUpdate();
 
     public abstract void reload();
 
+    //kept for compatibility, returns a random of the calling thread instead of one shared by every thread
+    //a plain Random and not ThreadLocalRandom, so callers that set a seed keep working
     public static Random getRand() {
-        return r;
+        return RANDOM.get();
     }
 
     public abstract Economy getEconomy();
 
+    public abstract BreakActionCoalescer getBreakActionCoalescer();
+
+    public abstract DropAggregator getDropAggregator();
+
+    public abstract boolean hasPlaceholderAPI();
+
     public abstract String getVersion();
 }
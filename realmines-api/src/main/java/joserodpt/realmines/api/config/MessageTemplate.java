@@ -0,0 +1,88 @@
+package joserodpt.realmines.api.config;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.utils.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ - A language line split once into coloured text and the placeholders between it
+ - Immutable, so the same template is formatted by any number of threads at once
+ */
+public final class MessageTemplate {
+
+    private final String[] literals;
+    private final TranslatableLine.ReplacableVar[] slots;
+
+    private MessageTemplate(String[] literals, TranslatableLine.ReplacableVar[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    public static MessageTemplate compile(final String raw) {
+        final List<String> literals = new ArrayList<>();
+        final List<TranslatableLine.ReplacableVar> slots = new ArrayList<>();
+        final String s = raw == null ? "" : raw;
+
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < s.length()) {
+            final TranslatableLine.ReplacableVar slot = s.charAt(i) == '%' ? slotAt(s, i) : null;
+            if (slot == null) {
+                literal.append(s.charAt(i++));
+                continue;
+            }
+            literals.add(Text.color(literal.toString()));
+            literal.setLength(0);
+            slots.add(slot);
+            i += slot.getKey().length();
+        }
+        literals.add(Text.color(literal.toString()));
+
+        return new MessageTemplate(literals.toArray(new String[0]), slots.toArray(new TranslatableLine.ReplacableVar[0]));
+    }
+
+    private static TranslatableLine.ReplacableVar slotAt(final String s, final int i) {
+        for (final TranslatableLine.ReplacableVar var : TranslatableLine.ReplacableVar.values()) {
+            if (s.startsWith(var.getKey(), i)) {
+                return var;
+            }
+        }
+        return null;
+    }
+
+    //placeholders without a value are left as they are written in the language file
+    public String format(final TranslatableLine.Value... values) {
+        if (this.slots.length == 0) {
+            return this.literals[0];
+        }
+
+        final StringBuilder sb = new StringBuilder(this.literals[0]);
+        for (int i = 0; i < this.slots.length; ++i) {
+            final TranslatableLine.ReplacableVar slot = this.slots[i];
+            String val = null;
+            for (final TranslatableLine.Value value : values) {
+                if (value != null && value.var() == slot) {
+                    val = value.val();
+                    break;
+                }
+            }
+            sb.append(val == null ? slot.getKey() : Text.color(val));
+            sb.append(this.literals[i + 1]);
+        }
+        return sb.toString();
+    }
+}
@@ -31,6 +31,7 @@ public class RMConfig implements Listener {
 
     private static final String name = "config.yml";
     private static YamlDocument configFile;
+    private static volatile RMConfigValues values;
 
     public static void setup(final JavaPlugin rm) {
         try {
@@ -39,6 +40,7 @@ public class RMConfig implements Listener {
                     LoaderSettings.builder().setAutoUpdate(true).build(),
                     DumperSettings.DEFAULT,
                     UpdaterSettings.builder().setVersioning(new BasicVersioning("Version")).build());
+            values = RMConfigValues.from(configFile);
         } catch (final IOException e) {
             Bukkit.getLogger().log(Level.SEVERE, "Couldn't setup " + name + "!");
         }
@@ -48,9 +50,15 @@ public class RMConfig implements Listener {
         return configFile;
     }
 
+    //typed copy of the file, replaced as a whole whenever the file is set up, reloaded or saved
+    public static RMConfigValues values() {
+        return values;
+    }
+
     public static void save() {
         try {
             configFile.save();
+            values = RMConfigValues.from(configFile);
         } catch (final IOException e) {
             Bukkit.getLogger().log(Level.SEVERE, "Couldn't save " + name + "!");
         }
@@ -59,6 +67,7 @@ public class RMConfig implements Listener {
     public static void reload() {
         try {
             configFile.reload();
+            values = RMConfigValues.from(configFile);
         } catch (final IOException e) {
             Bukkit.getLogger().log(Level.SEVERE, "Couldn't reload " + name + "!");
         }
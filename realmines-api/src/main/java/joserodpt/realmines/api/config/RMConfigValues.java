@@ -0,0 +1,153 @@
+package joserodpt.realmines.api.config;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import joserodpt.realmines.api.utils.Text;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.EntityType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+//read once from config.yml on every setup, reload and save, so the hot paths don't go through the yaml document
+public record RMConfigValues(String prefix,
+                             boolean teleportPlayers,
+                             boolean teleportMessage,
+                             boolean actionbarMessages,
+                             boolean placeFarmLandBelowCrop,
+                             boolean resetMinesWhenNoPlayers,
+                             boolean broadcastResetMessageOnlyInWorld,
+                             boolean useButtonGUIForPercentages,
+                             boolean useWorldEditForBlockPlacement,
+                             boolean ignoreAirBlocksSchematicPasting,
+                             boolean disableMineResetOnServerStart,
+                             boolean disableMineClearingWhenDeleting,
+                             boolean coalesceBreakActions,
+                             int coalesceBreakActionsTicks,
+                             String dropItemsMode,
+                             int dropItemsWindowTicks,
+                             int dropItemsEntityBudget,
+                             boolean sweepEntitiesOnReset,
+                             Set<EntityType> sweepEntityTypes,
+                             boolean compactItemStorage,
+                             int initialFillsPerTick,
+                             boolean saveRuntimeState,
+                             int runtimeStateSaveInterval,
+                             boolean watchMineFiles,
+                             int watchMineFilesDebounceMillis,
+                             String mineStorage,
+                             AnnounceTimes announceTimes) {
+
+    public static RMConfigValues from(final YamlDocument file) {
+        return new RMConfigValues(
+                Text.color(file.getString("RealMines.Prefix", "")),
+                file.getBoolean("RealMines.teleportPlayers", false),
+                file.getBoolean("RealMines.teleportMessage", false),
+                file.getBoolean("RealMines.actionbarMessages", false),
+                file.getBoolean("RealMines.placeFarmLandBelowCrop", false),
+                file.getBoolean("RealMines.resetMinesWhenNoPlayers", false),
+                file.getBoolean("RealMines.broadcastResetMessageOnlyInWorld", false),
+                file.getBoolean("RealMines.useButtonGUIForPercentages", false),
+                file.getBoolean("RealMines.useWorldEditForBlockPlacement", false),
+                file.getBoolean("RealMines.ignoreAirBlocksSchematicPasting", true),
+                file.getBoolean("RealMines.disableMineResetOnServerStart", false),
+                file.getBoolean("RealMines.disableMineClearingWhenDeleting", false),
+                file.getBoolean("RealMines.coalesceBreakActions", false),
+                Math.max(1, file.getInt("RealMines.coalesceBreakActionsTicks", 40)),
+                file.getString("RealMines.dropItemsMode", "NATURAL").toUpperCase(),
+                file.getInt("RealMines.dropItemsWindowTicks", 20),
+                file.getInt("RealMines.dropItemsEntityBudget", 64),
+                file.getBoolean("RealMines.sweepEntitiesOnReset", false),
+                readEntityTypes(file),
+                file.getBoolean("RealMines.compactItemStorage", false),
+                Math.max(1, file.getInt("RealMines.initialFillsPerTick", 10)),
+                file.getBoolean("RealMines.saveRuntimeState", false),
+                file.getInt("RealMines.runtimeStateSaveInterval", 300),
+                file.getBoolean("RealMines.watchMineFiles", false),
+                Math.max(50, file.getInt("RealMines.watchMineFilesDebounceMillis", 500)),
+                file.getString("RealMines.mineStorage", "YAML").toUpperCase(),
+                readAnnounceTimes(file));
+    }
+
+    public boolean isAnnounceTime(final int secondsLeft) {
+        return this.announceTimes.contains(secondsLeft);
+    }
+
+    //sorted, so a lookup is a binary search instead of boxing and comparing strings
+    //the array never leaves this class, the snapshot stays immutable and compares by content
+    public static final class AnnounceTimes {
+        private final int[] seconds;
+
+        private AnnounceTimes(final int[] seconds) {
+            this.seconds = seconds;
+        }
+
+        public boolean contains(final int secondsLeft) {
+            return Arrays.binarySearch(this.seconds, secondsLeft) >= 0;
+        }
+
+        public int[] toArray() {
+            return this.seconds.clone();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof AnnounceTimes other && Arrays.equals(this.seconds, other.seconds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.seconds);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(this.seconds);
+        }
+    }
+
+    private static Set<EntityType> readEntityTypes(final YamlDocument file) {
+        final Set<EntityType> types = EnumSet.noneOf(EntityType.class);
+        for (final String s : file.getStringList("RealMines.sweepEntityTypes", Collections.emptyList())) {
+            try {
+                types.add(EntityType.valueOf(s.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                Bukkit.getLogger().warning("[RealMines] Invalid entity type in sweepEntityTypes: " + s);
+            }
+        }
+        types.remove(EntityType.PLAYER);
+        return Collections.unmodifiableSet(types);
+    }
+
+    private static AnnounceTimes readAnnounceTimes(final YamlDocument file) {
+        return new AnnounceTimes(file.getStringList("RealMines.announceTimes", Collections.emptyList()).stream()
+                .map(String::trim)
+                .filter(s -> {
+                    try {
+                        Integer.parseInt(s);
+                        return true;
+                    } catch (NumberFormatException e) {
+                        Bukkit.getLogger().warning("[RealMines] Invalid number in announceTimes: " + s);
+                        return false;
+                    }
+                })
+                .mapToInt(Integer::parseInt)
+                .distinct()
+                .sorted()
+                .toArray());
+    }
+}
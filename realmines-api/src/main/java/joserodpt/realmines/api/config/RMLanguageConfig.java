@@ -31,6 +31,8 @@ public class RMLanguageConfig implements Listener {
 
     private static final String name = "language.yml";
     private static YamlDocument configFile;
+    //bumped whenever the lines may have changed, cached icons and lores are built again
+    private static volatile int version;
 
     public static void setup(final JavaPlugin rm) {
         try {
@@ -39,6 +41,8 @@ public class RMLanguageConfig implements Listener {
                     LoaderSettings.builder().setAutoUpdate(true).build(),
                     DumperSettings.DEFAULT,
                     UpdaterSettings.builder().setVersioning(new BasicVersioning("Version")).build());
+            TranslatableLine.compile(configFile);
+            ++version;
         } catch (final IOException e) {
             Bukkit.getLogger().log(Level.SEVERE, "Couldn't setup " + name + "!");
         }
@@ -48,9 +52,15 @@ public class RMLanguageConfig implements Listener {
         return configFile;
     }
 
+    public static int version() {
+        return version;
+    }
+
     public static void save() {
         try {
             configFile.save();
+            TranslatableLine.compile(configFile);
+            ++version;
         } catch (final IOException e) {
             Bukkit.getLogger().log(Level.SEVERE, "Couldn't save " + name + "!");
         }
@@ -59,6 +69,8 @@ public class RMLanguageConfig implements Listener {
     public static void reload() {
         try {
             configFile.reload();
+            TranslatableLine.compile(configFile);
+            ++version;
         } catch (final IOException e) {
             Bukkit.getLogger().log(Level.SEVERE, "Couldn't reload " + name + "!");
         }
@@ -13,20 +13,27 @@ package joserodpt.realmines.api.config;
  * @link https://github.com/joserodpt/RealMines
  */
 
+import dev.dejvokep.boostedyaml.YamlDocument;
 import joserodpt.realmines.api.utils.Text;
+import net.kyori.adventure.text.Component;
 import org.bukkit.command.CommandSender;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
 public enum TranslatableLine {
     // Mines related messages
-    MINE_RESET_STARTING("Mines.Reset.Starting", ReplacableVar.MINE),
+    MINE_RESET_STARTING("Mines.Reset.Starting"),
     MINE_RESET_PERCENTAGE("Mines.Reset.Percentage"),
-    MINE_RESET_ANNOUNCEMENT("Mines.Reset.Announcement", ReplacableVar.MINE),
-    MINE_RESET_WARNING("Mines.Reset.Warning", ReplacableVar.MINE),
-    MINE_TELEPORT("Mines.Teleport", ReplacableVar.MINE),
-    MINE_TELEPORT_SET("Mines.Teleport-Set", ReplacableVar.MINE),
+    MINE_RESET_ANNOUNCEMENT("Mines.Reset.Announcement"),
+    MINE_RESET_WARNING("Mines.Reset.Warning"),
+    MINE_RESET_GROUP_ANNOUNCEMENT("Mines.Reset.Group-Announcement"),
+    MINE_TELEPORT("Mines.Teleport"),
+    MINE_TELEPORT_SET("Mines.Teleport-Set"),
     MINE_NO_TELEPORT_LOCATION("Mines.No-Teleport-Location"),
     // break actions
-    MINE_BREAK_ACTION_GIVE_MONEY("Mines.Break-Actions.Give-Money", ReplacableVar.MONEY),
+    MINE_BREAK_ACTION_GIVE_MONEY("Mines.Break-Actions.Give-Money"),
     MINE_BREAK_ACTION_DROP_ITEM("Mines.Break-Actions.Drop-Item"),
     MINE_BREAK_ACTION_GIVE_ITEM("Mines.Break-Actions.Give-Item"),
     MINE_BREAK_ACTION_INPUT_COMMAND("Mines.Break-Actions.Input.Command"),
@@ -35,13 +42,13 @@ public enum TranslatableLine {
     MINE_BREAK_ACTION_INPUT_CHANCE("Mines.Break-Actions.Input.Chance"),
 
     // GUI related messages
-    GUI_RESET_NAME("GUI.Reset-Name", ReplacableVar.MINE),
+    GUI_RESET_NAME("GUI.Reset-Name"),
     GUI_FACES_NAME("GUI.Faces-Name"),
     GUI_FACES_ITEM_NAME("GUI.Faces.Name"),
-    GUI_CHOOSE_NAME("GUI.Choose-Name", ReplacableVar.MINE),
-    GUI_SELECT_ICON_NAME("GUI.Select-Icon-Name", ReplacableVar.MINE),
+    GUI_CHOOSE_NAME("GUI.Choose-Name"),
+    GUI_SELECT_ICON_NAME("GUI.Select-Icon-Name"),
     GUI_PICK_NEW_BLOCK_NAME("GUI.Pick-New-Block-Name"),
-    GUI_MINE_BLOCKS_NAME("GUI.Mine-Blocks-Name", ReplacableVar.MINE),
+    GUI_MINE_BLOCKS_NAME("GUI.Mine-Blocks-Name"),
     GUI_COLOR_PICKER_NAME("GUI.Color-Picker-Name"),
 
     //faltam as faces
@@ -87,9 +94,10 @@ public enum TranslatableLine {
     SYSTEM_PLAYER_ONLY("System.Player-Only"),
     SYSTEM_BOUNDARIES_NOT_SET("System.Boundaries-Not-Set"),
     SYSTEM_CANT_ADD_ITEM("System.Cant-Add-Item"),
-    SYSTEM_MINE_CREATED("System.Mine-Created", ReplacableVar.MINE),
+    SYSTEM_MINE_CREATED("System.Mine-Created"),
     SYSTEM_RELOADED("System.Reloaded"),
-    SYSTEM_MINE_TASK_CREATED("System.Mine-Task-Created", ReplacableVar.TASK, ReplacableVar.DELAY),
+    SYSTEM_RELOADED_MINES("System.Reloaded-Mines"),
+    SYSTEM_MINE_TASK_CREATED("System.Mine-Task-Created"),
     SYSTEM_MINE_TASK_EXISTS("System.Mine-Task-Exists"),
     SYSTEM_MINE_EXISTS("System.Mine-Exists"),
     SYSTEM_MINE_LINKED("System.Mine-Linked"),
@@ -97,17 +105,17 @@ public enum TranslatableLine {
     SYSTEM_MINE_DELETED("System.Mine-Deleted"),
     SYSTEM_MINE_TASK_DOESNT_EXIST("System.Mine-Task-Doesnt-Exist"),
     SYSTEM_MINE_DOESNT_EXIST("System.Mine-Doesnt-Exist"),
-    SYSTEM_MINE_RENAMED("System.Mine-Renamed", ReplacableVar.NAME),
+    SYSTEM_MINE_RENAMED("System.Mine-Renamed"),
     SYSTEM_MINE_CLEAR("System.Mine-Clear"),
     SYSTEM_STOPPED_MINE_TASKS("System.Stopped-Mine-Tasks"),
     SYSTEM_STARTED_MINE_TASKS("System.Started-Mine-Tasks"),
-    SYSTEM_REMOVE("System.Remove", ReplacableVar.OBJECT),
+    SYSTEM_REMOVE("System.Remove"),
     SYSTEM_REGION_UPDATED("System.Region-Updated"),
     SYSTEM_ADD_BLOCKS("System.Add-Blocks"),
-    SYSTEM_BLOCK_COUNT("System.Block-Count", ReplacableVar.COUNT),
-    SYSTEM_BLOCKS_ADDED("System.Blocks-Added", ReplacableVar.COUNT),
-    SYSTEM_SILENT_OFF("System.Silent-Off", ReplacableVar.MINE),
-    SYSTEM_SILENT_ON("System.Silent-On", ReplacableVar.MINE),
+    SYSTEM_BLOCK_COUNT("System.Block-Count"),
+    SYSTEM_BLOCKS_ADDED("System.Blocks-Added"),
+    SYSTEM_SILENT_OFF("System.Silent-Off"),
+    SYSTEM_SILENT_ON("System.Silent-On"),
     SYSTEM_UPDATE_FOUND("System.Update-Found"),
     SYSTEM_INPUT_CANCELLED("System.Input-Cancelled"),
     SYSTEM_ERROR_OCCURRED("System.Error-Occurred"),
@@ -125,8 +133,8 @@ public enum TranslatableLine {
     SYSTEM_INPUT_PERCENTAGE_ERROR_LOWER("System.Input-Percentage-Error-Lower"),
     SYSTEM_INPUT_LIMIT_ERROR_GREATER("System.Input-Limit-Error-Greater"),
     SYSTEM_INPUT_SECONDS("System.Input-Seconds"),
-    SYSTEM_PERCENTAGE_MODIFIED("System.Percentage-Modified", ReplacableVar.VALUE),
-    SYSTEM_TIME_MODIFIED("System.Time-Modified", ReplacableVar.VALUE),
+    SYSTEM_PERCENTAGE_MODIFIED("System.Percentage-Modified"),
+    SYSTEM_TIME_MODIFIED("System.Time-Modified"),
     SYSTEM_NO_CONVERTER_AVAILABLE("System.No-Converter-Available"),
     SYSTEM_MINE_FREEZE("System.Mine-Freeze"),
     // Signs related messages
@@ -138,50 +146,76 @@ public enum TranslatableLine {
 
     SIGNS_LEFT_ON("Signs.Left-On");
 
+    private static volatile Map<TranslatableLine, MessageTemplate> templates = Collections.emptyMap();
+
     private final String configPath;
-    private ReplacableVar v1, v2 = null;
 
     TranslatableLine(String configPath) {
         this.configPath = configPath;
     }
 
-    TranslatableLine(String configPath, ReplacableVar v1) {
-        this.configPath = configPath;
-        this.v1 = v1;
+    //called when the language file is set up or reloaded, the templates are replaced as a whole
+    public static void compile(final YamlDocument file) {
+        final Map<TranslatableLine, MessageTemplate> compiled = new EnumMap<>(TranslatableLine.class);
+        for (final TranslatableLine line : values()) {
+            compiled.put(line, MessageTemplate.compile(file.getString(line.configPath)));
+        }
+        templates = Collections.unmodifiableMap(compiled);
     }
 
-    TranslatableLine(String configPath, ReplacableVar v1, ReplacableVar v2) {
-        this.configPath = configPath;
-        this.v1 = v1;
-        this.v2 = v2;
+    private MessageTemplate template() {
+        final MessageTemplate template = templates.get(this);
+        return template == null ? MessageTemplate.compile(RMLanguageConfig.file().getString(this.configPath)) : template;
     }
 
-    public TranslatableLine setV1(ReplacableVar v1) {
-        this.v1 = v1;
-        return this;
+    public String format(Value... values) {
+        return this.template().format(values);
     }
 
-    public TranslatableLine setV2(ReplacableVar v2) {
-        this.v2 = v2;
-        return this;
+    //kept for the existing call sites, returns a new message instead of changing the shared line
+    public Message setV1(Value v1) {
+        return new Message(this, v1, null);
     }
 
-    public String get() {
-        String s = RMLanguageConfig.file().getString(this.configPath);
-        if (v1 != null) {
-            s = s.replace(v1.getKey(), v1.getVal());
-        }
-        if (v2 != null) {
-            s = s.replace(v2.getKey(), v2.getVal());
-        }
+    public Message setV2(Value v2) {
+        return new Message(this, null, v2);
+    }
 
-        return Text.color(s);
+    public String get() {
+        return this.format();
     }
 
     public void send(CommandSender p) {
         Text.send(p, this.get());
     }
 
+    public record Value(ReplacableVar var, String val) {
+    }
+
+    public record Message(TranslatableLine line, Value v1, Value v2) {
+
+        public Message setV1(Value v1) {
+            return new Message(this.line, v1, this.v2);
+        }
+
+        public Message setV2(Value v2) {
+            return new Message(this.line, this.v1, v2);
+        }
+
+        public String get() {
+            return this.line.format(this.v1, this.v2);
+        }
+
+        public void send(CommandSender p) {
+            Text.send(p, this.get());
+        }
+
+        //built once and sent to every recipient of a broadcast
+        public Component component() {
+            return Text.prefixedComponent(this.get());
+        }
+    }
+
     public enum ReplacableVar {
 
         NAME("%name%"),
@@ -204,24 +238,18 @@ public enum TranslatableLine {
         COUNT("%count%");
 
         private final String key;
-        private String val;
 
         ReplacableVar(String key) {
             this.key = key;
         }
 
-        public ReplacableVar eq(String val) {
-            this.val = val;
-            return this;
+        public Value eq(String val) {
+            return new Value(this, val);
         }
 
         public String getKey() {
             return key;
         }
-
-        public String getVal() {
-            return val;
-        }
     }
 
 }
@@ -0,0 +1,59 @@
+package joserodpt.realmines.api.event;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.mine.task.MineResetTask;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+//called asynchronously when all the mines of a grouped reset task finished resetting
+public class OnMineGroupResetEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final MineResetTask task;
+    private final List<RMine> mines;
+    private final long duration;
+
+    public OnMineGroupResetEvent(final MineResetTask task, final List<RMine> mines, final long duration) {
+        super(true);
+        this.task = task;
+        this.mines = mines;
+        this.duration = duration;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public MineResetTask getTask() {
+        return this.task;
+    }
+
+    public List<RMine> getMines() {
+        return this.mines;
+    }
+
+    public long getDuration() {
+        return this.duration;
+    }
+}
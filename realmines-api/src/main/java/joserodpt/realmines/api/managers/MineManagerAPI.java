@@ -17,6 +17,8 @@ import joserodpt.realmines.api.mine.RMine;
 import joserodpt.realmines.api.mine.components.MineIcon;
 import joserodpt.realmines.api.mine.components.MineSign;
 import joserodpt.realmines.api.mine.components.items.MineItem;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
@@ -43,6 +45,10 @@ public abstract class MineManagerAPI {
 
     public abstract RMine getMine(String name);
 
+    public abstract RMine getMineAt(Location l);
+
+    public abstract List<RMine> getMines(World w);
+
     public abstract MineItem findBlockUpdate(Player p, Cancellable e, Block b, boolean broken);
 
     public abstract List<MineSign> getSigns();
@@ -63,6 +69,9 @@ public abstract class MineManagerAPI {
 
     public abstract void addMine(RMine mine);
 
+    //called when the bounds of a mine change
+    public abstract void refreshMine(RMine mine);
+
     public abstract File getSchematicFolder();
 
     public abstract void renameMine(RMine m, String newName);
@@ -14,6 +14,8 @@ package joserodpt.realmines.api.mine;
  */
 
 
+import com.sk89q.worldedit.EditSession;
+import com.sk89q.worldedit.MaxChangedBlocksException;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.function.pattern.RandomPattern;
 import com.sk89q.worldedit.math.BlockVector3;
@@ -28,6 +30,7 @@ import joserodpt.realmines.api.event.OnMineResetEvent;
 import joserodpt.realmines.api.mine.components.MineColor;
 import joserodpt.realmines.api.mine.components.MineCuboid;
 import joserodpt.realmines.api.mine.components.MineSign;
+import joserodpt.realmines.api.mine.components.MineStats;
 import joserodpt.realmines.api.mine.components.RMBlockSet;
 import joserodpt.realmines.api.mine.components.RMFailedToLoadException;
 import joserodpt.realmines.api.mine.components.RMineSettings;
@@ -40,15 +43,17 @@ import joserodpt.realmines.api.mine.components.items.MineBlockItem;
 import joserodpt.realmines.api.mine.components.items.MineItem;
 import joserodpt.realmines.api.mine.components.items.MineSchematicItem;
 import joserodpt.realmines.api.mine.components.items.farm.MineFarmItem;
+import joserodpt.realmines.api.mine.storage.MineStorage;
 import joserodpt.realmines.api.mine.task.MineTimer;
 import joserodpt.realmines.api.mine.types.farm.FarmItem;
+import joserodpt.realmines.api.utils.CachedIcon;
 import joserodpt.realmines.api.utils.Countdown;
-import joserodpt.realmines.api.utils.ItemStackSpringer;
+import joserodpt.realmines.api.utils.ItemCodec;
 import joserodpt.realmines.api.utils.Items;
+import joserodpt.realmines.api.utils.SerialExecutor;
 import joserodpt.realmines.api.utils.Text;
 import joserodpt.realmines.api.utils.WorldEditUtils;
-import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
@@ -57,27 +62,43 @@ import org.bukkit.Particle;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
 
 public abstract class RMine {
 
     public void setBlockSetMode(BlockSetsMode next) {
-        this.blockSetsMode = next;
-        setSettingString(RMineSettings.BLOCK_SETS_MODE, this.getBlockSetMode().name());
+        this.executor.execute(() -> {
+            this.blockSetsMode = next;
+            setSettingString(RMineSettings.BLOCK_SETS_MODE, this.getBlockSetMode().name());
+        });
     }
 
     public enum Type {BLOCKS, SCHEMATIC, FARM}
@@ -113,26 +134,38 @@ public abstract class RMine {
     private World w;
     protected Location teleport;
     protected Material icon;
-    protected List<MineSign> signs = new ArrayList<>();
-    protected Map<String, RMBlockSet> blockSets = new HashMap<>();
-    protected BlockSetsMode blockSetsMode = BlockSetsMode.INCREMENTAL;
+    //structural changes and resets run in order on the executor, readers get immutable snapshots
+    private final SerialExecutor executor = new SerialExecutor(() -> "mine " + this.getName());
+    protected volatile List<MineSign> signs = Collections.emptyList();
+    protected volatile Map<String, RMBlockSet> blockSets = Collections.emptyMap();
+    protected volatile BlockSetsMode blockSetsMode = BlockSetsMode.INCREMENTAL;
 
     protected boolean freezed, silent;
     protected boolean resetByTime = true, resetByPercentage = true;
 
     protected int resetByTimeValue = 120, resetByPercentageValue = 20;
-    protected int minedBlocks, blockSetIndex;
+    protected volatile int blockSetIndex;
+    protected final MineStats stats = new MineStats();
+    //only set if the mine has a random seed, so its fills and block set rotations can be reproduced
+    private volatile SplittableRandom seededRandom;
 
     protected boolean highlight = false;
-    protected Map<MineCuboid.CuboidDirection, Material> faces = new HashMap<>();
+    protected volatile Map<MineCuboid.CuboidDirection, Material> faces = Collections.emptyMap();
 
     protected MineTimer timer;
     protected MineColor color = MineColor.WHITE;
-    protected MineCuboid mineCuboid;
+    protected volatile MineCuboid mineCuboid;
     protected Location _pos1, _pos2;
-    private File file;
-
-    private FileConfiguration config;
+    //checksum of the config file as last loaded or saved, reloads skip the mines whose file still matches it
+    private volatile long configStamp;
+    private volatile List<String> resetCommands = Collections.emptyList();
+    private volatile Map<RMineSettings, Object> settings = Collections.emptyMap();
+    private volatile Map<String, Object> unknownKeys = Collections.emptyMap();
+    //the key of the mine in the storage, it can differ from the name in its config
+    private volatile String storageKey;
+    //bumped on every config change, together with the remaining blocks it says when the icon is outdated
+    private final AtomicInteger configVersion = new AtomicInteger();
+    private final CachedIcon mineIcon = new CachedIcon();
 
     //create new mine (for mines without pos1/2)
     public RMine(String name, World w) throws RMFailedToLoadException {
@@ -155,7 +188,7 @@ public abstract class RMine {
                 break;
         }
 
-        checkConfig(true, false);
+        setupConfig();
     }
 
     //create new mine
@@ -182,7 +215,7 @@ public abstract class RMine {
                 break;
         }
 
-        checkConfig(true, false);
+        setupConfig();
     }
 
     //converting from old config to new config
@@ -191,14 +224,14 @@ public abstract class RMine {
 
         //convert pre plugin version 1.8 config (from mines.yml)
         //used to load the mine config from the old format
-        checkConfig(false, false);
+        final YamlConfiguration config = new YamlConfiguration();
 
-        this.config.set("name", name);
-        this.config.set("type", mineConfigSection.getString("Type"));
-        this.config.set("world", mineConfigSection.getString("World"));
-        this.config.set("icon", mineConfigSection.getString("Icon"));
-        this.config.set("displayName", mineConfigSection.getString("Display-Name"));
-        this.config.set("color", mineConfigSection.getString("Color"));
+        config.set("name", name);
+        config.set("type", mineConfigSection.getString("Type"));
+        config.set("world", mineConfigSection.getString("World"));
+        config.set("icon", mineConfigSection.getString("Icon"));
+        config.set("displayName", mineConfigSection.getString("Display-Name"));
+        config.set("color", mineConfigSection.getString("Color"));
 
         if (getType() != Type.SCHEMATIC) {
             String pos1 = mineConfigSection.getString("POS1.X") + ";" + mineConfigSection.getString("POS1.Y") + ";" + mineConfigSection.getString("POS1.Z");
@@ -206,7 +239,7 @@ public abstract class RMine {
             String pos2 = mineConfigSection.getString("POS2.X") + ";" + mineConfigSection.getString("POS2.Y") + ";" + mineConfigSection.getString("POS2.Z");
             config.set("pos2", pos2);
         } else {
-            this.config.set("schematic", mineConfigSection.getString("Schematic-Filename"));
+            config.set("schematic", mineConfigSection.getString("Schematic-Filename"));
 
             //round the values to avoid floating point errors to 0 decimal places
             float x = (float) Math.round(mineConfigSection.getDouble("Place.X") * 100) / 100;
@@ -215,25 +248,25 @@ public abstract class RMine {
             config.set("pos1", x + ";" + y + ";" + z);
         }
 
-        this.config.set("reset.silent", mineConfigSection.getBoolean("Settings.Reset.Silent"));
+        config.set("reset.silent", mineConfigSection.getBoolean("Settings.Reset.Silent"));
         if (mineConfigSection.getStringList("Reset-Commands") != null) {
-            this.config.set("reset.commands", mineConfigSection.getStringList("Reset-Commands"));
+            config.set("reset.commands", mineConfigSection.getStringList("Reset-Commands"));
         } else {
-            this.config.set("reset.commands", Collections.emptyList());
+            config.set("reset.commands", Collections.emptyList());
         }
-        this.config.set("reset.percentage.active", mineConfigSection.getBoolean("Settings.Reset.ByPercentage"));
-        this.config.set("reset.percentage.value", mineConfigSection.getInt("Settings.Reset.ByPercentageValue"));
-        this.config.set("reset.time.active", mineConfigSection.getBoolean("Settings.Reset.ByTime"));
-        this.config.set("reset.time.value", mineConfigSection.getInt("Settings.Reset.ByTimeValue"));
+        config.set("reset.percentage.active", mineConfigSection.getBoolean("Settings.Reset.ByPercentage"));
+        config.set("reset.percentage.value", mineConfigSection.getInt("Settings.Reset.ByPercentageValue"));
+        config.set("reset.time.active", mineConfigSection.getBoolean("Settings.Reset.ByTime"));
+        config.set("reset.time.value", mineConfigSection.getInt("Settings.Reset.ByTimeValue"));
 
-        this.config.set(RMineSettings.BREAK_PERMISSION.getConfigKey(), mineConfigSection.getBoolean("Settings.Break-Permission"));
-        this.config.set(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES.getConfigKey(), mineConfigSection.getBoolean("Settings.Discard-Break-Action-Messages"));
-        this.config.set(RMineSettings.BLOCK_SETS_MODE.getConfigKey(), this.getBlockSetMode().name());
+        config.set(RMineSettings.BREAK_PERMISSION.getConfigKey(), mineConfigSection.getBoolean("Settings.Break-Permission"));
+        config.set(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES.getConfigKey(), mineConfigSection.getBoolean("Settings.Discard-Break-Action-Messages"));
+        config.set(RMineSettings.BLOCK_SETS_MODE.getConfigKey(), this.getBlockSetMode().name());
 
-        this.config.set("signs", mineConfigSection.getStringList("Signs"));
+        config.set("signs", mineConfigSection.getStringList("Signs"));
 
         if (mineConfigSection.getSection("Faces") != null) {
-            mineConfigSection.getSection("Faces").getRoutesAsStrings(false).forEach(face -> this.config.set("faces." + face, mineConfigSection.getString("Faces." + face)));
+            mineConfigSection.getSection("Faces").getRoutesAsStrings(false).forEach(face -> config.set("faces." + face, mineConfigSection.getString("Faces." + face)));
         }
 
         //round the values to avoid floating point errors to two decimal places
@@ -243,10 +276,10 @@ public abstract class RMine {
         float yaw = (float) Math.round(mineConfigSection.getDouble("Teleport.Yaw") * 100) / 100;
         float pitch = (float) Math.round(mineConfigSection.getDouble("Teleport.Pitch") * 100) / 100;
         String teleport = x + ";" + y + ";" + z + ";" + yaw + ";" + pitch;
-        this.config.set("teleport", teleport);
+        config.set("teleport", teleport);
 
-        this.config.set("block-sets.default.description", "Default description for block set");
-        this.config.set("block-sets.default.icon", Material.CAULDRON.name());
+        config.set("block-sets.default.description", "Default description for block set");
+        config.set("block-sets.default.icon", Material.CAULDRON.name());
 
         //check if "Blocks" is a string list
         //convert old list of blocks to one new block-set
@@ -271,7 +304,7 @@ public abstract class RMine {
                     RealMinesAPI.getInstance().getLogger().warning("Invalid pre version 1.6 block format for mine " + this.getName() + "! Skipping.");
                     continue;
                 }
-                this.config.set("block-sets.default.blocks." + content[0] + ".percentage", Double.parseDouble(content[1]));
+                config.set("block-sets.default.blocks." + content[0] + ".percentage", Double.parseDouble(content[1]));
             }
         } else {
             mineConfigSection.getSection("Blocks").getRoutesAsStrings(false).forEach(block -> {
@@ -309,29 +342,30 @@ public abstract class RMine {
             });
         }
 
-        saveConfig();
+        this.executor.execute(() -> this.writeConfig(config));
 
         //load the mine config from the new format
         RealMinesAPI.getInstance().getLogger().info("Loading now the new mine config for: " + this.getName());
-        loadMineConfig();
+        loadMineConfig(config);
     }
 
+    //the config is only read here, the mine keeps the loaded values and not the yaml tree
     public RMine(String name, YamlConfiguration mineConfig) throws RMFailedToLoadException {
         this.name = name;
-        this.config = mineConfig;
-        checkConfig(false, true);
+        loadMineConfig(mineConfig);
     }
 
+    //built from the loaded values on every call, changes to it are not kept by the mine
     public FileConfiguration getMineConfig() {
-        return this.config;
+        return this.toConfig();
     }
 
-    private void loadMineConfig() throws RMFailedToLoadException {
+    private void loadMineConfig(final FileConfiguration config) throws RMFailedToLoadException {
         final String name = this.getName();
 
-        this.displayName = this.config.getString("displayName");
+        this.displayName = config.getString("displayName");
 
-        final String worldName = this.config.getString("world");
+        final String worldName = config.getString("world");
         if (worldName == null || worldName.isEmpty()) {
             throw new RMFailedToLoadException(name, "[RealMines] Could not load world " + worldName + ". Is the world name correct and valid? Skipping.");
         }
@@ -342,11 +376,11 @@ public abstract class RMine {
         }
         this.w = w;
 
-        if (this.config.getString("icon") == null) {
+        if (config.getString("icon") == null) {
             this.icon = Material.STONE;
             RealMinesAPI.getInstance().getLogger().warning("[RealMines] Could not load icon for mine " + name + ". Invalid material. Replacing with STONE.");
         } else {
-            final Material icon = Material.getMaterial(this.config.getString("icon"));
+            final Material icon = Material.getMaterial(config.getString("icon"));
             if (icon == null) {
                 this.icon = Material.STONE;
                 RealMinesAPI.getInstance().getLogger().warning("[RealMines] Could not load icon for mine " + name + ". Invalid material. Replacing with STONE.");
@@ -356,19 +390,22 @@ public abstract class RMine {
         }
 
         if (getType() != Type.SCHEMATIC) {
-            final String[] pos1 = this.config.getString("pos1").split(";");
+            final String[] pos1 = config.getString("pos1").split(";");
             if (pos1.length != 3) {
                 throw new RMFailedToLoadException(name, "[RealMines] Could not load pos1 for mine " + name + ". Invalid length args for pos1. Skipping");
             }
-            final String[] pos2 = this.config.getString("pos2").split(";");
+            final String[] pos2 = config.getString("pos2").split(";");
             if (pos2.length != 3) {
                 throw new RMFailedToLoadException(name, "[RealMines] Could not load pos2 for mine " + name + ". Invalid length args for pos2. Skipping");
             }
             final Location p1 = new Location(w, Double.parseDouble(pos1[0]), Double.parseDouble(pos1[1]), Double.parseDouble(pos1[2]));
             final Location p2 = new Location(w, Double.parseDouble(pos2[0]), Double.parseDouble(pos2[1]), Double.parseDouble(pos2[2]));
-            setPOS(p1, p2);
+            //not through setPOS, that one saves the mine and it isn't fully loaded yet
+            this._pos1 = p1;
+            this._pos2 = p2;
+            this.mineCuboid = new MineCuboid(p1, p2);
         } else {
-            final String posSTR = this.config.getString("pos1");
+            final String posSTR = config.getString("pos1");
             if (posSTR == null) {
                 throw new RMFailedToLoadException(name, "[RealMines] Could not load pos1 for mine " + name + ". Invalid pos1. Skipping");
             }
@@ -381,16 +418,17 @@ public abstract class RMine {
             this._pos1 = p1;
         }
 
-        if (this.config.get("teleport") != null) {
-            final String[] teleport = this.config.getString("teleport").split(";");
+        if (config.get("teleport") != null) {
+            final String[] teleport = config.getString("teleport").split(";");
             if (teleport.length != 5) {
                 throw new RMFailedToLoadException(name, "[RealMines] Could not load teleport for mine " + name + ". Invalid length args for teleport. Skipping");
             }
             this.teleport = new Location(w, Double.parseDouble(teleport[0]), Double.parseDouble(teleport[1]), Double.parseDouble(teleport[2]), Float.parseFloat(teleport[3]), Float.parseFloat(teleport[4]));
         }
 
-        if (this.config.get("signs") != null) {
-            for (final String sig : this.config.getStringList("signs")) {
+        if (config.get("signs") != null) {
+            final List<MineSign> signs = new ArrayList<>();
+            for (final String sig : config.getStringList("signs")) {
                 final String[] parse = sig.split(";");
                 if (parse.length != 5) {
                     throw new RMFailedToLoadException(name, "[RealMines] Could not load sign for mine " + name + ". Invalid length args for sign. Skipping");
@@ -401,63 +439,70 @@ public abstract class RMine {
                 }
                 final MineSign ms = new MineSign(sigw.getBlockAt(new Location(sigw, Double.parseDouble(parse[1]), Double.parseDouble(parse[2]),
                         Double.parseDouble(parse[3]))), parse[4]);
-                this.signs.add(ms);
+                signs.add(ms);
             }
+            this.signs = List.copyOf(signs);
         }
 
-        if (this.config.get("faces") != null) {
-            for (final String sig : this.config.getConfigurationSection("faces").getKeys(false)) {
-                faces.put(MineCuboid.CuboidDirection.valueOf(sig), Material.valueOf(this.config.getString("faces." + sig)));
+        if (config.get("faces") != null) {
+            final Map<MineCuboid.CuboidDirection, Material> faces = new EnumMap<>(MineCuboid.CuboidDirection.class);
+            for (final String sig : config.getConfigurationSection("faces").getKeys(false)) {
+                faces.put(MineCuboid.CuboidDirection.valueOf(sig), Material.valueOf(config.getString("faces." + sig)));
             }
+            this.faces = Collections.unmodifiableMap(faces);
         }
 
-        if (this.config.getString("color") != null) {
-            String value = this.config.getString("color");
+        if (config.getString("color") != null) {
+            String value = config.getString("color");
             if (value != null && !value.isEmpty()) {
                 this.color = MineColor.valueOf(value);
             }
         }
 
         //resets
-        this.resetByPercentage = this.config.getBoolean("reset.percentage.active");
-        this.resetByPercentageValue = this.config.getInt("reset.percentage.value");
-        this.resetByTime = this.config.getBoolean("reset.time.active");
-        this.resetByTimeValue = this.config.getInt("reset.time.value");
-        this.silent = this.config.getBoolean("reset.silent");
+        this.resetByPercentage = config.getBoolean("reset.percentage.active");
+        this.resetByPercentageValue = config.getInt("reset.percentage.value");
+        this.resetByTime = config.getBoolean("reset.time.active");
+        this.resetByTimeValue = config.getInt("reset.time.value");
+        this.silent = config.getBoolean("reset.silent");
+        this.resetCommands = List.copyOf(config.getStringList("reset.commands"));
+        this.settings = readSettings(config);
 
         this.blockSetsMode = BlockSetsMode.valueOf(getSettingString(RMineSettings.BLOCK_SETS_MODE));
+        this.seededRandom = parseSeed(getSettingString(RMineSettings.RANDOM_SEED));
 
         //iterate over keys in the block-sets section
 
-        if (this.config.getConfigurationSection("block-sets") != null) {
-            for (String blockSetKey : this.config.getConfigurationSection("block-sets").getKeys(false)) {
-                Map<Material, MineItem> items = new HashMap<>();
+        if (config.getConfigurationSection("block-sets") != null) {
+            final Map<String, RMBlockSet> blockSets = new LinkedHashMap<>();
+            for (String blockSetKey : config.getConfigurationSection("block-sets").getKeys(false)) {
+                Map<Material, MineItem> items = new EnumMap<>(Material.class);
 
-                if (this.config.getConfigurationSection("block-sets." + blockSetKey + ".blocks") != null) {
-                    for (final String mat : this.config.getConfigurationSection("block-sets." + blockSetKey + ".blocks").getKeys(false)) {
-                        final Double per = this.config.getDouble("block-sets." + blockSetKey + ".blocks." + mat + ".percentage");
-                        final Boolean disabledVanillaDrop = this.config.getBoolean("block-sets." + blockSetKey + ".blocks." + mat + ".disabled-vanilla-drop");
-                        final Boolean disabledBlockMining = this.config.getBoolean("block-sets." + blockSetKey + ".blocks." + mat + ".disabled-block-mining");
+                if (config.getConfigurationSection("block-sets." + blockSetKey + ".blocks") != null) {
+                    for (final String mat : config.getConfigurationSection("block-sets." + blockSetKey + ".blocks").getKeys(false)) {
+                        final Double per = config.getDouble("block-sets." + blockSetKey + ".blocks." + mat + ".percentage");
+                        final Boolean disabledVanillaDrop = config.getBoolean("block-sets." + blockSetKey + ".blocks." + mat + ".disabled-vanilla-drop");
+                        final Boolean disabledBlockMining = config.getBoolean("block-sets." + blockSetKey + ".blocks." + mat + ".disabled-block-mining");
 
                         try {
                             Material m = Material.valueOf(mat);
 
                             List<MineAction> actionsList = new ArrayList<>();
 
-                            if (this.config.getConfigurationSection("block-sets." + blockSetKey + ".blocks." + mat + ".break-actions") != null) {
-                                for (final String actionID : this.config.getConfigurationSection("block-sets." + blockSetKey + ".blocks." + mat + ".break-actions").getKeys(false)) {
+                            if (config.getConfigurationSection("block-sets." + blockSetKey + ".blocks." + mat + ".break-actions") != null) {
+                                for (final String actionID : config.getConfigurationSection("block-sets." + blockSetKey + ".blocks." + mat + ".break-actions").getKeys(false)) {
                                     final String actionRoute = "block-sets." + blockSetKey + ".blocks." + mat + ".break-actions." + actionID;
-                                    final Double chance = this.config.getDouble(actionRoute + ".chance");
+                                    final Double chance = config.getDouble(actionRoute + ".chance");
                                     try {
-                                        MineAction.MineActionType mineactiontype = MineAction.MineActionType.valueOf(this.config.getString(actionRoute + ".type"));
+                                        MineAction.MineActionType mineactiontype = MineAction.MineActionType.valueOf(config.getString(actionRoute + ".type"));
                                         switch (mineactiontype) {
                                             case EXECUTE_COMMAND:
-                                                actionsList.add(new MineActionCommand(actionID, name, chance, this.config.getString(actionRoute + ".value")));
+                                                actionsList.add(new MineActionCommand(actionID, name, chance, config.getString(actionRoute + ".value")));
                                                 break;
                                             case DROP_ITEM:
-                                                String data = this.config.getString(actionRoute + ".value");
+                                                String data = config.getString(actionRoute + ".value");
                                                 try {
-                                                    actionsList.add(new MineActionDropItem(actionID, name, chance, ItemStackSpringer.getItemDeSerializedJSON(data).clone()));
+                                                    actionsList.add(new MineActionDropItem(actionID, name, chance, ItemCodec.decode(data)));
                                                 } catch (Exception e) {
                                                     RealMinesAPI.getInstance().getPlugin().getLogger().severe("Badly formatted ItemStack: " + data);
                                                     RealMinesAPI.getInstance().getPlugin().getLogger().warning("Item Serialized for " + mat + " isn't valid! Skipping.");
@@ -465,9 +510,9 @@ public abstract class RMine {
                                                 }
                                                 break;
                                             case GIVE_ITEM:
-                                                String data2 = this.config.getString(actionRoute + ".value");
+                                                String data2 = config.getString(actionRoute + ".value");
                                                 try {
-                                                    actionsList.add(new MineActionGiveItem(actionID, name, chance, ItemStackSpringer.getItemDeSerializedJSON(data2)));
+                                                    actionsList.add(new MineActionGiveItem(actionID, name, chance, ItemCodec.decode(data2)));
                                                 } catch (Exception e) {
                                                     RealMinesAPI.getInstance().getPlugin().getLogger().severe("Badly formatted ItemStack: " + data2);
                                                     RealMinesAPI.getInstance().getPlugin().getLogger().warning("Item Serialized for " + mat + " isn't valid! Skipping.");
@@ -475,11 +520,11 @@ public abstract class RMine {
                                                 }
                                                 break;
                                             case GIVE_MONEY:
-                                                actionsList.add(new MineActionMoney(actionID, name, chance, this.config.getDouble(actionRoute + ".value")));
+                                                actionsList.add(new MineActionMoney(actionID, name, chance, config.getDouble(actionRoute + ".value")));
                                                 break;
                                         }
                                     } catch (Exception e) {
-                                        RealMinesAPI.getInstance().getPlugin().getLogger().severe("Break Action Type " + this.config.getString(actionRoute + ".Type") + " is invalid! Skipping. This action is in mine: " + name);
+                                        RealMinesAPI.getInstance().getPlugin().getLogger().severe("Break Action Type " + config.getString(actionRoute + ".Type") + " is invalid! Skipping. This action is in mine: " + name);
                                     }
                                 }
                             }
@@ -489,7 +534,7 @@ public abstract class RMine {
                                     items.put(m, new MineBlockItem(m, per, disabledVanillaDrop, disabledBlockMining, actionsList));
                                     break;
                                 case FARM:
-                                    items.put(m, new MineFarmItem(FarmItem.valueOf(mat), per, disabledVanillaDrop, disabledBlockMining, this.config.getInt("block-sets." + blockSetKey + ".blocks." + mat + ".age", 0), actionsList));
+                                    items.put(m, new MineFarmItem(FarmItem.valueOf(mat), per, disabledVanillaDrop, disabledBlockMining, config.getInt("block-sets." + blockSetKey + ".blocks." + mat + ".age", 0), actionsList));
                                     break;
                                 case SCHEMATIC:
                                     items.put(m, new MineSchematicItem(m, disabledVanillaDrop, disabledBlockMining, actionsList));
@@ -503,15 +548,18 @@ public abstract class RMine {
 
                 Material icon = Material.BARRIER;
                 try {
-                    icon = Material.getMaterial(Objects.requireNonNull(this.config.getString("block-sets." + blockSetKey + ".icon")));
+                    icon = Material.getMaterial(Objects.requireNonNull(config.getString("block-sets." + blockSetKey + ".icon")));
                 } catch (Exception e) {
                     RealMinesAPI.getInstance().getPlugin().getLogger().severe("Icon for block set " + blockSetKey + " is invalid! Skipping.");
                 }
 
-                this.blockSets.put(blockSetKey, new RMBlockSet(blockSetKey, this.config.getString("block-sets." + blockSetKey + ".description"), icon, items));
+                blockSets.put(blockSetKey, new RMBlockSet(blockSetKey, config.getString("block-sets." + blockSetKey + ".description"), icon, items));
             }
+            this.blockSets = Collections.unmodifiableMap(blockSets);
         }
 
+        this.unknownKeys = readUnknownKeys(config);
+
         this.timer = new MineTimer(this);
         if (this.resetByTime) {
             this.timer.start();
@@ -519,123 +567,347 @@ public abstract class RMine {
     }
 
     public String getSettingString(RMineSettings rMineSettings) {
-        return this.getMineConfig().getString(rMineSettings.getConfigKey());
+        final Object value = this.settings.get(rMineSettings);
+        return value == null ? null : value.toString();
     }
 
     public void setSettingString(RMineSettings rMineSettings, String s) {
-        this.getMineConfig().set(rMineSettings.getConfigKey(), s);
-        this.saveConfig();
+        this.executor.execute(() -> {
+            this.putSetting(rMineSettings, s);
+            this.saveConfig();
+        });
     }
 
     public boolean getSettingBool(RMineSettings rMineSettings) {
-        return this.getMineConfig().getBoolean(rMineSettings.getConfigKey());
+        return Boolean.TRUE.equals(this.settings.get(rMineSettings));
     }
 
     public void setSettingBool(RMineSettings rMineSettings, boolean b) {
-        this.getMineConfig().set(rMineSettings.getConfigKey(), b);
-        this.saveConfig();
+        this.executor.execute(() -> {
+            this.putSetting(rMineSettings, b);
+            this.saveConfig();
+        });
+    }
+
+    //only called on the executor
+    private void putSetting(RMineSettings rMineSettings, Object value) {
+        final Map<RMineSettings, Object> settings = new EnumMap<>(RMineSettings.class);
+        settings.putAll(this.settings);
+        if (value == null) {
+            settings.remove(rMineSettings);
+        } else {
+            settings.put(rMineSettings, value);
+        }
+        this.settings = Collections.unmodifiableMap(settings);
     }
 
-    private void setConfigFile(boolean saveDefaultConfig) {
-        this.file = new File(RealMinesAPI.getInstance().getPlugin().getDataFolder() + "/mines/", this.getName() + ".yml");
-        if (!this.file.exists()) {
-            this.file.getParentFile().mkdirs();
-            try {
-                this.file.createNewFile();
-                if (saveDefaultConfig) {
-                    if (this.config == null) {
-                        this.config = YamlConfiguration.loadConfiguration(file);
-                    }
-                    saveDefaultConfig();
-                    return;
-                }
-            } catch (IOException e) {
-                RealMinesAPI.getInstance().getLogger().severe("RealMinesAPI threw an error while creating config for " + this.getName());
-                e.printStackTrace();
+    private static Map<RMineSettings, Object> readSettings(final FileConfiguration config) {
+        final Map<RMineSettings, Object> settings = new EnumMap<>(RMineSettings.class);
+        for (final RMineSettings setting : RMineSettings.values()) {
+            final Object value = config.get(setting.getConfigKey());
+            if (value != null) {
+                settings.put(setting, value);
             }
         }
+        return Collections.unmodifiableMap(settings);
+    }
 
-        if (this.config == null) {
-            this.config = YamlConfiguration.loadConfiguration(file);
+    //keys the mine doesn't read, written back as they were so a save doesn't drop them
+    private static Map<String, Object> readUnknownKeys(final FileConfiguration config) {
+        final Map<String, Object> unknown = new LinkedHashMap<>();
+        for (final String key : config.getKeys(true)) {
+            if (!config.isConfigurationSection(key) && !isKnownKey(key)) {
+                unknown.put(key, config.get(key));
+            }
         }
+        return unknown.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(unknown);
     }
 
-    private void checkConfig(boolean saveDefaultConfig, boolean loadConfig) throws RMFailedToLoadException {
-        setConfigFile(saveDefaultConfig);
-
-        if (loadConfig) loadMineConfig();
+    private static boolean isKnownKey(final String key) {
+        final int dot = key.indexOf('.');
+        final String root = dot == -1 ? key : key.substring(0, dot);
+        if (KNOWN_SECTIONS.contains(root) || KNOWN_KEYS.contains(key)) {
+            return true;
+        }
+        for (final RMineSettings setting : RMineSettings.values()) {
+            if (setting.getConfigKey().equals(key)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public void rename(String s) {
-        this.name = s;
-        this.displayName = s;
+    //rewritten as a whole on every save, anything left in them was removed from the mine
+    private static final Set<String> KNOWN_SECTIONS = Set.of("name", "type", "world", "icon", "displayName", "color",
+            "pos1", "pos2", "teleport", "signs", "faces", "block-sets");
+    private static final Set<String> KNOWN_KEYS = Set.of("reset.silent", "reset.commands", "reset.percentage.active",
+            "reset.percentage.value", "reset.time.active", "reset.time.value");
 
-        setConfigFile(false);
+    private static SplittableRandom parseSeed(String seed) {
+        if (seed == null || seed.isEmpty()) {
+            return null;
+        }
 
-        this.saveData(MineData.NAME);
-        this.saveData(MineData.POS);
+        try {
+            return new SplittableRandom(Long.parseLong(seed));
+        } catch (NumberFormatException e) {
+            return new SplittableRandom(seed.hashCode());
+        }
     }
 
-    private void saveDefaultConfig() {
-        this.config.set("name", getName());
-        this.config.set("type", getType().name());
-        this.config.set("world", getWorld().getName());
-        this.config.set("icon", getIcon().name());
-        this.config.set("displayName", getDisplayName());
-        this.config.set("color", getMineColor().name());
+    public void setRandomSeed(String seed) {
+        this.executor.execute(() -> {
+            this.seededRandom = parseSeed(seed);
+            setSettingString(RMineSettings.RANDOM_SEED, seed);
+        });
+    }
 
-        if (getType() != Type.SCHEMATIC) {
-            String pos1 = getPOS1().getX() + ";" + getPOS1().getY() + ";" + getPOS1().getZ();
-            this.config.set("pos1", pos1);
-            String pos2 = getPOS2().getX() + ";" + getPOS2().getY() + ";" + getPOS2().getZ();
-            this.config.set("pos2", pos2);
+    //random source for one fill or block set rotation, only to be used by one thread
+    public RandomGenerator newRandom() {
+        final SplittableRandom seeded = this.seededRandom;
+        if (seeded == null) {
+            return new SplittableRandom(ThreadLocalRandom.current().nextLong());
         }
 
-        this.config.set("reset.silent", isSilent());
-        this.config.set("reset.commands", Collections.emptyList());
-        this.config.set("reset.percentage.active", isResetBy(Reset.PERCENTAGE));
-        this.config.set("reset.percentage.value", getResetValue(Reset.PERCENTAGE));
-        this.config.set("reset.time.active", isResetBy(Reset.TIME));
-        this.config.set("reset.time.value", getResetValue(Reset.TIME));
-
-        this.config.set(RMineSettings.BREAK_PERMISSION.getConfigKey(), false);
-        this.config.set(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES.getConfigKey(), false);
-        this.config.set(RMineSettings.BLOCK_SETS_MODE.getConfigKey(), this.getBlockSetMode().name());
+        synchronized (seeded) {
+            return seeded.split();
+        }
+    }
 
-        this.config.set("signs", Collections.emptyList());
-        this.config.set("block-sets", Collections.emptyList());
+    //new mines keep the reset commands of a config left in the storage with the same name
+    private void setupConfig() {
+        final YamlConfiguration stored = this.readConfig();
+        if (stored != null) {
+            this.resetCommands = List.copyOf(stored.getStringList("reset.commands"));
+            this.settings = readSettings(stored);
+            this.unknownKeys = readUnknownKeys(stored);
+            return;
+        }
 
+        final Map<RMineSettings, Object> settings = new EnumMap<>(RMineSettings.class);
+        settings.put(RMineSettings.BREAK_PERMISSION, false);
+        settings.put(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES, false);
+        settings.put(RMineSettings.BLOCK_SETS_MODE, this.getBlockSetMode().name());
+        this.settings = Collections.unmodifiableMap(settings);
         saveConfig();
     }
 
-    public void deleteConfig() {
-        File fileToDelete = new File(RealMinesAPI.getInstance().getPlugin().getDataFolder() + "/mines/", this.getName() + ".yml");
+    //the config kept in the mine storage, null if there is none
+    private YamlConfiguration readConfig() {
+        try {
+            final MineStorage.Entry entry = RealMinesAPI.getInstance().getMineStorage().read(this.getStorageKey());
+            if (entry == null) {
+                return null;
+            }
+            final YamlConfiguration stored = new YamlConfiguration();
+            stored.loadFromString(new String(entry.data(), StandardCharsets.UTF_8));
+            this.configStamp = entry.stamp();
+            return stored;
+        } catch (IOException | InvalidConfigurationException e) {
+            RealMinesAPI.getInstance().getLogger().severe("RealMinesAPI threw an error while reading config for " + this.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void rename(String s) {
+        this.executor.execute(() -> {
+            this.name = s;
+            this.displayName = s;
+            this.storageKey = s;
+
+            this.saveData(MineData.NAME);
+            this.saveData(MineData.POS);
+        });
+    }
 
-        if (fileToDelete.exists()) {
-            if (!fileToDelete.delete()) {
+    //queued behind the saves already on the executor, so none of them writes the config back after it
+    public void deleteConfig() {
+        this.executor.execute(() -> {
+            try {
+                if (!RealMinesAPI.getInstance().getMineStorage().delete(this.getStorageKey())) {
+                    RealMinesAPI.getInstance().getLogger().severe("Configuration file for " + this.getName() + " doesn't exist.");
+                }
+            } catch (IOException e) {
                 RealMinesAPI.getInstance().getLogger().severe("Failed to delete Configuration file for " + this.getName() + ".");
             }
-        } else {
-            RealMinesAPI.getInstance().getLogger().severe("Configuration file for " + this.getName() + " doesn't exist.");
-        }
+        });
     }
 
     public BlockSetsMode getBlockSetMode() {
         return this.blockSetsMode;
     }
 
+    //picks up the reset commands and settings edited in the stored config
     public void reloadConfig() {
-        this.config = YamlConfiguration.loadConfiguration(file);
+        final YamlConfiguration stored = this.readConfig();
+        if (stored == null) {
+            return;
+        }
+        this.resetCommands = List.copyOf(stored.getStringList("reset.commands"));
+        this.settings = readSettings(stored);
+        this.unknownKeys = readUnknownKeys(stored);
+    }
+
+    public List<String> getResetCommands() {
+        return this.resetCommands;
     }
 
     public void saveConfig() {
+        this.configVersion.incrementAndGet();
+        this.executor.execute(() -> this.writeConfig(this.toConfig()));
+    }
+
+    private void writeConfig(final FileConfiguration config) {
         try {
-            this.config.save(file);
+            this.configStamp = RealMinesAPI.getInstance().getMineStorage().write(this.getStorageKey(), config);
         } catch (IOException e) {
             RealMinesAPI.getInstance().getLogger().severe("RealMinesAPI threw an error while saving config for " + this.getName());
         }
     }
 
+    //a new yaml tree with everything the mine saves, only kept for as long as the caller needs it
+    public FileConfiguration toConfig() {
+        final YamlConfiguration config = new YamlConfiguration();
+        config.set("name", this.getName());
+        config.set("type", this.getType().name());
+        if (this.getWorld() != null) {
+            config.set("world", this.getWorld().getName());
+        }
+        config.set("icon", this.getIcon().name());
+        config.set("displayName", this.getDisplayName());
+        config.set("color", this.getMineColor().name());
+
+        if (this.getPOS1() != null) {
+            config.set("pos1", getPOS1().getBlockX() + ";" + getPOS1().getBlockY() + ";" + getPOS1().getBlockZ());
+        }
+        if (getType() != Type.SCHEMATIC && this.getPOS2() != null) {
+            config.set("pos2", getPOS2().getBlockX() + ";" + getPOS2().getBlockY() + ";" + getPOS2().getBlockZ());
+        }
+        if (this.teleport != null) {
+            config.set("teleport", this.teleport.getBlockX() + ";" + this.teleport.getBlockY() + ";" + this.teleport.getBlockZ() + ";" + this.teleport.getYaw() + ";" + this.teleport.getPitch());
+        }
+
+        config.set("reset.silent", isSilent());
+        config.set("reset.commands", this.getResetCommands());
+        config.set("reset.percentage.active", isResetBy(Reset.PERCENTAGE));
+        config.set("reset.percentage.value", getResetValue(Reset.PERCENTAGE));
+        config.set("reset.time.active", isResetBy(Reset.TIME));
+        config.set("reset.time.value", getResetValue(Reset.TIME));
+
+        this.settings.forEach((setting, value) -> config.set(setting.getConfigKey(), value));
+
+        config.set("signs", this.getSignList());
+        if (!this.getFaces().isEmpty()) {
+            config.set("faces", this.getFaces().entrySet().stream().collect(Collectors.toMap(e -> e.getKey().name(), e -> e.getValue().name())));
+        }
+
+        config.set("block-sets", Collections.emptyList());
+        this.getBlockSets().forEach(blockSetObject -> {
+            String blockSetKey = blockSetObject.getKey();
+
+            config.set("block-sets." + blockSetKey + ".description", blockSetObject.getDescription());
+            config.set("block-sets." + blockSetKey + ".icon", blockSetObject.getIconMaterial().name());
+
+            if (blockSetObject.getItems().isEmpty()) {
+                config.set("block-sets." + blockSetKey + ".blocks", Collections.emptyList());
+            } else {
+                blockSetObject.getItems().forEach(((material, mineItem) ->
+                {
+                    String block = material.name();
+
+                    config.set("block-sets." + blockSetKey + ".blocks." + block + ".percentage", mineItem.getPercentage());
+                    config.set("block-sets." + blockSetKey + ".blocks." + block + ".disabled-vanilla-drop", mineItem.areVanillaDropsDisabled());
+                    config.set("block-sets." + blockSetKey + ".blocks." + block + ".disabled-block-mining", mineItem.isBlockMiningDisabled());
+
+                    if (mineItem instanceof MineFarmItem) {
+                        config.set("block-sets." + blockSetKey + ".blocks." + block + ".age", ((MineFarmItem) mineItem).getAge());
+                    }
+
+                    if (mineItem.hasBreakActions()) {
+                        mineItem.getBreakActions().forEach(action -> {
+                            config.set("block-sets." + blockSetKey + ".blocks." + block + ".break-actions." + action.getID() + ".type", action.getType().name());
+                            config.set("block-sets." + blockSetKey + ".blocks." + block + ".break-actions." + action.getID() + ".chance", action.getChance());
+                            config.set("block-sets." + blockSetKey + ".blocks." + block + ".break-actions." + action.getID() + ".value", action.getValue());
+                        });
+                    }
+                }));
+            }
+        });
+
+        this.writeTypeConfig(config);
+        this.unknownKeys.forEach((key, value) -> {
+            if (!config.contains(key)) {
+                config.set(key, value);
+            }
+        });
+        return config;
+    }
+
+    //for the keys only one type of mine has
+    protected void writeTypeConfig(final FileConfiguration config) {
+    }
+
+    //rough size of what the mine keeps in memory, in bytes
+    public long getRetainedSize() {
+        long size = 256L + 2L * (this.getName().length() + this.getDisplayName().length());
+        for (final String command : this.getResetCommands()) {
+            size += 40L + 2L * command.length();
+        }
+        size += 64L * this.getSigns().size() + 32L * this.getFaces().size() + 48L * this.settings.size();
+        for (final RMBlockSet blockSet : this.getBlockSets()) {
+            size += 128L + (blockSet.getDescription() == null ? 0 : 2L * blockSet.getDescription().length());
+            for (final MineItem item : blockSet.getItems().values()) {
+                size += 96L;
+                if (item.hasBreakActions()) {
+                    for (final MineAction action : item.getBreakActions()) {
+                        size += 96L + 2L * action.getID().length();
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    public String getStorageKey() {
+        final String key = this.storageKey;
+        return key == null ? this.getName() : key;
+    }
+
+    public void setStorageKey(final String storageKey) {
+        this.storageKey = storageKey;
+    }
+
+    //the stamp of the config as it was last read from or written to the storage
+    public long getConfigStamp() {
+        return this.configStamp;
+    }
+
+    public void setConfigStamp(final long configStamp) {
+        this.configStamp = configStamp;
+    }
+
+    //checksum of what decides the blocks of the mine: its type, block sets, faces, schematic and reset settings
+    public long getContentStamp() {
+        final FileConfiguration config = this.toConfig();
+        final YamlConfiguration content = new YamlConfiguration();
+        for (final String key : CONTENT_KEYS) {
+            content.set(key, config.get(key));
+        }
+        return configStamp(content.saveToString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final List<String> CONTENT_KEYS = List.of("type", "block-sets", "faces", "schematic", "reset");
+
+    public static long configStamp(final byte[] data) {
+        final CRC32C crc = new CRC32C();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    public SerialExecutor getExecutor() {
+        return this.executor;
+    }
+
     public MineColor getMineColor() {
         return this.color;
     }
@@ -662,19 +934,25 @@ public abstract class RMine {
     }
 
     public void setPOS(final Location p1, final Location p2) {
-        if (p2 == null) {
-            //it's a setPOS for a schematic mine
-            this._pos1 = p1;
-            this._pos2 = p1;
-        } else {
-            if (getType() != Type.SCHEMATIC) {
+        this.executor.execute(() -> {
+            if (p2 == null) {
+                //it's a setPOS for a schematic mine
                 this._pos1 = p1;
-                this._pos2 = p2;
+                this._pos2 = p1;
+            } else {
+                if (getType() != Type.SCHEMATIC) {
+                    this._pos1 = p1;
+                    this._pos2 = p2;
+                }
+                this.mineCuboid = new MineCuboid(p1, p2);
             }
-            this.mineCuboid = new MineCuboid(p1, p2);
-        }
-        this.setWorld(p1.getWorld());
-        saveData(MineData.POS);
+            this.setWorld(p1.getWorld());
+            saveData(MineData.POS);
+
+            if (RealMinesAPI.getInstance() != null && RealMinesAPI.getInstance().getMineManager() != null) {
+                RealMinesAPI.getInstance().getMineManager().refreshMine(this);
+            }
+        });
     }
 
     private void setWorld(final World w) {
@@ -690,11 +968,36 @@ public abstract class RMine {
     }
 
     public String getBar() {
-        return Text.getProgressBar(this.getRemainingBlocks(), this.getBlockCount(), 10, '■', ChatColor.GREEN, ChatColor.RED);
+        return renderBar(this.getRemainingBlocks(), this.getBlockCount());
     }
 
     public String getPercentageBar() {
-        return this.getBar() + Text.color(" &r&f") + this.getRemainingBlocksPer() + "%";
+        return renderPercentageBar(this.getRemainingBlocks(), this.getBlockCount());
+    }
+
+    //a bar only changes with the integer percentage, so every possible one is rendered once
+    private static final String[] BARS = new String[101];
+    private static final String[] PERCENTAGE_BARS = new String[101];
+
+    static {
+        for (int i = 0; i <= 100; ++i) {
+            BARS[i] = Text.getProgressBar(i, 100, 10, '■', ChatColor.GREEN, ChatColor.RED);
+            PERCENTAGE_BARS[i] = BARS[i] + Text.color(" &r&f") + i + "%";
+        }
+    }
+
+    public static String renderBar(final int remainingBlocks, final int totalBlocks) {
+        if (totalBlocks <= 0 || remainingBlocks < 0 || remainingBlocks > totalBlocks) {
+            return Text.getProgressBar(remainingBlocks, totalBlocks, 10, '■', ChatColor.GREEN, ChatColor.RED);
+        }
+        return BARS[(int) ((long) remainingBlocks * 100 / totalBlocks)];
+    }
+
+    public static String renderPercentageBar(final int remainingBlocks, final int totalBlocks) {
+        if (totalBlocks <= 0 || remainingBlocks < 0 || remainingBlocks > totalBlocks) {
+            return renderBar(remainingBlocks, totalBlocks) + Text.color(" &r&f") + (totalBlocks == 0 ? 0 : remainingBlocks * 100 / totalBlocks) + "%";
+        }
+        return PERCENTAGE_BARS[(int) ((long) remainingBlocks * 100 / totalBlocks)];
     }
 
     public String getDisplayName() {
@@ -717,7 +1020,30 @@ public abstract class RMine {
     }
 
     public int getMinedBlocks() {
-        return this.minedBlocks;
+        return this.stats.getMinedBlocks();
+    }
+
+    public MineStats getStats() {
+        return this.stats;
+    }
+
+    public int getBlockSetIndex() {
+        return this.blockSetIndex;
+    }
+
+    //restores the runtime state saved before a restart, used instead of filling the mine again
+    public void restoreState(final int minedBlocks, final long lifetimeBreaks, final int blockSetIndex, final int secondsLeft) {
+        this.executor.execute(() -> {
+            this.stats.restore(minedBlocks, lifetimeBreaks);
+            this.blockSetIndex = blockSetIndex >= 0 && blockSetIndex < this.blockSets.size() ? blockSetIndex : 0;
+            if (this.timer != null && this.resetByTime && secondsLeft > 0) {
+                this.timer.resume(secondsLeft);
+            }
+        });
+    }
+
+    public MineStats.Snapshot getStatsSnapshot(final MineStats.Snapshot into) {
+        return this.stats.snapshot(into, this.getBlockCount());
     }
 
     public int getRemainingBlocks() {
@@ -736,11 +1062,52 @@ public abstract class RMine {
     }
 
     //block percentages
-    public abstract void fillContent();
+    //the future completes once the blocks (and faces) are placed, world edit and region fills finish later
+    public abstract CompletableFuture<Void> fillContent();
 
-    public void fillFaces() {
-        if (RMConfig.file().getBoolean("RealMines.useWorldEditForBlockPlacement")) {
-            for (final Map.Entry<MineCuboid.CuboidDirection, Material> pair : this.faces.entrySet()) {
+    //runs the world changes on the region of the mine, the future completes after they ran
+    protected CompletableFuture<Void> onMineRegion(final Runnable task) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> {
+            try {
+                task.run();
+            } finally {
+                done.complete(null);
+            }
+        });
+        return done;
+    }
+
+    //first fill of a mine loaded from its config
+    public void initialFill() {
+        this.fillContent();
+    }
+
+    //fills the mine through an edit session shared with other mines (grouped resets)
+    //mines that can't use it fill themselves as usual and return that fill, the others are done once the session is closed
+    public CompletableFuture<Void> fillContent(final EditSession editSession) {
+        return this.fillContent();
+    }
+
+    public void fillFaces(final EditSession editSession) {
+        for (final Map.Entry<MineCuboid.CuboidDirection, Material> pair : this.getFaces().entrySet()) {
+            MineCuboid face = this.getMineCuboid().getFace(pair.getKey());
+            BlockVector3 p1 = BlockVector3.at(face.getMin().getX(), face.getMin().getY(), face.getMin().getZ());
+            BlockVector3 p2 = BlockVector3.at(face.getMax().getX(), face.getMax().getY(), face.getMax().getZ());
+
+            try {
+                editSession.setBlocks(new CuboidRegion(BukkitAdapter.adapt(this.getWorld()), p1, p2), BukkitAdapter.adapt(pair.getValue().createBlockData()));
+            } catch (MaxChangedBlocksException e) {
+                RealMinesAPI.getInstance().getLogger().warning("Error while setting the faces of mine " + this.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public CompletableFuture<Void> fillFaces() {
+        final Map<MineCuboid.CuboidDirection, Material> faces = this.getFaces();
+        if (RMConfig.values().useWorldEditForBlockPlacement()) {
+            final List<CompletableFuture<Void>> edits = new ArrayList<>();
+            for (final Map.Entry<MineCuboid.CuboidDirection, Material> pair : faces.entrySet()) {
                 MineCuboid face = this.getMineCuboid().getFace(pair.getKey());
                 BlockVector3 p1 = BlockVector3.at(face.getMin().getX(), face.getMin().getY(), face.getMin().getZ());
                 BlockVector3 p2 = BlockVector3.at(face.getMax().getX(), face.getMax().getY(), face.getMax().getZ());
@@ -748,31 +1115,35 @@ public abstract class RMine {
                 RandomPattern solid = new RandomPattern();
                 solid.add(BukkitAdapter.adapt(pair.getValue().createBlockData()).toBaseBlock(), 100);
 
-                WorldEditUtils.setBlocks(new CuboidRegion(BukkitAdapter.adapt(this.getWorld()), p1, p2), solid);
+                edits.add(WorldEditUtils.setBlocks(new CuboidRegion(BukkitAdapter.adapt(this.getWorld()), p1, p2), solid));
             }
-        } else {
-            Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> {
-                for (final Map.Entry<MineCuboid.CuboidDirection, Material> pair : this.faces.entrySet()) {
-                    this.getMineCuboid().getFace(pair.getKey()).forEach(block -> block.setType(pair.getValue()));
-                }
-            });
+            return CompletableFuture.allOf(edits.toArray(new CompletableFuture[0]));
+        }
+        if (faces.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return this.onMineRegion(() -> {
+            for (final Map.Entry<MineCuboid.CuboidDirection, Material> pair : faces.entrySet()) {
+                this.getMineCuboid().getFace(pair.getKey()).forEach(block -> block.setType(pair.getValue()));
+            }
+        });
     }
 
     public Map<Material, MineItem> getMineItems() {
-        return this.blockSets.values().stream()
-                .skip(this.blockSetIndex)
-                .findFirst()
-                .orElse(new RMBlockSet())
-                .getItems();
+        return this.currentBlockSet().map(RMBlockSet::getItems).orElseGet(() -> new RMBlockSet().getItems());
     }
 
     public String getCurrentBlockSet() {
-        return this.blockSets.values().stream()
-                .skip(this.blockSetIndex)
-                .findFirst()
-                .map(RMBlockSet::getKey)
-                .orElse("default");
+        return this.currentBlockSet().map(RMBlockSet::getKey).orElse("default");
+    }
+
+    //index clamped against the same snapshot it is read from, a set removed meanwhile falls back to the first one
+    private Optional<RMBlockSet> currentBlockSet() {
+        final Map<String, RMBlockSet> sets = this.blockSets;
+        final int index = this.blockSetIndex;
+        return sets.values().stream()
+                .skip(index < sets.size() ? index : 0)
+                .findFirst();
     }
 
     public List<MineItem> getBlockIcons(String blockSet) {
@@ -788,11 +1159,23 @@ public abstract class RMine {
         return this.getBlockSets().stream().filter(blockSet -> blockSet.getKey().equals(key)).findFirst().map(RMBlockSet::getItems).orElse(new HashMap<>());
     }
 
-    public void removeBlockSet(RMBlockSet blockSet) {
-        this.blockSets.remove(blockSet.getKey());
+    //copies the block sets, applies the change and publishes the new snapshot
+    //must run on the mine's executor
+    private void editBlockSets(final Consumer<Map<String, RMBlockSet>> edit) {
+        final Map<String, RMBlockSet> copy = new LinkedHashMap<>(this.blockSets);
+        edit.accept(copy);
+        this.blockSets = Collections.unmodifiableMap(copy);
+        if (this.blockSetIndex >= copy.size()) {
+            this.blockSetIndex = 0;
+        }
         this.saveData(MineData.BLOCKS);
     }
 
+    public void removeBlockSet(RMBlockSet blockSet) {
+        this.executor.execute(() -> this.editBlockSets(sets -> sets.remove(blockSet.getKey())));
+    }
+
+    //returns once the block set is added
     public RMBlockSet addBlockSet(String name) {
         RMBlockSet s;
         if (name == null) {
@@ -800,63 +1183,64 @@ public abstract class RMine {
         } else {
             s = new RMBlockSet(name);
         }
-        this.blockSets.put(s.getKey(), s);
-        this.saveData(MineData.BLOCKS);
-        return s;
+        return this.executor.call(() -> {
+            this.editBlockSets(sets -> sets.put(s.getKey(), s));
+            return s;
+        });
     }
 
+    //the default block set is added if missing, the returned one is always the stored one
     protected RMBlockSet getBlockSet(String blockSetKey) {
-        if (blockSetKey.equalsIgnoreCase("default") && !this.blockSets.containsKey("default")) {
-            RMBlockSet s = new RMBlockSet("default");
-            this.blockSets.put(s.getKey(), s);
-            this.saveData(MineData.BLOCKS);
-            return s;
+        if (!blockSetKey.equalsIgnoreCase("default") || this.blockSets.containsKey("default")) {
+            return this.blockSets.get(blockSetKey);
         }
 
-        return this.blockSets.get(blockSetKey);
+        return this.executor.call(() -> {
+            final RMBlockSet stored = this.blockSets.get("default");
+            if (stored != null) {
+                return stored;
+            }
+            final RMBlockSet s = new RMBlockSet("default");
+            this.editBlockSets(sets -> sets.put(s.getKey(), s));
+            return s;
+        });
     }
 
     public void renameBlockSet(String oldKey, String newKey) {
-        RMBlockSet blockSet = this.blockSets.get(oldKey);
-        this.blockSets.remove(oldKey);
-        blockSet.setKey(newKey);
-        this.blockSets.put(newKey, blockSet);
-        this.saveData(MineData.BLOCKS);
+        this.executor.execute(() -> this.editBlockSets(sets -> {
+            final RMBlockSet blockSet = sets.get(oldKey);
+            if (blockSet == null) {
+                return;
+            }
+
+            //rebuild the map to keep the order of the block sets
+            final Map<String, RMBlockSet> renamed = new LinkedHashMap<>();
+            sets.forEach((key, value) -> renamed.put(key.equals(oldKey) ? newKey : key, value));
+            blockSet.setKey(newKey);
+            sets.clear();
+            sets.putAll(renamed);
+        }));
     }
 
-    public void processBlockBreakAction(final MineBlockBreakEvent e, final Double random) {
-        if (e.isBroken() && this.getMineItems().containsKey(e.getMaterial())) {
-            MineItem item = this.getMineItems().get(e.getMaterial());
+    public void processBlockBreakAction(final MineBlockBreakEvent e, final double random) {
+        if (e.isBroken()) {
+            final MineItem item = this.getMineItems().get(e.getMaterial());
             if (item != null) {
-                if (item.getBreakActions().stream().allMatch(action -> action.getChance() > 99)) {
-                    item.getBreakActions().forEach(m -> m.execute(e.getPlayer(), e.getBlock().getLocation()));
-                    return;
-                }
-
-                MineAction exec = null;
-                for (MineAction breakAction : item.getBreakActions()) {
-                    if (random < breakAction.getChance()) {
-                        if (exec == null) {
-                            exec = breakAction;
-                        } else if (breakAction.getChance() < exec.getChance()) { //if the new action has a lower chance than the current one, replace it
-                            exec = breakAction;
-                        }
-                    }
-                }
-
-                if (exec != null) { //execute the action
-                    exec.execute(e.getPlayer(), e.getBlock().getLocation());
-                }
+                item.getActionTable(this).execute(e.getPlayer(), e.getBlock(), random);
             }
         }
     }
 
     public void processBlockBreakEvent(final MineBlockBreakEvent event, final boolean reset) {
         //add or remove to mined blocks
-        this.minedBlocks = Math.max(0, this.minedBlocks + (event.isBroken() ? 1 : -1));
+        if (event.isBroken()) {
+            this.stats.recordBreak(event.getMaterial());
+        } else {
+            this.stats.recordPlace();
+        }
 
         if (event.getPlayer() != null) {
-            processBlockBreakAction(event, RealMinesAPI.getRand().nextDouble() * 100);
+            processBlockBreakAction(event, ThreadLocalRandom.current().nextDouble() * 100);
         }
 
         processBlockBreakEvent(reset);
@@ -875,107 +1259,22 @@ public abstract class RMine {
         this.updateSigns();
     }
 
+    //the whole config is written from the mine's values, t only says what changed
     public void saveData(final MineData t) {
-        this._save(t, true);
-        if (this.getMineTimer() != null) {
-            if (!this.resetByTime) {
-                this.timer.kill();
-            } else {
-                this.timer.restart();
+        this.executor.execute(() -> {
+            if (t == MineData.BLOCKS) {
+                //the break actions may have been edited, compile them again on the next break
+                this.getBlockSets().forEach(blockSet -> blockSet.getItems().values().forEach(MineItem::invalidateActionTable));
             }
-        }
-    }
-
-    private void _save(MineData t, boolean save) {
-        switch (t) {
-            case ICON:
-                this.config.set("icon", this.getIcon().name());
-                break;
-            case TELEPORT:
-                String teleport = this.teleport.getBlockX() + ";" + this.teleport.getBlockY() + ";" + this.teleport.getBlockZ() + ";" + this.teleport.getYaw() + ";" + this.teleport.getPitch();
-                this.config.set("teleport", teleport);
-                break;
-            case RESET:
-                this.config.set("reset.silent", isSilent());
-                this.config.set("reset.percentage.active", isResetBy(Reset.PERCENTAGE));
-                this.config.set("reset.percentage.value", getResetValue(Reset.PERCENTAGE));
-                this.config.set("reset.time.active", isResetBy(Reset.TIME));
-                this.config.set("reset.time.value", getResetValue(Reset.TIME));
-                break;
-            case SIGNS:
-                this.config.set("signs", this.getSignList());
-                break;
-            case POS:
-                String pos1 = getPOS1().getBlockX() + ";" + getPOS1().getBlockY() + ";" + getPOS1().getBlockZ();
-                config.set("world", getWorld().getName());
-                config.set("pos1", pos1);
-
-                if (getType() != Type.SCHEMATIC) {
-                    String pos2 = getPOS2().getBlockX() + ";" + getPOS2().getBlockY() + ";" + getPOS2().getBlockZ();
-                    config.set("pos2", pos2);
+            this.saveConfig();
+            if (this.getMineTimer() != null) {
+                if (!this.resetByTime) {
+                    this.timer.kill();
+                } else {
+                    this.timer.restart();
                 }
-                break;
-            case NAME:
-                this.config.set("name", this.getName());
-                break;
-            case DISPLAYNAME:
-                this.config.set("displayName", this.getDisplayName());
-            case FACES:
-                this.config.set("faces", this.getFaces().entrySet().stream().collect(Collectors.toMap(e -> e.getKey().name(), e -> e.getValue().name())));
-                break;
-            case COLOR:
-                this.config.set("color", this.getMineColor().name());
-                break;
-            case MINE_TYPE:
-                this.config.set("type", this.getType().name());
-                break;
-            case BLOCKS:
-                config.set("block-sets", Collections.emptyList());
-                this.getBlockSets().forEach(blockSetObject -> {
-                    String blockSetKey = blockSetObject.getKey();
-
-                    config.set("block-sets." + blockSetKey + ".description", blockSetObject.getDescription());
-                    config.set("block-sets." + blockSetKey + ".icon", blockSetObject.getIconMaterial().name());
-
-                    if (blockSetObject.getItems().isEmpty()) {
-                        config.set("block-sets." + blockSetKey + ".blocks", Collections.emptyList());
-                    } else {
-                        blockSetObject.getItems().forEach(((material, mineItem) ->
-                        {
-                            String block = material.name();
-
-                            config.set("block-sets." + blockSetKey + ".blocks." + block + ".percentage", mineItem.getPercentage());
-                            config.set("block-sets." + blockSetKey + ".blocks." + block + ".disabled-vanilla-drop", mineItem.areVanillaDropsDisabled());
-                            config.set("block-sets." + blockSetKey + ".blocks." + block + ".disabled-block-mining", mineItem.isBlockMiningDisabled());
-
-                            if (mineItem instanceof MineFarmItem) {
-                                config.set("block-sets." + blockSetKey + ".blocks." + block + ".age", ((MineFarmItem) mineItem).getAge());
-                            }
-
-                            if (mineItem.hasBreakActions()) {
-                                mineItem.getBreakActions().forEach(action -> {
-                                    config.set("block-sets." + blockSetKey + ".blocks." + block + ".break-actions." + action.getID() + ".type", action.getType().name());
-                                    config.set("block-sets." + blockSetKey + ".blocks." + block + ".break-actions." + action.getID() + ".chance", action.getChance());
-                                    config.set("block-sets." + blockSetKey + ".blocks." + block + ".break-actions." + action.getID() + ".value", action.getValue());
-                                });
-                            }
-                        }));
-                    }
-                });
-                break;
-            case ALL:
-                this._save(MineData.ICON, false);
-                this._save(MineData.TELEPORT, false);
-                this._save(MineData.SIGNS, false);
-                this._save(MineData.POS, false);
-                this._save(MineData.NAME, false);
-                this._save(MineData.FACES, false);
-                this._save(MineData.COLOR, false);
-                this._save(MineData.MINE_TYPE, false);
-                break;
-        }
-        if (save)
-            saveConfig();
+            }
+        });
     }
 
     public void setName(String newName) {
@@ -986,55 +1285,155 @@ public abstract class RMine {
         reset(ResetCause.PLUGIN);
     }
 
+    //runs on the region of the mine, the reset calls events and touches the world
     public void reset(ResetCause re) {
-        if (!Bukkit.getOnlinePlayers().isEmpty() || RMConfig.file().getBoolean("RealMines.resetMinesWhenNoPlayers")) {
+        final Location anchor = this.getPOS1();
+        if (anchor == null || Bukkit.isOwnedByCurrentRegion(anchor)) {
+            this.resetNow(re);
+        } else {
+            Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), anchor, () -> this.resetNow(re));
+        }
+    }
 
-            OnMineResetEvent event = new OnMineResetEvent(this, re);
-            Bukkit.getServer().getPluginManager().callEvent(event);
-            if (event.isCancelled()) {
-                return;
-            }
+    private void resetNow(ResetCause re) {
+        if (!this.prepareReset(re)) {
+            return;
+        }
+
+        this.finishReset(true, this.fillContent());
+    }
+
+    //first stage of a reset: calls the reset event, rotates the block set and kicks the players
+    //returns false if the mine shouldn't be reset
+    public boolean prepareReset(ResetCause re) {
+        if (Bukkit.getOnlinePlayers().isEmpty() && !RMConfig.values().resetMinesWhenNoPlayers()) {
+            return false;
+        }
 
+        OnMineResetEvent event = new OnMineResetEvent(this, re);
+        Bukkit.getServer().getPluginManager().callEvent(event);
+        if (event.isCancelled()) {
+            return false;
+        }
+
+        //the index belongs to the executor, like the block sets it points into
+        this.executor.call(() -> {
+            final int sets = this.blockSets.size();
             switch (this.getBlockSetMode()) {
                 case INCREMENTAL:
-                    ++this.blockSetIndex;
-                    if (this.blockSetIndex >= this.blockSets.size()) {
-                        this.blockSetIndex = 0;
-                    }
+                    this.blockSetIndex = this.blockSetIndex + 1 >= sets ? 0 : this.blockSetIndex + 1;
                     break;
                 case RANDOM:
-                    this.blockSetIndex = RealMinesAPI.getRand().nextInt(this.blockSets.size());
+                    this.blockSetIndex = sets == 0 ? 0 : this.newRandom().nextInt(sets);
                     break;
                 case NONE:
+                    this.blockSetIndex = this.blockSetIndex < sets ? this.blockSetIndex : 0;
                     break;
             }
+            return null;
+        });
 
-            this.kickPlayers(TranslatableLine.MINE_RESET_STARTING.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.getDisplayName())).get());
-            this.fillContent();
+        this.kickPlayers(TranslatableLine.MINE_RESET_STARTING.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.getDisplayName())).get());
+        return true;
+    }
 
-            //reset mined blocks
-            this.minedBlocks = 0;
-            processBlockBreakEvent(false);
+    //last stage of a reset, after the mine was filled
+    public void finishReset(boolean announce) {
+        this.finishReset(announce, CompletableFuture.completedFuture(null));
+    }
 
-            //execute reset commands
-            this.config.getStringList("reset.commands").forEach(s -> Bukkit.getServer().dispatchCommand(Bukkit.getConsoleSender(), s));
+    //filled completes when the fill is really in the world, the entity sweep waits for it
+    public void finishReset(boolean announce, CompletableFuture<?> filled) {
+        //reset mined blocks
+        this.stats.resetMinedBlocks();
+        processBlockBreakEvent(false);
 
-            if (!this.isSilent()) {
-                if (RMConfig.file().getBoolean("RealMines.broadcastResetMessageOnlyInWorld")) {
-                    this.getMineCuboid().getWorld().getPlayers().forEach(player -> TranslatableLine.MINE_RESET_ANNOUNCEMENT.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.getDisplayName())).send(player));
-                } else {
-                    Bukkit.broadcastMessage(Text.getPrefix() + TranslatableLine.MINE_RESET_ANNOUNCEMENT.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.getDisplayName())).get());
+        //execute reset commands, console commands only run on the global region
+        final List<String> commands = this.getResetCommands();
+        if (!commands.isEmpty()) {
+            Bukkit.getGlobalRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), () -> {
+                for (final String s : commands) {
+                    Bukkit.getServer().dispatchCommand(Bukkit.getConsoleSender(), s);
                 }
+            });
+        }
+
+        if (announce && !this.isSilent()) {
+            final TranslatableLine.Message announcement = TranslatableLine.MINE_RESET_ANNOUNCEMENT.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.getDisplayName()));
+            if (RMConfig.values().broadcastResetMessageOnlyInWorld()) {
+                final Component message = announcement.component();
+                this.getMineCuboid().getWorld().getPlayers().forEach(player -> player.sendMessage(message));
+            } else {
+                Bukkit.broadcast(Text.component(Text.getPrefix() + announcement.get()));
             }
+        }
+
+        if (RMConfig.values().sweepEntitiesOnReset()) {
+            filled.whenComplete((v, e) -> this.sweepEntities());
+        }
+
+        // reset blocks
+        this.updateSigns();
+    }
+
+    /*
+    removes the entities of the configured types inside the mine (dropped items, arrows, xp orbs...)
+    only the loaded chunks of the mine are checked, each one on its own region thread
+    the removed count is recorded in the mine stats once every chunk is done
+     */
+    public CompletableFuture<Integer> sweepEntities() {
+        final MineCuboid c = this.getMineCuboid();
+        final World w = this.getWorld();
+        if (c == null || w == null) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        final Set<EntityType> types = RMConfig.values().sweepEntityTypes();
+        if (types.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        final AtomicInteger removed = new AtomicInteger();
+        final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int cx = c.getLowerX() >> 4; cx <= c.getUpperX() >> 4; ++cx) {
+            for (int cz = c.getLowerZ() >> 4; cz <= c.getUpperZ() >> 4; ++cz) {
+                if (!w.isChunkLoaded(cx, cz)) {
+                    continue;
+                }
 
-            // reset blocks
-            this.updateSigns();
+                final int x = cx, z = cz;
+                final CompletableFuture<Void> f = new CompletableFuture<>();
+                Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), w, x, z, () -> {
+                    try {
+                        if (w.isChunkLoaded(x, z)) {
+                            for (final Entity e : w.getChunkAt(x, z).getEntities()) {
+                                if (types.contains(e.getType()) && c.contains(e.getLocation())) {
+                                    e.remove();
+                                    removed.incrementAndGet();
+                                }
+                            }
+                        }
+                    } finally {
+                        f.complete(null);
+                    }
+                });
+                chunks.add(f);
+            }
         }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).thenApply(v -> {
+            this.stats.recordSweep(removed.get());
+            return removed.get();
+        });
     }
 
     public void addSign(final Block block, final String modif) {
-        this.signs.add(new MineSign(block, modif));
-        this.saveData(MineData.SIGNS);
+        this.executor.execute(() -> {
+            final List<MineSign> signs = new ArrayList<>(this.signs);
+            signs.add(new MineSign(block, modif));
+            this.signs = List.copyOf(signs);
+            this.saveData(MineData.SIGNS);
+        });
     }
 
     public Collection<RMBlockSet> getBlockSets() {
@@ -1042,61 +1441,65 @@ public abstract class RMine {
     }
 
     public void updateSigns() {
+        final MineStats.Snapshot stats = this.getStatsSnapshot(new MineStats.Snapshot());
         for (final MineSign ms : this.signs) {
-            if (ms.getBlock().getType().name().contains("SIGN")) {
-                Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), ms.getBlock().getLocation(), () -> {
-                    final Sign sign = (Sign) ms.getBlock().getState();
-                    final String modif = ms.getModifier();
-
-                    switch (modif.toLowerCase()) {
-                        case "tl":
-                            if (this.getMineTimer().getCountdown() != null) {
-                                sign.setLine(1, Countdown.format(this.getMineTimer().getCountdown().getSecondsLeft() * 1000L));
-                                sign.setLine(2, Text.color("&6"));
-                            }
-                            break;
-                        case "sl":
-                            if (this.getMineTimer().getCountdown() != null) {
-                                sign.setLine(1, Integer.toString(this.getMineTimer().getCountdown().getSecondsLeft()));
-                                sign.setLine(2, Text.color("&6"));
-                            }
-                            break;
-                        case "b":
-                            sign.setLine(1, this.getBar());
+            Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), ms.getBlock().getLocation(), () -> {
+                //the block is only read on its own region
+                if (!ms.getBlock().getType().name().contains("SIGN")) {
+                    return;
+                }
+
+                final Sign sign = (Sign) ms.getBlock().getState();
+                final String modif = ms.getModifier();
+
+                switch (modif.toLowerCase()) {
+                    case "tl":
+                        if (this.getMineTimer().getCountdown() != null) {
+                            sign.setLine(1, Countdown.format(this.getMineTimer().getCountdown().getSecondsLeft() * 1000L));
                             sign.setLine(2, Text.color("&6"));
-                            break;
-                        case "pb":
-                            sign.setLine(1, this.getPercentageBar());
+                        }
+                        break;
+                    case "sl":
+                        if (this.getMineTimer().getCountdown() != null) {
+                            sign.setLine(1, Integer.toString(this.getMineTimer().getCountdown().getSecondsLeft()));
                             sign.setLine(2, Text.color("&6"));
-                            break;
-                        case "pm":
-                            sign.setLine(1, this.getMinedBlocksPer() + "%");
-                            sign.setLine(2, TranslatableLine.SIGNS_MINED_ON.get());
-                            break;
-                        case "bm":
-                            sign.setLine(1, String.valueOf(this.getMinedBlocks()));
-                            sign.setLine(2, TranslatableLine.SIGNS_MINED_BLOCKS_ON.get());
-                            break;
-                        case "br":
-                            sign.setLine(1, String.valueOf(this.getRemainingBlocks()));
-                            sign.setLine(2, TranslatableLine.SIGNS_BLOCKS_ON.get());
-                            break;
-                        case "pl":
-                            sign.setLine(1, this.getRemainingBlocksPer() + "%");
-                            sign.setLine(2, TranslatableLine.SIGNS_LEFT_ON.get());
-                            break;
-                    }
+                        }
+                        break;
+                    case "b":
+                        sign.setLine(1, this.getBar());
+                        sign.setLine(2, Text.color("&6"));
+                        break;
+                    case "pb":
+                        sign.setLine(1, this.getPercentageBar());
+                        sign.setLine(2, Text.color("&6"));
+                        break;
+                    case "pm":
+                        sign.setLine(1, stats.getMinedBlocksPer() + "%");
+                        sign.setLine(2, TranslatableLine.SIGNS_MINED_ON.get());
+                        break;
+                    case "bm":
+                        sign.setLine(1, String.valueOf(stats.getMinedBlocks()));
+                        sign.setLine(2, TranslatableLine.SIGNS_MINED_BLOCKS_ON.get());
+                        break;
+                    case "br":
+                        sign.setLine(1, String.valueOf(stats.getRemainingBlocks()));
+                        sign.setLine(2, TranslatableLine.SIGNS_BLOCKS_ON.get());
+                        break;
+                    case "pl":
+                        sign.setLine(1, stats.getRemainingBlocksPer() + "%");
+                        sign.setLine(2, TranslatableLine.SIGNS_LEFT_ON.get());
+                        break;
+                }
 
-                    sign.setLine(0, Text.getPrefix());
-                    sign.setLine(3, Text.color(this.getDisplayName()));
-                    sign.update();
-                });
-            }
+                sign.setLine(0, Text.getPrefix());
+                sign.setLine(3, Text.color(this.getDisplayName()));
+                sign.update();
+            });
         }
     }
 
     public void clear() {
-        this.minedBlocks = 0;
+        this.stats.resetMinedBlocks();
         processBlockBreakEvent(false);
 
         this.clearContents();
@@ -1108,7 +1511,7 @@ public abstract class RMine {
 
     public void kickPlayers(final String s) {
         if (this.getType() != Type.FARM) {
-            if (RMConfig.file().getBoolean("RealMines.teleportPlayers")) {
+            if (RMConfig.values().teleportPlayers()) {
                 for (final org.bukkit.entity.Player p : org.bukkit.Bukkit.getOnlinePlayers()) {
                     p.getScheduler().run(RealMinesAPI.getInstance().getPlugin(), (io.papermc.paper.threadedregions.scheduler.ScheduledTask t) -> {
                         if (this.getMineCuboid() != null && this.getMineCuboid().contains(p.getLocation())) {
@@ -1124,12 +1527,15 @@ public abstract class RMine {
     }
 
     public void broadcastMessage(String s) {
+        //the components are built once and shared by every player in the mine
+        final Component message = Text.prefixedComponent(s);
+        final Component actionBar = RMConfig.values().actionbarMessages() ? Text.component(s) : null;
         for (final org.bukkit.entity.Player p : org.bukkit.Bukkit.getOnlinePlayers()) {
             p.getScheduler().run(RealMinesAPI.getInstance().getPlugin(), (io.papermc.paper.threadedregions.scheduler.ScheduledTask t) -> {
                 if (this.getMineCuboid() != null && this.getMineCuboid().contains(p.getLocation())) {
-                    Text.send(p, s);
-                    if (RMConfig.file().getBoolean("RealMines.actionbarMessages")) {
-                        p.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(Text.color(s)));
+                    p.sendMessage(message);
+                    if (actionBar != null) {
+                        p.sendActionBar(actionBar);
                     }
                 }
             }, null);
@@ -1231,13 +1637,21 @@ public abstract class RMine {
         return this.icon;
     }
 
+    //shared by every GUI showing the mine, only built again after a config change or a block break
     public ItemStack getMineIcon() {
+        final int remaining = this.getRemainingBlocks();
+        return this.mineIcon.get(((long) this.configVersion.get() << 32) | (remaining & 0xFFFFFFFFL), () -> this.buildMineIcon(remaining));
+    }
+
+    private ItemStack buildMineIcon(final int remaining) {
+        final int total = this.getBlockCount();
+        final String bar = renderBar(remaining, total);
         return Items.createItem(this.getIcon(), 1, this.getMineColor().getColorPrefix() + " &f&l" + this.getDisplayName() + " &7[&b&l" + this.getType().name() + "&r&7]", RMLanguageConfig.file().getStringList("GUI.Items.Mine.Description")
                 .stream()
                 .map(s -> Text.color(s
-                        .replaceAll("%remainingblocks%", String.valueOf(this.getRemainingBlocks()))
-                        .replaceAll("%totalblocks%", String.valueOf(this.getBlockCount()))
-                        .replaceAll("%bar%", this.getBar())))
+                        .replace("%remainingblocks%", String.valueOf(remaining))
+                        .replace("%totalblocks%", String.valueOf(total))
+                        .replace("%bar%", bar)))
                 .collect(Collectors.toList()));
     }
 
@@ -1272,13 +1686,23 @@ public abstract class RMine {
     }
 
     public void setFaceBlock(final MineCuboid.CuboidDirection cd, final Material a) {
-        this.faces.put(cd, a);
-        this.saveData(MineData.FACES);
+        this.executor.execute(() -> {
+            final Map<MineCuboid.CuboidDirection, Material> faces = new EnumMap<>(MineCuboid.CuboidDirection.class);
+            faces.putAll(this.faces);
+            faces.put(cd, a);
+            this.faces = Collections.unmodifiableMap(faces);
+            this.saveData(MineData.FACES);
+        });
     }
 
     public void removeFaceblock(final MineCuboid.CuboidDirection d) {
-        this.faces.remove(d);
-        this.saveData(MineData.FACES);
+        this.executor.execute(() -> {
+            final Map<MineCuboid.CuboidDirection, Material> faces = new EnumMap<>(MineCuboid.CuboidDirection.class);
+            faces.putAll(this.faces);
+            faces.remove(d);
+            this.faces = Collections.unmodifiableMap(faces);
+            this.saveData(MineData.FACES);
+        });
     }
 
     public Map<MineCuboid.CuboidDirection, Material> getFaces() {
@@ -0,0 +1,180 @@
+package joserodpt.realmines.api.mine.components;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import org.bukkit.Material;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+block break statistics of a mine
+written from any region thread that handles a break, without locks:
+- mined blocks: CAS loop clamped at 0 (placing blocks decrements it)
+- lifetime and per material breaks: striped LongAdders, only the materials broken in the mine get one
+- breaks per minute: exponentially weighted moving average, ticked lazily every 5 seconds by whoever records or reads it
+ */
+public class MineStats {
+
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+    private static final double TICKS_PER_MINUTE = 60D / 5D;
+    private static final double ALPHA = 1 - Math.exp(-1D / TICKS_PER_MINUTE);
+
+    private final AtomicInteger minedBlocks = new AtomicInteger();
+    private final LongAdder lifetimeBreaks = new LongAdder();
+    private final LongAdder uncountedBreaks = new LongAdder();
+    private final Map<Material, LongAdder> materialBreaks = new ConcurrentHashMap<>();
+    private final AtomicLong lastTick = new AtomicLong(System.nanoTime());
+    private volatile double breaksPerMinute;
+    private volatile boolean rateInitialized;
+    //entities removed by the reset sweeps
+    private final LongAdder sweptEntities = new LongAdder();
+    private volatile int lastSweptEntities;
+
+    public void recordBreak(final Material m) {
+        this.minedBlocks.incrementAndGet();
+        this.lifetimeBreaks.increment();
+        this.tickIfNecessary();
+        this.uncountedBreaks.increment();
+
+        if (m != null) {
+            //get first, computeIfAbsent locks the bin even when the adder exists
+            LongAdder adder = this.materialBreaks.get(m);
+            if (adder == null) {
+                adder = this.materialBreaks.computeIfAbsent(m, k -> new LongAdder());
+            }
+            adder.increment();
+        }
+    }
+
+    public void recordPlace() {
+        this.minedBlocks.updateAndGet(v -> v > 0 ? v - 1 : 0);
+    }
+
+    //called when the mine resets or is cleared, the lifetime statistics are kept
+    public void resetMinedBlocks() {
+        this.minedBlocks.set(0);
+    }
+
+    public int getMinedBlocks() {
+        return this.minedBlocks.get();
+    }
+
+    //restores the counters saved in the runtime state of the mine
+    public void restore(final int minedBlocks, final long lifetimeBreaks) {
+        this.minedBlocks.set(Math.max(0, minedBlocks));
+        this.lifetimeBreaks.add(Math.max(0, lifetimeBreaks));
+    }
+
+    public void recordSweep(final int removed) {
+        this.lastSweptEntities = removed;
+        this.sweptEntities.add(removed);
+    }
+
+    public int getLastSweptEntities() {
+        return this.lastSweptEntities;
+    }
+
+    public long getSweptEntities() {
+        return this.sweptEntities.sum();
+    }
+
+    public long getLifetimeBreaks() {
+        return this.lifetimeBreaks.sum();
+    }
+
+    public long getBreaks(final Material m) {
+        final LongAdder adder = this.materialBreaks.get(m);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public double getBreaksPerMinute() {
+        this.tickIfNecessary();
+        return this.breaksPerMinute;
+    }
+
+    private void tickIfNecessary() {
+        final long old = this.lastTick.get();
+        final long now = System.nanoTime();
+        final long age = now - old;
+        if (age > TICK_INTERVAL) {
+            final long newTick = now - age % TICK_INTERVAL;
+            //only the thread that wins the CAS folds the pending ticks
+            if (this.lastTick.compareAndSet(old, newTick)) {
+                final long requiredTicks = age / TICK_INTERVAL;
+                for (long i = 0; i < requiredTicks; ++i) {
+                    this.tick();
+                }
+            }
+        }
+    }
+
+    private void tick() {
+        final double count = this.uncountedBreaks.sumThenReset() * TICKS_PER_MINUTE;
+        if (this.rateInitialized) {
+            this.breaksPerMinute += ALPHA * (count - this.breaksPerMinute);
+        } else {
+            this.breaksPerMinute = count;
+            this.rateInitialized = true;
+        }
+    }
+
+    //fills the given snapshot, so readers polling often (placeholders, signs, GUIs) can reuse one instance
+    //every derived value of the snapshot comes from the same read of the mined blocks
+    public Snapshot snapshot(final Snapshot into, final int totalBlocks) {
+        into.totalBlocks = totalBlocks;
+        into.minedBlocks = this.getMinedBlocks();
+        into.lifetimeBreaks = this.getLifetimeBreaks();
+        into.breaksPerMinute = this.getBreaksPerMinute();
+        return into;
+    }
+
+    public static class Snapshot {
+        private int totalBlocks, minedBlocks;
+        private long lifetimeBreaks;
+        private double breaksPerMinute;
+
+        public int getTotalBlocks() {
+            return this.totalBlocks;
+        }
+
+        public int getMinedBlocks() {
+            return this.minedBlocks;
+        }
+
+        public int getRemainingBlocks() {
+            return this.totalBlocks - this.minedBlocks;
+        }
+
+        public int getMinedBlocksPer() {
+            return this.totalBlocks == 0 ? 0 : (this.minedBlocks * 100 / this.totalBlocks);
+        }
+
+        public int getRemainingBlocksPer() {
+            return this.totalBlocks == 0 ? 0 : (this.getRemainingBlocks() * 100 / this.totalBlocks);
+        }
+
+        public long getLifetimeBreaks() {
+            return this.lifetimeBreaks;
+        }
+
+        public double getBreaksPerMinute() {
+            return this.breaksPerMinute;
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package joserodpt.realmines.api.mine.components;
 
 import joserodpt.realmines.api.mine.components.items.MineItem;
+import joserodpt.realmines.api.utils.CachedIcon;
 import joserodpt.realmines.api.utils.Items;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,16 +16,19 @@ public class RMBlockSet {
 
     private String key, description;
     private Material icon;
-    private Map<Material, MineItem> items;
+    //replaced on every change, so the map handed out to readers never changes under them
+    //kept in material order, the saved config (and the content stamp of the mine) must not change between restarts
+    private volatile Map<Material, MineItem> items;
+    private final CachedIcon cachedIcon = new CachedIcon(), cachedSelectedIcon = new CachedIcon();
 
     //new with random key
     public RMBlockSet() {
-        this("set-" + System.currentTimeMillis(), "New block set-" + System.currentTimeMillis(), Material.CAULDRON, new HashMap<>());
+        this("set-" + System.currentTimeMillis(), "New block set-" + System.currentTimeMillis(), Material.CAULDRON, Collections.emptyMap());
     }
 
     //new with key
     public RMBlockSet(String key) {
-        this(key, "Description for block set: " + key, Material.CAULDRON, new HashMap<>());
+        this(key, "Description for block set: " + key, Material.CAULDRON, Collections.emptyMap());
     }
 
     //already existing
@@ -31,7 +36,7 @@ public class RMBlockSet {
         this.key = key;
         this.description = description;
         this.icon = icon;
-        this.items = items;
+        this.items = Collections.unmodifiableMap(copyOf(items));
     }
 
     public String getKey() {
@@ -44,6 +49,7 @@ public class RMBlockSet {
 
     public void setDescription(String description) {
         this.description = description;
+        this.invalidateIcons();
     }
 
     public Map<Material, MineItem> getItems() {
@@ -51,7 +57,13 @@ public class RMBlockSet {
     }
 
     public ItemStack getIcon(boolean sel) {
-        return sel ? Items.createItemLoreEnchanted(icon, getAmount(), "&f" + this.key, getLore()) : Items.createItem(icon, getAmount(), "&f" + this.key, getLore());
+        return sel ? this.cachedSelectedIcon.get(() -> Items.createItemLoreEnchanted(this.icon, getAmount(), "&f" + this.key, getLore()))
+                : this.cachedIcon.get(() -> Items.createItem(this.icon, getAmount(), "&f" + this.key, getLore()));
+    }
+
+    private void invalidateIcons() {
+        this.cachedIcon.invalidate();
+        this.cachedSelectedIcon.invalidate();
     }
 
     private int getAmount() {
@@ -72,21 +84,35 @@ public class RMBlockSet {
 
     public void setIcon(Material mat) {
         this.icon = mat;
+        this.invalidateIcons();
     }
 
     public void setKey(String s) {
         this.key = s;
+        this.invalidateIcons();
     }
 
     public boolean contains(MineItem mi) {
         return items.containsKey(mi.getMaterial());
     }
 
-    public void remove(MineItem mb) {
-        items.remove(mb.getMaterial());
+    public synchronized void remove(MineItem mb) {
+        final Map<Material, MineItem> copy = copyOf(this.items);
+        copy.remove(mb.getMaterial());
+        this.items = Collections.unmodifiableMap(copy);
+        this.invalidateIcons();
+    }
+
+    private static Map<Material, MineItem> copyOf(Map<Material, MineItem> items) {
+        final Map<Material, MineItem> copy = new EnumMap<>(Material.class);
+        copy.putAll(items);
+        return copy;
     }
 
-    public void add(MineItem mineBlock) {
-        this.items.put(mineBlock.getMaterial(), mineBlock);
+    public synchronized void add(MineItem mineBlock) {
+        final Map<Material, MineItem> copy = copyOf(this.items);
+        copy.put(mineBlock.getMaterial(), mineBlock);
+        this.items = Collections.unmodifiableMap(copy);
+        this.invalidateIcons();
     }
 }
@@ -0,0 +1,146 @@
+package joserodpt.realmines.api.mine.components.actions;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import joserodpt.realmines.api.RealMinesAPI;
+import joserodpt.realmines.api.config.TranslatableLine;
+import joserodpt.realmines.api.utils.Text;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+groups the money and command break actions of each player and runs them once every few ticks:
+- money is added up and deposited once, with one message
+- commands with %count% run once per window, with %count% replaced by the times they were triggered
+- a flush swaps in a new map and drains the old one, so actions added meanwhile go to the next window
+ */
+public class BreakActionCoalescer {
+
+    private final AtomicReference<Map<UUID, Pending>> pending = new AtomicReference<>(new ConcurrentHashMap<>());
+    private volatile ScheduledTask task;
+
+    public void start(final JavaPlugin plugin, final long intervalTicks) {
+        this.stop();
+        this.task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, t -> this.flush(), intervalTicks, intervalTicks);
+    }
+
+    //runs what is still pending
+    public void stop() {
+        final ScheduledTask task = this.task;
+        if (task != null) {
+            task.cancel();
+            this.task = null;
+        }
+        this.flush();
+    }
+
+    public boolean isEnabled() {
+        return this.task != null;
+    }
+
+    public void addMoney(final Player p, final double amount, final boolean message) {
+        while (true) {
+            final Pending pd = this.pendingOf(p);
+            if (pd == null) {
+                continue;
+            }
+            synchronized (pd) {
+                if (!pd.closed) {
+                    pd.money += amount;
+                    pd.moneyMessage |= message;
+                    return;
+                }
+            }
+        }
+    }
+
+    public void addCommand(final Player p, final MineActionCommand action, final Location l) {
+        while (true) {
+            final Pending pd = this.pendingOf(p);
+            if (pd == null) {
+                continue;
+            }
+            synchronized (pd) {
+                if (!pd.closed) {
+                    final PendingCommand pc = pd.commands.computeIfAbsent(action, a -> new PendingCommand());
+                    ++pc.count;
+                    pc.location = l;
+                    return;
+                }
+            }
+        }
+    }
+
+    //null if a flush swapped the map while the entry was added, the caller retries on the new map
+    private Pending pendingOf(final Player p) {
+        final Map<UUID, Pending> map = this.pending.get();
+        final Pending pd = map.computeIfAbsent(p.getUniqueId(), id -> new Pending(p));
+        //added before the swap, so the flush draining this map will see it
+        return this.pending.get() == map ? pd : null;
+    }
+
+    public void flush() {
+        final Map<UUID, Pending> drained = this.pending.getAndSet(new ConcurrentHashMap<>());
+        for (final Pending pd : drained.values()) {
+            //after closing, actions still holding this entry retry on the new map
+            synchronized (pd) {
+                pd.closed = true;
+            }
+
+            if (pd.money > 0) {
+                if (RealMinesAPI.getInstance().getEconomy() != null) {
+                    RealMinesAPI.getInstance().getEconomy().depositPlayer(pd.player, pd.money);
+                    if (pd.moneyMessage) {
+                        Text.send(pd.player, TranslatableLine.MINE_BREAK_ACTION_GIVE_MONEY.setV1(TranslatableLine.ReplacableVar.MONEY.eq(Text.formatNumber(pd.money))).get());
+                    }
+                } else {
+                    RealMinesAPI.getInstance().getLogger().warning("Economy not found or Vault not installed. Please install a compatible economy plugin. Skipping grouped money break actions.");
+                }
+            }
+
+            pd.commands.forEach((action, pc) -> {
+                try {
+                    action.dispatch(pd.player, pc.location, pc.count);
+                } catch (Exception e) {
+                    RealMinesAPI.getInstance().getLogger().warning("Error while running the grouped break action " + action.getID() + ": " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    private static class Pending {
+        private final Player player;
+        private final Map<MineActionCommand, PendingCommand> commands = new IdentityHashMap<>();
+        private double money;
+        private boolean moneyMessage, closed;
+
+        private Pending(final Player player) {
+            this.player = player;
+        }
+    }
+
+    private static class PendingCommand {
+        private int count;
+        private Location location;
+    }
+}
@@ -0,0 +1,223 @@
+package joserodpt.realmines.api.mine.components.actions;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.RealMinesAPI;
+import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.utils.InventoryFit;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+handles the items of the drop item break actions:
+- NATURAL: one item entity per drop (the old behaviour)
+- MERGE: drops of the same mine and chunk are grouped for a few ticks and spawned as stacked entities
+- PLAYER: drops go to the inventory of the player, what doesn't fit is merged like in MERGE
+once a mine has as many live item entities as its budget, the items are added to those entities
+what still doesn't fit stays pending for the next window, no entity is spawned past the budget
+the flush runs on the region of the chunk and never touches a player's inventory
+ */
+public class DropAggregator {
+
+    public enum Mode {NATURAL, MERGE, PLAYER}
+
+    private final Map<RMine, Map<Long, Pending>> pending = new ConcurrentHashMap<>();
+    private final Map<RMine, Deque<Item>> live = new ConcurrentHashMap<>();
+
+    private volatile Mode mode = Mode.NATURAL;
+    private volatile int windowTicks = 20, budget = 64;
+
+    public void setup(final Mode mode, final int windowTicks, final int budget) {
+        this.mode = mode;
+        this.windowTicks = Math.max(1, windowTicks);
+        this.budget = Math.max(1, budget);
+    }
+
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    public void drop(final RMine mine, final Player p, final Location l, final ItemStack item) {
+        ItemStack left = item;
+        switch (this.mode) {
+            case NATURAL:
+                l.getWorld().dropItemNaturally(l, item.clone());
+                return;
+            case PLAYER:
+                if (p != null) {
+                    final int amount = InventoryFit.add(p.getInventory(), item);
+                    if (amount == 0) {
+                        return;
+                    }
+                    left = item.asQuantity(amount);
+                }
+                break;
+            case MERGE:
+                break;
+        }
+
+        final long chunk = ((long) (l.getBlockX() >> 4) << 32) | ((l.getBlockZ() >> 4) & 0xFFFFFFFFL);
+        this.add(mine, this.pending.computeIfAbsent(mine, m -> new ConcurrentHashMap<>()), chunk, l, left, left.getAmount());
+    }
+
+    private void add(final RMine mine, final Map<Long, Pending> chunks, final long chunk, final Location l, final ItemStack item, final int amount) {
+        while (true) {
+            final Pending pd = chunks.computeIfAbsent(chunk, c -> new Pending());
+            final boolean schedule;
+            synchronized (pd) {
+                if (pd.closed) {
+                    continue;
+                }
+
+                pd.add(item, amount);
+                pd.location = l;
+                schedule = !pd.scheduled;
+                pd.scheduled = true;
+            }
+
+            if (schedule) {
+                Bukkit.getRegionScheduler().runDelayed(RealMinesAPI.getInstance().getPlugin(), l, t -> this.flush(mine, chunks, chunk, pd), this.windowTicks);
+            }
+            return;
+        }
+    }
+
+    private void flush(final RMine mine, final Map<Long, Pending> chunks, final long chunk, final Pending pd) {
+        chunks.remove(chunk, pd);
+        synchronized (pd) {
+            pd.closed = true;
+        }
+
+        //the mine was cleared after this flush was scheduled, its drops are left in the world untracked
+        if (this.pending.get(mine) != chunks) {
+            for (final PendingStack ps : pd.items) {
+                this.spawn(pd.location, ps.item, ps.amount);
+            }
+            return;
+        }
+
+        final Deque<Item> entities = this.live.computeIfAbsent(mine, m -> new ArrayDeque<>());
+        final List<PendingStack> overflow = new ArrayList<>();
+        synchronized (entities) {
+            entities.removeIf(entity -> !entity.isValid());
+
+            for (final PendingStack ps : pd.items) {
+                final ItemStack stack = ps.item;
+                int amount = ps.amount;
+                final int max = stack.getMaxStackSize();
+
+                while (amount > 0 && entities.size() < this.budget) {
+                    final int n = Math.min(amount, max);
+                    entities.add(pd.location.getWorld().dropItemNaturally(pd.location, stack.asQuantity(n)));
+                    amount -= n;
+                }
+                amount = this.mergeInto(entities, stack, amount);
+                if (amount > 0) {
+                    //the budget is full and no entity has room left, waits for the players to pick some up
+                    overflow.add(new PendingStack(stack, amount));
+                }
+            }
+        }
+
+        if (this.pending.get(mine) != chunks) {
+            //cleared while flushing, don't keep the entities of a mine that is gone
+            this.live.remove(mine, entities);
+            for (final PendingStack ps : overflow) {
+                this.spawn(pd.location, ps.item, ps.amount);
+            }
+            return;
+        }
+        for (final PendingStack ps : overflow) {
+            this.add(mine, chunks, chunk, pd.location, ps.item, ps.amount);
+        }
+    }
+
+    private void spawn(final Location l, final ItemStack stack, int amount) {
+        final int max = stack.getMaxStackSize();
+        while (amount > 0) {
+            final int n = Math.min(amount, max);
+            l.getWorld().dropItemNaturally(l, stack.asQuantity(n));
+            amount -= n;
+        }
+    }
+
+    //adds to the live entities of this region with the same item, returns what is left
+    private int mergeInto(final Deque<Item> entities, final ItemStack stack, int amount) {
+        final Iterator<Item> it = entities.iterator();
+        while (it.hasNext() && amount > 0) {
+            final Item entity = it.next();
+            if (!Bukkit.isOwnedByCurrentRegion(entity)) {
+                continue;
+            }
+
+            final ItemStack current = entity.getItemStack();
+            if (!current.isSimilar(stack) || current.getAmount() >= current.getMaxStackSize()) {
+                continue;
+            }
+
+            final int n = Math.min(amount, current.getMaxStackSize() - current.getAmount());
+            entity.setItemStack(current.asQuantity(current.getAmount() + n));
+            amount -= n;
+        }
+        return amount;
+    }
+
+    public void clear(final RMine mine) {
+        this.pending.remove(mine);
+        this.live.remove(mine);
+    }
+
+    public void clear() {
+        this.pending.clear();
+        this.live.clear();
+    }
+
+    private static class Pending {
+        //similar drops are added up, the total can go over the max stack size until it is spawned
+        private final List<PendingStack> items = new ArrayList<>();
+        private Location location;
+        private boolean scheduled, closed;
+
+        private void add(final ItemStack item, final int amount) {
+            for (final PendingStack ps : this.items) {
+                if (ps.item.isSimilar(item)) {
+                    ps.amount += amount;
+                    return;
+                }
+            }
+            this.items.add(new PendingStack(item.clone(), amount));
+        }
+    }
+
+    private static class PendingStack {
+        private final ItemStack item;
+        private int amount;
+
+        private PendingStack(final ItemStack item, final int amount) {
+            this.item = item;
+            this.amount = amount;
+        }
+    }
+}
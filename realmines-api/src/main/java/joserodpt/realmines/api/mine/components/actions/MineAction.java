@@ -15,10 +15,12 @@ package joserodpt.realmines.api.mine.components.actions;
 
 import joserodpt.realmines.api.RealMinesAPI;
 import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.utils.CachedIcon;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 public abstract class MineAction {
@@ -47,8 +49,11 @@ public abstract class MineAction {
     }
 
     private String id, mineID;
+    //set when the action table of its item is compiled, avoids looking up the mine by name on every break
+    private volatile RMine mine;
     private Double chance = 0D;
     private boolean interactable = true;
+    private final CachedIcon icon = new CachedIcon();
 
     public MineAction() {
         this.interactable = false;
@@ -81,11 +86,17 @@ public abstract class MineAction {
     }
 
     public RMine getMine() {
-        return RealMinesAPI.getInstance().getMineManager().getMine(mineID);
+        final RMine mine = this.mine;
+        return mine != null ? mine : RealMinesAPI.getInstance().getMineManager().getMine(mineID);
+    }
+
+    void bind(final RMine mine) {
+        this.mine = mine;
     }
 
     public void setChance(Double d) {
         this.chance = d;
+        this.icon.invalidate();
     }
 
     public abstract void execute(final Player p, final Location loc);
@@ -96,12 +107,21 @@ public abstract class MineAction {
 
     public abstract Object getValue();
 
-    public abstract ItemStack getIcon();
+    //kept until the chance or the value of the action changes
+    public ItemStack getIcon() {
+        return this.icon.get(this::buildIcon);
+    }
+
+    protected void invalidateIcon() {
+        this.icon.invalidate();
+    }
+
+    protected abstract ItemStack buildIcon();
 
     public String getNewBreakActionCode() {
         final String characters = "abcdefghijklmnopqrstuvwxyz";
 
-        return "action-" + RealMinesAPI.getRand().ints(8, 0, characters.length())
+        return "action-" + ThreadLocalRandom.current().ints(8, 0, characters.length())
                 .mapToObj(characters::charAt)
                 .map(Object::toString)
                 .collect(Collectors.joining()) + "-" + System.currentTimeMillis() / 1000;
@@ -13,9 +13,10 @@ package joserodpt.realmines.api.mine.components.actions;
  * @link https://github.com/joserodpt/RealMines
  */
 
+import joserodpt.realmines.api.RealMinesAPI;
+import joserodpt.realmines.api.utils.CommandTemplate;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Text;
-import me.clip.placeholderapi.PlaceholderAPI;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -29,17 +30,18 @@ public class MineActionCommand extends MineAction {
 
     private final CommandSender cmdSndr = Bukkit.getServer().getConsoleSender();
     private String command;
+    private volatile CommandTemplate template;
 
     //for existing
     public MineActionCommand(final String id, final String mineID, final Double chance, final String command) {
         super(id, mineID, chance);
-        this.command = command;
+        this.setCommand(command);
     }
 
     //generate new
     public MineActionCommand(final String mineID, final Double chance, final String command) {
         super(mineID, chance);
-        this.command = command;
+        this.setCommand(command);
     }
 
     public void execute(final Player p, final Location l) {
@@ -47,11 +49,22 @@ public class MineActionCommand extends MineAction {
             return;
         }
 
-        String cmd2Exec = this.command.replace("%player%", p.getName()).replace("%blockloc%", Text.location2Command(l));
-        if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null) {
-            cmd2Exec = PlaceholderAPI.setPlaceholders(p, cmd2Exec);
+        //commands with %count% can be grouped
+        final BreakActionCoalescer coalescer = RealMinesAPI.getInstance().getBreakActionCoalescer();
+        if (coalescer.isEnabled() && this.isAggregatable()) {
+            coalescer.addCommand(p, this, l);
+            return;
         }
-        Bukkit.getServer().dispatchCommand(cmdSndr, cmd2Exec);
+
+        this.dispatch(p, l, 1);
+    }
+
+    public boolean isAggregatable() {
+        return this.template.hasCount();
+    }
+
+    public void dispatch(final Player p, final Location l, final int count) {
+        Bukkit.getServer().dispatchCommand(cmdSndr, this.template.apply(p, l, count));
     }
 
     @Override
@@ -70,12 +83,14 @@ public class MineActionCommand extends MineAction {
     }
 
     @Override
-    public ItemStack getIcon() {
+    protected ItemStack buildIcon() {
         return Items.createItem(Material.COMMAND_BLOCK, 1, getType().getDisplayName() + " &r&f- " + Text.formatPercentages(super.getChance() / 100) + "%", Arrays.asList("&fCommand: &b/" + this.command, "", "&b&nLeft-Click&r&f to change the chance.", "&e&nRight-Click&r&f to change the command.", "&c&nQ (Drop)&r&f to remove this action.", "&8ID: " + getID()));
     }
 
     public void setCommand(String s) {
         this.command = s;
+        this.template = CommandTemplate.compile(s == null ? "" : s);
+        super.invalidateIcon();
     }
 
     @Override
@@ -13,9 +13,10 @@ package joserodpt.realmines.api.mine.components.actions;
  * @link https://github.com/joserodpt/RealMines
  */
 
+import joserodpt.realmines.api.RealMinesAPI;
 import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.mine.components.RMineSettings;
-import joserodpt.realmines.api.utils.ItemStackSpringer;
+import joserodpt.realmines.api.utils.ItemCodec;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Text;
 import org.bukkit.Location;
@@ -24,7 +25,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Arrays;
-import java.util.Objects;
 
 public class MineActionDropItem extends MineAction {
 
@@ -47,7 +47,7 @@ public class MineActionDropItem extends MineAction {
             return;
         }
 
-        Objects.requireNonNull(l.getWorld()).dropItemNaturally(l, this.i.clone());
+        RealMinesAPI.getInstance().getDropAggregator().drop(super.getMine(), p, l, this.i);
 
         if (!super.getMine().getSettingBool(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES))
             TranslatableLine.MINE_BREAK_ACTION_DROP_ITEM.send(p);
@@ -65,11 +65,11 @@ public class MineActionDropItem extends MineAction {
 
     @Override
     public String getValue() {
-        return ItemStackSpringer.getItemSerializedJSON(this.i);
+        return ItemCodec.encode(this.i);
     }
 
     @Override
-    public ItemStack getIcon() {
+    protected ItemStack buildIcon() {
         return Items.createItem(Material.DROPPER, 1, getType().getDisplayName() + " &r&f- " + Text.formatPercentages(super.getChance() / 100) + "%", Arrays.asList("&fItem: &bx" + this.i.getAmount() + " " + Text.beautifyMaterialName(this.i.getType()), "", "&b&nLeft-Click&r&f to change the chance.", "&e&nRight-Click&r&f to change the item.", "&c&nQ (Drop)&r&f to remove this action.", "&8ID: " + getID()));
     }
 
@@ -77,7 +77,9 @@ public class MineActionDropItem extends MineAction {
         if (itemInMainHand == null || itemInMainHand.getType() == Material.AIR) {
             return;
         }
-        this.i = itemInMainHand;
+        //the stored item can be shared with other actions, so it must not be the player's own stack
+        this.i = itemInMainHand.clone();
+        super.invalidateIcon();
     }
 
     @Override
@@ -15,7 +15,8 @@ package joserodpt.realmines.api.mine.components.actions;
 
 import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.mine.components.RMineSettings;
-import joserodpt.realmines.api.utils.ItemStackSpringer;
+import joserodpt.realmines.api.utils.InventoryFit;
+import joserodpt.realmines.api.utils.ItemCodec;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Text;
 import org.bukkit.Location;
@@ -50,32 +51,12 @@ public class MineActionGiveItem extends MineAction {
             TranslatableLine.MINE_BREAK_ACTION_GIVE_ITEM.send(p);
         }
 
-        ItemStack item = getClonedItem();
-        if (hasSpace(p, item)) {
-            p.getInventory().addItem(item);
-        } else {
-            p.getWorld().dropItemNaturally(l, item);
+        //the stored item is never handed out, so it doesn't need to be cloned
+        if (InventoryFit.addOrDrop(p, this.i, l) > 0) {
             Text.send(p, "&cYour inventory is full. &fThe item was dropped!");
         }
     }
 
-    private boolean hasSpace(Player p, ItemStack item) {
-        for (int i = 0; i < p.getInventory().getContents().length; ++i) {
-            if (i == 36 || i == 37 || i == 38 || i == 39) { // skip armor slots
-                continue;
-            }
-
-            ItemStack slot = p.getInventory().getItem(i);
-            if (slot == null || slot.getType() == Material.AIR) {
-                return true;
-            } else if (slot.isSimilar(item) && (slot.getAmount() + item.getAmount() <= slot.getMaxStackSize())) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
     @Override
     public MineActionType getType() {
         return MineActionType.GIVE_ITEM;
@@ -89,11 +70,11 @@ public class MineActionGiveItem extends MineAction {
 
     @Override
     public String getValue() {
-        return ItemStackSpringer.getItemSerializedJSON(this.getClonedItem().clone());
+        return ItemCodec.encode(this.i);
     }
 
     @Override
-    public ItemStack getIcon() {
+    protected ItemStack buildIcon() {
         ItemStack tmp = this.getClonedItem();
         return Items.createItem(Material.CHEST, 1, getType().getDisplayName() + " &r&f- " + Text.formatPercentages(super.getChance() / 100) + "%", Arrays.asList("&fItem: &bx" + tmp.getAmount() + " " + Text.beautifyMaterialName(tmp.getType()), "", "&b&nLeft-Click&r&f to change the chance.", "&e&nRight-Click&r&f to change the item.", "&c&nQ (Drop)&r&f to remove this action.", "&8ID: " + getID()));
     }
@@ -103,6 +84,7 @@ public class MineActionGiveItem extends MineAction {
             return;
         }
         this.i = itemInMainHand.clone();
+        super.invalidateIcon();
     }
 
     @Override
@@ -46,6 +46,12 @@ public class MineActionMoney extends MineAction {
             return;
         }
 
+        final BreakActionCoalescer coalescer = RealMinesAPI.getInstance().getBreakActionCoalescer();
+        if (coalescer.isEnabled()) {
+            coalescer.addMoney(p, money, !super.getMine().getSettingBool(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES));
+            return;
+        }
+
         if (RealMinesAPI.getInstance().getEconomy() != null) {
             RealMinesAPI.getInstance().getEconomy().depositPlayer(p, money);
             if (!super.getMine().getSettingBool(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES))
@@ -71,12 +77,13 @@ public class MineActionMoney extends MineAction {
     }
 
     @Override
-    public ItemStack getIcon() {
+    protected ItemStack buildIcon() {
         return Items.createItem(Material.EMERALD, 1, getType().getDisplayName() + " &r&f- " + Text.formatPercentages(super.getChance() / 100) + "%", Arrays.asList("&fAmount: &b" + Text.formatNumber(this.money), "", "&b&nLeft-Click&r&f to change the chance.", "&e&nRight-Click&r&f to change the amount.", "&c&nQ (Drop)&r&f to remove this action.", "&8ID: " + getID()));
     }
 
     public void setAmount(Double d) {
         this.money = d;
+        super.invalidateIcon();
     }
 
     @Override
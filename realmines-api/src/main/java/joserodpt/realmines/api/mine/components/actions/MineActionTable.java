@@ -0,0 +1,92 @@
+package joserodpt.realmines.api.mine.components.actions;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.mine.RMine;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+break actions of a mine item, compiled once for the break handling:
+- if every action has a chance above 99%, all of them run on every break
+- otherwise, the action with the lowest chance above the roll runs, found with a binary search over the sorted chances
+ */
+public final class MineActionTable {
+
+    public static final MineActionTable EMPTY = new MineActionTable(new MineAction[0], new MineAction[0], new double[0]);
+
+    private final MineAction[] always;
+    private final MineAction[] rolled;
+    private final double[] chances;
+
+    private MineActionTable(final MineAction[] always, final MineAction[] rolled, final double[] chances) {
+        this.always = always;
+        this.rolled = rolled;
+        this.chances = chances;
+    }
+
+    public static MineActionTable compile(final RMine mine, final List<MineAction> breakActions) {
+        if (breakActions == null || breakActions.isEmpty()) {
+            return EMPTY;
+        }
+
+        final MineAction[] actions = new ArrayList<>(breakActions).toArray(new MineAction[0]);
+        for (final MineAction action : actions) {
+            action.bind(mine);
+        }
+
+        if (Arrays.stream(actions).allMatch(action -> action.getChance() > 99)) {
+            return new MineActionTable(actions, new MineAction[0], new double[0]);
+        }
+
+        //stable sort, actions with the same chance keep their order
+        Arrays.sort(actions, Comparator.comparingDouble(MineAction::getChance));
+        final double[] chances = new double[actions.length];
+        for (int i = 0; i < actions.length; ++i) {
+            chances[i] = actions[i].getChance();
+        }
+        return new MineActionTable(new MineAction[0], actions, chances);
+    }
+
+    public boolean isEmpty() {
+        return this.always.length == 0 && this.rolled.length == 0;
+    }
+
+    //roll is between 0 and 100
+    public void execute(final Player p, final Block b, final double roll) {
+        for (final MineAction action : this.always) {
+            action.execute(p, b.getLocation());
+        }
+
+        //first chance strictly above the roll
+        int low = 0, high = this.chances.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.chances[mid] > roll) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        if (low < this.rolled.length) {
+            this.rolled[low].execute(p, b.getLocation());
+        }
+    }
+}
@@ -15,9 +15,12 @@ package joserodpt.realmines.api.mine.components.items;
 
 import joserodpt.realmines.api.config.RMLanguageConfig;
 import joserodpt.realmines.api.config.TranslatableLine;
+import joserodpt.realmines.api.mine.RMine;
 import joserodpt.realmines.api.mine.components.actions.MineAction;
+import joserodpt.realmines.api.mine.components.actions.MineActionTable;
 import joserodpt.realmines.api.mine.components.items.farm.MineFarmItem;
 import joserodpt.realmines.api.mine.types.farm.FarmItem;
+import joserodpt.realmines.api.utils.CachedIcon;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Text;
 import org.bukkit.Material;
@@ -37,6 +40,9 @@ public class MineItem {
     private Boolean disabledVanillaDrop = false;
     private Boolean disabledBlockMining = false;
     private List<MineAction> breakActions;
+    //compiled on the first break after a change
+    private volatile MineActionTable actionTable;
+    private final CachedIcon item = new CachedIcon();
 
     public MineItem() {
     }
@@ -70,6 +76,7 @@ public class MineItem {
 
     public void toggleVanillaBlockDrop() {
         this.disabledVanillaDrop = !this.areVanillaDropsDisabled();
+        this.item.invalidate();
     }
 
     public Boolean areVanillaDropsDisabled() {
@@ -78,13 +85,23 @@ public class MineItem {
 
     public void toggleBlockMining() {
         this.disabledBlockMining = !this.disabledBlockMining;
+        this.item.invalidate();
     }
 
     public Boolean isBlockMiningDisabled() {
         return this.disabledBlockMining;
     }
 
+    //the icon shown in the GUIs, kept until the item changes
     public ItemStack getItem() {
+        return this.item.get(this::buildItem);
+    }
+
+    protected void invalidateItem() {
+        this.item.invalidate();
+    }
+
+    protected ItemStack buildItem() {
         return Items.createItem(Material.DEAD_BUSH, 1, TranslatableLine.GUI_NO_BLOCKS_NAME.get(), RMLanguageConfig.file().getStringList("GUI.Items.No-Blocks.Description"));
     }
 
@@ -92,6 +109,21 @@ public class MineItem {
         return this.breakActions;
     }
 
+    public MineActionTable getActionTable(final RMine mine) {
+        MineActionTable table = this.actionTable;
+        if (table == null) {
+            table = MineActionTable.compile(mine, this.breakActions);
+            this.actionTable = table;
+        }
+        return table;
+    }
+
+    //the break actions or their chances changed
+    public void invalidateActionTable() {
+        this.actionTable = null;
+        this.item.invalidate();
+    }
+
     protected @NotNull List<String> getBreakActionsTextList() {
         return this.getBreakActions().stream().map(action -> "&7- " + action.getType().getShortName() + "&r&f: " + action.getValueString() + " &f(&e" + Text.formatPercentages(action.getChance() / 100) + "%&f)").collect(Collectors.toList());
     }
@@ -114,6 +146,7 @@ public class MineItem {
 
     public void setPercentage(Double d) {
         this.percentage = d;
+        this.item.invalidate();
     }
 
     public Type getType() {
@@ -35,7 +35,7 @@ public class MineSchematicItem extends MineItem {
     }
 
     @Override
-    public ItemStack getItem() {
+    protected ItemStack buildItem() {
         return Items.createItem(super.getMaterial(), 1, TranslatableLine.GUI_SCHEMATIC_BLOCK_NAME.setV1(TranslatableLine.ReplacableVar.MATERIAL.eq(Text.beautifyMaterialName(super.getMaterial()))).get() + (super.areVanillaDropsDisabled() ? " &c&lNo-DROP" : "") + (super.isBlockMiningDisabled() ? " &c&lUnbreakable" : ""), RMLanguageConfig.file().getStringList("GUI.Items.Mine-Block.Schematic-Block.Description")
                 .stream()
                 .map(Text::color)
@@ -64,10 +64,10 @@ public class MineFarmItem extends MineItem {
     }
 
     @Override
-    public ItemStack getItem() {
+    protected ItemStack buildItem() {
         return Items.createItem(super.getMaterial(), 1, TranslatableLine.GUI_FARM_ITEM_NAME.setV1(TranslatableLine.ReplacableVar.MATERIAL.eq(Text.beautifyMaterialName(this.fi.getIcon()))).setV2(TranslatableLine.ReplacableVar.AGE.eq(String.valueOf(this.getAge()))).get() + (super.areVanillaDropsDisabled() ? " &c&lNo-DROP" : "") + (super.isBlockMiningDisabled() ? " &c&lUnbreakable" : ""), RMLanguageConfig.file().getStringList("GUI.Items.Farm-Item.Description")
                 .stream()
-                .map(s -> Text.color(s.replaceAll("%percentage%", Text.formatPercentages(super.getPercentage()))))
+                .map(s -> Text.color(s.replace("%percentage%", Text.formatPercentages(super.getPercentage()))))
                 .collect(Collectors.toList()));
     }
 
@@ -87,6 +87,7 @@ public class MineFarmItem extends MineItem {
     public void addAge(int i) {
         if (this.getFarmItem().getFarmItemGrowth() != null) {
             this.age = Math.min(this.getFarmItem().getFarmItemGrowth().getMax(), Math.max(this.getFarmItem().getFarmItemGrowth().getMin(), age + i));
+            super.invalidateItem();
         }
     }
 }
\ No newline at end of file
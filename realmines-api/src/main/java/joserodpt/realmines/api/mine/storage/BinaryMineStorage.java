@@ -0,0 +1,399 @@
+package joserodpt.realmines.api.mine.storage;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.RealMinesAPI;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/*
+keeps every mine in a single append-only log (mines.db):
+- each top-level key of a mine config is its own record, so a save only appends the keys that changed
+- every record is checksummed, a torn or corrupt tail is cut off when the log is opened
+- the index (mine -> key -> position) lives in memory, and is saved to mines.idx on close so only the tail of the log is scanned on the next start
+- the log is rewritten without the replaced records once they take more space than the live ones
+ */
+public final class BinaryMineStorage implements MineStorage {
+
+    private static final int LOG_MAGIC = 0x524D4C47, INDEX_MAGIC = 0x524D4958, VERSION = 1;
+    private static final int HEADER = 8;
+    private static final byte PUT = 1, REMOVE_KEY = 2, REMOVE_MINE = 3;
+    private static final long COMPACT_THRESHOLD = 1 << 20;
+
+    private record Slot(long offset, int length, long stamp) {
+    }
+
+    private final File logFile, indexFile;
+    private final Map<String, LinkedHashMap<String, Slot>> index = new HashMap<>();
+    private FileChannel channel;
+    private long live, garbage;
+
+    public BinaryMineStorage(final File dataFolder) throws IOException {
+        this.logFile = new File(dataFolder, "mines.db");
+        this.indexFile = new File(dataFolder, "mines.idx");
+        this.open();
+        if (this.shouldCompact()) {
+            this.compact();
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.index.isEmpty();
+    }
+
+    @Override
+    public synchronized List<String> getMineNames() {
+        return new ArrayList<>(this.index.keySet());
+    }
+
+    @Override
+    public synchronized Entry read(final String mine) throws IOException {
+        final LinkedHashMap<String, Slot> slots = this.index.get(mine);
+        if (slots == null) {
+            return null;
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final Slot slot : slots.values()) {
+            out.write(this.readData(this.channel, slot));
+        }
+        return new Entry(out.toByteArray(), stamp(slots));
+    }
+
+    @Override
+    public synchronized long write(final String mine, final FileConfiguration config) throws IOException {
+        final LinkedHashMap<String, Slot> slots = this.index.computeIfAbsent(mine, k -> new LinkedHashMap<>());
+        final Set<String> keys = config.getKeys(false);
+        final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        final long base = this.channel.size();
+        final Map<String, Slot> changed = new LinkedHashMap<>();
+
+        for (final String key : keys) {
+            final YamlConfiguration part = new YamlConfiguration();
+            part.set(key, config.get(key));
+            final byte[] data = part.saveToString().getBytes(StandardCharsets.UTF_8);
+            final long stamp = checksum(data, 0, data.length);
+
+            final Slot old = slots.get(key);
+            if (old != null && old.stamp() == stamp && old.length() == data.length) {
+                continue;
+            }
+            final long offset = base + batch.size() + dataOffset(mine, key);
+            batch.write(encode(PUT, mine, key, data));
+            changed.put(key, new Slot(offset, data.length, stamp));
+        }
+        final List<String> removed = new ArrayList<>();
+        for (final String key : slots.keySet()) {
+            if (!keys.contains(key)) {
+                batch.write(encode(REMOVE_KEY, mine, key, new byte[0]));
+                removed.add(key);
+            }
+        }
+
+        if (batch.size() > 0) {
+            this.append(batch.toByteArray(), base);
+            changed.forEach((key, slot) -> this.put(slots, key, slot));
+            removed.forEach(key -> this.drop(slots.remove(key)));
+        }
+        return stamp(slots);
+    }
+
+    @Override
+    public synchronized boolean delete(final String mine) throws IOException {
+        final LinkedHashMap<String, Slot> slots = this.index.remove(mine);
+        if (slots == null) {
+            return false;
+        }
+        this.append(encode(REMOVE_MINE, mine, "", new byte[0]), this.channel.size());
+        slots.values().forEach(this::drop);
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            if (this.shouldCompact()) {
+                this.compact();
+            }
+            this.saveIndex();
+            this.channel.close();
+        } catch (final IOException e) {
+            RealMinesAPI.getInstance().getLogger().warning("Failed to close the mine storage: " + e.getMessage());
+        }
+    }
+
+    private void open() throws IOException {
+        this.channel = FileChannel.open(this.logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (this.channel.size() < HEADER) {
+            this.channel.truncate(0);
+            this.channel.write(ByteBuffer.allocate(HEADER).putInt(LOG_MAGIC).putInt(VERSION).flip(), 0);
+        } else {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER);
+            this.channel.read(header, 0);
+            if (header.getInt(0) != LOG_MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("mines.db is not a RealMines mine storage");
+            }
+        }
+
+        final long scanFrom = this.loadIndex();
+        final long size = this.channel.size();
+        if (scanFrom < size) {
+            final ByteBuffer tail = ByteBuffer.allocate(Math.toIntExact(size - scanFrom));
+            while (tail.hasRemaining() && this.channel.read(tail, scanFrom + tail.position()) >= 0) {
+                //fill the buffer
+            }
+            tail.flip();
+            this.scan(tail, scanFrom);
+        }
+    }
+
+    //replays the records of the log, stopping at the first one that is incomplete or fails its checksum
+    private void scan(final ByteBuffer buf, final long base) throws IOException {
+        while (buf.hasRemaining()) {
+            final int start = buf.position();
+            try {
+                final byte op = buf.get();
+                final String mine = readString(buf);
+                final String key = readString(buf);
+                final int length = buf.getInt();
+                if (length < 0 || length > buf.remaining()) {
+                    throw new BufferUnderflowException();
+                }
+                final int data = buf.position();
+                buf.position(data + length);
+                final long crc = buf.getLong();
+                if (crc != checksum(buf.array(), start, buf.position() - 8 - start)) {
+                    throw new BufferUnderflowException();
+                }
+
+                switch (op) {
+                    case PUT -> this.put(this.index.computeIfAbsent(mine, k -> new LinkedHashMap<>()), key,
+                            new Slot(base + data, length, checksum(buf.array(), data, length)));
+                    case REMOVE_KEY -> {
+                        final LinkedHashMap<String, Slot> slots = this.index.get(mine);
+                        if (slots != null) {
+                            this.drop(slots.remove(key));
+                        }
+                    }
+                    case REMOVE_MINE -> {
+                        final LinkedHashMap<String, Slot> slots = this.index.remove(mine);
+                        if (slots != null) {
+                            slots.values().forEach(this::drop);
+                        }
+                    }
+                    default -> throw new BufferUnderflowException();
+                }
+            } catch (final BufferUnderflowException e) {
+                RealMinesAPI.getInstance().getLogger().warning("mines.db has an incomplete or corrupt record at " + (base + start) + ", discarding it and everything after it.");
+                this.channel.truncate(base + start);
+                return;
+            }
+        }
+    }
+
+    private void put(final LinkedHashMap<String, Slot> slots, final String key, final Slot slot) {
+        this.drop(slots.put(key, slot));
+        this.live += slot.length();
+    }
+
+    private void drop(final Slot slot) {
+        if (slot != null) {
+            this.live -= slot.length();
+            this.garbage += slot.length();
+        }
+    }
+
+    private void append(final byte[] records, final long position) throws IOException {
+        final ByteBuffer buf = ByteBuffer.wrap(records);
+        long at = position;
+        while (buf.hasRemaining()) {
+            at += this.channel.write(buf, at);
+        }
+    }
+
+    private byte[] readData(final FileChannel from, final Slot slot) throws IOException {
+        final ByteBuffer buf = ByteBuffer.allocate(slot.length());
+        while (buf.hasRemaining()) {
+            if (from.read(buf, slot.offset() + buf.position()) < 0) {
+                throw new IOException("mines.db ended while reading a record");
+            }
+        }
+        return buf.array();
+    }
+
+    private boolean shouldCompact() {
+        return this.garbage > COMPACT_THRESHOLD && this.garbage > this.live;
+    }
+
+    //rewrites the log with only the live records
+    private void compact() throws IOException {
+        final File tmp = new File(this.logFile.getParentFile(), this.logFile.getName() + ".tmp");
+        final Map<String, LinkedHashMap<String, Slot>> compacted = new HashMap<>();
+        try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long position = out.write(ByteBuffer.allocate(HEADER).putInt(LOG_MAGIC).putInt(VERSION).flip(), 0);
+            for (final Map.Entry<String, LinkedHashMap<String, Slot>> mine : this.index.entrySet()) {
+                final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>();
+                for (final Map.Entry<String, Slot> key : mine.getValue().entrySet()) {
+                    final Slot slot = key.getValue();
+                    final ByteBuffer record = ByteBuffer.wrap(encode(PUT, mine.getKey(), key.getKey(), this.readData(this.channel, slot)));
+                    slots.put(key.getKey(), new Slot(position + dataOffset(mine.getKey(), key.getKey()), slot.length(), slot.stamp()));
+                    while (record.hasRemaining()) {
+                        position += out.write(record, position);
+                    }
+                }
+                compacted.put(mine.getKey(), slots);
+            }
+            out.force(true);
+        }
+
+        this.channel.close();
+        Files.move(tmp.toPath(), this.logFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.channel = FileChannel.open(this.logFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.index.clear();
+        this.index.putAll(compacted);
+        this.garbage = 0;
+        this.saveIndex();
+    }
+
+    private void saveIndex() throws IOException {
+        //the index points into the log, so the log has to be on disk before the index replaces the old one
+        this.channel.force(false);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ByteBuffer head = ByteBuffer.allocate(32).putInt(INDEX_MAGIC).putInt(VERSION).putLong(this.channel.size()).putLong(this.garbage).putInt(this.index.size());
+        bytes.write(head.array(), 0, head.position());
+        for (final Map.Entry<String, LinkedHashMap<String, Slot>> mine : this.index.entrySet()) {
+            writeString(bytes, mine.getKey());
+            bytes.write(ByteBuffer.allocate(4).putInt(mine.getValue().size()).array());
+            for (final Map.Entry<String, Slot> key : mine.getValue().entrySet()) {
+                writeString(bytes, key.getKey());
+                bytes.write(ByteBuffer.allocate(20).putLong(key.getValue().offset()).putInt(key.getValue().length()).putLong(key.getValue().stamp()).array());
+            }
+        }
+        final byte[] content = bytes.toByteArray();
+        bytes.write(ByteBuffer.allocate(8).putLong(checksum(content, 0, content.length)).array());
+
+        final File tmp = new File(this.indexFile.getParentFile(), this.indexFile.getName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer buf = ByteBuffer.wrap(bytes.toByteArray());
+            while (buf.hasRemaining()) {
+                out.write(buf);
+            }
+            out.force(true);
+        }
+        Files.move(tmp.toPath(), this.indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    //returns the position of the log to scan from, the whole log if the index is missing or doesn't match it
+    private long loadIndex() throws IOException {
+        if (!this.indexFile.exists()) {
+            return HEADER;
+        }
+
+        final ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(this.indexFile.toPath()));
+        //the index is only trusted once, it is saved again on close
+        Files.delete(this.indexFile.toPath());
+        try {
+            final int end = buf.limit() - 8;
+            if (end < 0 || buf.getLong(end) != checksum(buf.array(), 0, end) || buf.getInt() != INDEX_MAGIC || buf.getInt() != VERSION) {
+                return HEADER;
+            }
+            final long logLength = buf.getLong();
+            if (logLength > this.channel.size()) {
+                return HEADER;
+            }
+            this.garbage = buf.getLong();
+            final int mines = buf.getInt();
+            for (int i = 0; i < mines; ++i) {
+                final String mine = readString(buf);
+                final int keys = buf.getInt();
+                final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>();
+                for (int j = 0; j < keys; ++j) {
+                    final String key = readString(buf);
+                    final Slot slot = new Slot(buf.getLong(), buf.getInt(), buf.getLong());
+                    slots.put(key, slot);
+                    this.live += slot.length();
+                }
+                this.index.put(mine, slots);
+            }
+            return logLength;
+        } catch (final BufferUnderflowException e) {
+            this.index.clear();
+            this.live = 0;
+            this.garbage = 0;
+            return HEADER;
+        }
+    }
+
+    private static long stamp(final LinkedHashMap<String, Slot> slots) {
+        long stamp = 1;
+        for (final Slot slot : slots.values()) {
+            stamp = 31 * stamp + slot.stamp();
+        }
+        return stamp;
+    }
+
+    private static long checksum(final byte[] data, final int offset, final int length) {
+        final CRC32C crc = new CRC32C();
+        crc.update(data, offset, length);
+        return crc.getValue();
+    }
+
+    //position of the data inside a record, from its start
+    private static int dataOffset(final String mine, final String key) {
+        return 1 + 4 + mine.getBytes(StandardCharsets.UTF_8).length + 4 + key.getBytes(StandardCharsets.UTF_8).length + 4;
+    }
+
+    private static byte[] encode(final byte op, final String mine, final String key, final byte[] data) {
+        final byte[] m = mine.getBytes(StandardCharsets.UTF_8), k = key.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buf = ByteBuffer.allocate(1 + 4 + m.length + 4 + k.length + 4 + data.length + 8);
+        buf.put(op).putInt(m.length).put(m).putInt(k.length).put(k).putInt(data.length).put(data);
+        buf.putLong(checksum(buf.array(), 0, buf.position()));
+        return buf.array();
+    }
+
+    private static void writeString(final ByteArrayOutputStream out, final String s) {
+        final byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.write(ByteBuffer.allocate(4).putInt(b.length).array(), 0, 4);
+        out.write(b, 0, b.length);
+    }
+
+    private static String readString(final ByteBuffer buf) {
+        final int length = buf.getInt();
+        if (length < 0 || length > buf.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final String s = new String(buf.array(), buf.position(), length, StandardCharsets.UTF_8);
+        buf.position(buf.position() + length);
+        return s;
+    }
+}
@@ -0,0 +1,44 @@
+package joserodpt.realmines.api.mine.storage;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.IOException;
+import java.util.List;
+
+/*
+where the mine configs are kept, one YAML document per mine:
+- YAML: a file per mine in the mines folder (default)
+- BINARY: a single append-only log with an index, see BinaryMineStorage
+the stamp of an entry is a checksum of its contents, the same value is returned by read and by write
+ */
+public interface MineStorage {
+
+    record Entry(byte[] data, long stamp) {
+    }
+
+    List<String> getMineNames() throws IOException;
+
+    //null if the mine isn't stored
+    Entry read(String mine) throws IOException;
+
+    long write(String mine, FileConfiguration config) throws IOException;
+
+    //false if the mine wasn't stored
+    boolean delete(String mine) throws IOException;
+
+    default void close() {
+    }
+}
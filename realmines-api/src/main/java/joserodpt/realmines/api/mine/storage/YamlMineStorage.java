@@ -0,0 +1,76 @@
+package joserodpt.realmines.api.mine.storage;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.mine.RMine;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class YamlMineStorage implements MineStorage {
+
+    private final File folder;
+
+    public YamlMineStorage(final File folder) {
+        this.folder = folder;
+    }
+
+    public File getFolder() {
+        return this.folder;
+    }
+
+    @Override
+    public List<String> getMineNames() {
+        final List<String> names = new ArrayList<>();
+        final File[] files = this.folder.listFiles((dir, fileName) -> fileName.endsWith(".yml"));
+        if (files != null) {
+            for (final File file : files) {
+                names.add(file.getName().substring(0, file.getName().length() - 4));
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public Entry read(final String mine) throws IOException {
+        final File file = this.file(mine);
+        if (!file.exists()) {
+            return null;
+        }
+        final byte[] data = Files.readAllBytes(file.toPath());
+        return new Entry(data, RMine.configStamp(data));
+    }
+
+    @Override
+    public long write(final String mine, final FileConfiguration config) throws IOException {
+        final byte[] data = config.saveToString().getBytes(StandardCharsets.UTF_8);
+        Files.createDirectories(this.folder.toPath());
+        Files.write(this.file(mine).toPath(), data);
+        return RMine.configStamp(data);
+    }
+
+    @Override
+    public boolean delete(final String mine) throws IOException {
+        return Files.deleteIfExists(this.file(mine).toPath());
+    }
+
+    private File file(final String mine) {
+        return new File(this.folder, mine + ".yml");
+    }
+}
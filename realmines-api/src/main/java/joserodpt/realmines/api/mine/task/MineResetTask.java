@@ -13,15 +13,33 @@ package joserodpt.realmines.api.mine.task;
  * @link https://github.com/joserodpt/RealMines
  */
 
+import com.sk89q.worldedit.EditSession;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import joserodpt.realmines.api.RealMinesAPI;
-import org.bukkit.Bukkit;
+import joserodpt.realmines.api.config.RMConfig;
 import joserodpt.realmines.api.config.RPMineResetTasksConfig;
+import joserodpt.realmines.api.config.TranslatableLine;
+import joserodpt.realmines.api.event.OnMineGroupResetEvent;
 import joserodpt.realmines.api.mine.RMine;
-import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
-import java.util.concurrent.TimeUnit;
+import joserodpt.realmines.api.utils.Text;
+import joserodpt.realmines.api.utils.WorldEditUtils;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 public class MineResetTask {
@@ -29,13 +47,24 @@ public class MineResetTask {
     private final RealMinesAPI rm;
     private final String name;
     private final int delay;
-    private final List<RMine> mines = new ArrayList<>();
+    private boolean grouped;
+    //iterated by the timer while reloads swap the mines in it
+    private final List<RMine> mines = new CopyOnWriteArrayList<>();
+    private final Executor async;
     private ScheduledTask task;
+    //the running group reset, claimed with compareAndSet so timer and command resets never start two
+    private final AtomicReference<CompletableFuture<List<RMine>>> groupReset = new AtomicReference<>();
 
     public MineResetTask(final RealMinesAPI rm, final String name, final int delay, final Boolean nova) {
+        this(rm, name, delay, false, nova);
+    }
+
+    public MineResetTask(final RealMinesAPI rm, final String name, final int delay, final boolean grouped, final Boolean nova) {
         this.rm = rm;
         this.name = name;
         this.delay = delay;
+        this.grouped = grouped;
+        this.async = r -> Bukkit.getAsyncScheduler().runNow(rm.getPlugin(), t -> r.run());
         this.startTimer();
         if (nova) {
             this.save();
@@ -44,6 +73,7 @@ public class MineResetTask {
 
     private void save() {
         RPMineResetTasksConfig.file().set(this.name + ".Delay", this.delay);
+        RPMineResetTasksConfig.file().set(this.name + ".Grouped", this.grouped);
         RPMineResetTasksConfig.file().set(this.name + ".LinkedMines", this.mines.stream().map(RMine::getName).collect(Collectors.toList()));
 
         RPMineResetTasksConfig.save();
@@ -57,6 +87,11 @@ public class MineResetTask {
 
     public void startTimer() {
         this.task = Bukkit.getAsyncScheduler().runAtFixedRate(rm.getPlugin(), (ScheduledTask t) -> {
+            if (this.grouped) {
+                this.resetGroup(RMine.ResetCause.PLUGIN);
+                return;
+            }
+
             MineResetTask.this.mines.forEach(m -> {
                 org.bukkit.Bukkit.getRegionScheduler().execute(rm.getPlugin(), m.getPOS1(), () -> m.reset());
             });
@@ -64,6 +99,142 @@ public class MineResetTask {
 
     }
 
+    /*
+    resets all the linked mines as one operation:
+    - every mine is prepared on its own region (reset event, block set rotation, kicking players)
+    - the mines are filled ordered by world and chunk, sharing one edit session per world
+    - one announcement is sent for the whole group and OnMineGroupResetEvent is called at the end
+     */
+    public CompletableFuture<List<RMine>> resetGroup(final RMine.ResetCause cause) {
+        final CompletableFuture<List<RMine>> running = new CompletableFuture<>();
+        while (true) {
+            final CompletableFuture<List<RMine>> previous = this.groupReset.get();
+            if (previous != null && !previous.isDone()) {
+                //the previous group reset is still running
+                return previous;
+            }
+            if (this.groupReset.compareAndSet(previous, running)) {
+                break;
+            }
+        }
+
+        final long start = System.currentTimeMillis();
+        final List<CompletableFuture<RMine>> prepared = new ArrayList<>();
+        try {
+            for (final RMine m : this.getSortedMines()) {
+                final CompletableFuture<RMine> f = new CompletableFuture<>();
+                Bukkit.getRegionScheduler().execute(rm.getPlugin(), m.getPOS1(), () -> {
+                    try {
+                        f.complete(m.prepareReset(cause) ? m : null);
+                    } catch (Exception e) {
+                        rm.getLogger().warning("Error while preparing the reset of mine " + m.getName() + ": " + e.getMessage());
+                        f.complete(null);
+                    }
+                });
+                prepared.add(f);
+            }
+        } catch (RuntimeException e) {
+            //release the claim, otherwise no group reset could run again
+            running.completeExceptionally(e);
+            throw e;
+        }
+
+        CompletableFuture.allOf(prepared.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(v -> {
+                    final List<RMine> reset = prepared.stream().map(CompletableFuture::join).filter(Objects::nonNull).collect(Collectors.toList());
+                    return this.fillGroup(reset);
+                }, this.async)
+                .thenCompose(filled -> {
+                    final List<RMine> reset = new ArrayList<>(filled.keySet());
+                    final List<CompletableFuture<Void>> finished = new ArrayList<>();
+                    for (final Map.Entry<RMine, CompletableFuture<Void>> fill : filled.entrySet()) {
+                        final RMine m = fill.getKey();
+                        final CompletableFuture<Void> f = new CompletableFuture<>();
+                        Bukkit.getRegionScheduler().execute(rm.getPlugin(), m.getPOS1(), () -> {
+                            try {
+                                m.finishReset(false, fill.getValue());
+                            } catch (Exception e) {
+                                rm.getLogger().warning("Error while finishing the reset of mine " + m.getName() + ": " + e.getMessage());
+                            }
+                            f.complete(null);
+                        });
+                        finished.add(f);
+                    }
+                    return CompletableFuture.allOf(finished.toArray(new CompletableFuture[0])).thenApply(v -> reset);
+                })
+                .thenApplyAsync(reset -> {
+                    this.announceGroup(reset);
+                    Bukkit.getPluginManager().callEvent(new OnMineGroupResetEvent(this, reset, System.currentTimeMillis() - start));
+                    return reset;
+                }, this.async)
+                .whenComplete((reset, e) -> {
+                    if (e != null) {
+                        running.completeExceptionally(e);
+                    } else {
+                        running.complete(reset);
+                    }
+                });
+        return running;
+    }
+
+    private List<RMine> getSortedMines() {
+        //order by chunk locality so the edit sessions write neighbouring chunks one after the other
+        return this.mines.stream()
+                .filter(m -> m.getPOS1() != null && m.getWorld() != null)
+                .sorted(Comparator.comparing((RMine m) -> m.getWorld().getName())
+                        .thenComparingInt(m -> m.getPOS1().getBlockX() >> 4)
+                        .thenComparingInt(m -> m.getPOS1().getBlockZ() >> 4))
+                .collect(Collectors.toList());
+    }
+
+    //returns the fill of every mine, in order, completing once its blocks are in the world
+    private Map<RMine, CompletableFuture<Void>> fillGroup(final List<RMine> reset) {
+        final Map<RMine, CompletableFuture<Void>> filled = new LinkedHashMap<>();
+        if (!RMConfig.values().useWorldEditForBlockPlacement()) {
+            reset.forEach(m -> filled.put(m, m.fillContent()));
+            return filled;
+        }
+
+        final Map<World, List<RMine>> byWorld = reset.stream().collect(Collectors.groupingBy(RMine::getWorld, LinkedHashMap::new, Collectors.toList()));
+        byWorld.forEach((world, worldMines) -> {
+            try (EditSession editSession = WorldEditUtils.newEditSession(world)) {
+                for (final RMine m : worldMines) {
+                    try {
+                        filled.put(m, m.fillContent(editSession));
+                    } catch (Exception e) {
+                        rm.getLogger().warning("Error while filling mine " + m.getName() + " in reset task " + this.name + ": " + e.getMessage());
+                        filled.put(m, CompletableFuture.completedFuture(null));
+                    }
+                }
+            }
+        });
+        return filled;
+    }
+
+    private void announceGroup(final List<RMine> reset) {
+        final List<RMine> announced = reset.stream().filter(m -> !m.isSilent()).collect(Collectors.toList());
+        if (announced.isEmpty()) {
+            return;
+        }
+
+        if (RMConfig.values().broadcastResetMessageOnlyInWorld()) {
+            final Map<World, Component> messageByWorld = new HashMap<>();
+            announced.stream().collect(Collectors.groupingBy(RMine::getWorld, Collectors.mapping(RMine::getDisplayName, Collectors.joining("&f, "))))
+                    .forEach((world, names) -> messageByWorld.put(world, TranslatableLine.MINE_RESET_GROUP_ANNOUNCEMENT.setV1(TranslatableLine.ReplacableVar.MINE.eq(names)).component()));
+            for (final Player p : Bukkit.getOnlinePlayers()) {
+                p.getScheduler().run(rm.getPlugin(), (ScheduledTask t) -> {
+                    final Component message = messageByWorld.get(p.getWorld());
+                    if (message != null) {
+                        p.sendMessage(message);
+                    }
+                }, null);
+            }
+        } else {
+            final String names = announced.stream().map(RMine::getDisplayName).collect(Collectors.joining("&f, "));
+            Bukkit.broadcast(Text.component(Text.getPrefix() + TranslatableLine.MINE_RESET_GROUP_ANNOUNCEMENT.setV1(TranslatableLine.ReplacableVar.MINE.eq(names)).get()));
+        }
+    }
+
     public void addMine(final RMine m) {
         this.mines.add(m);
         this.save();
@@ -74,10 +245,28 @@ public class MineResetTask {
         this.save();
     }
 
+    //swaps a reloaded mine for its new instance, or drops it when null, without touching the task config
+    public void replaceMine(final RMine old, final RMine replacement) {
+        if (replacement == null) {
+            this.mines.remove(old);
+        } else {
+            this.mines.replaceAll(m -> m == old ? replacement : m);
+        }
+    }
+
     public String getName() {
         return this.name;
     }
 
+    public boolean isGrouped() {
+        return this.grouped;
+    }
+
+    public void setGrouped(final boolean grouped) {
+        this.grouped = grouped;
+        this.save();
+    }
+
     public void clearLinks() {
         this.mines.clear();
     }
@@ -43,7 +43,7 @@ public class MineTimer {
                 this.startTask(this.m.getResetValue(RMine.Reset.TIME));
             });
         }, (t) -> {
-            if (RMConfig.file().getStringList("RealMines.announceTimes") != null && RMConfig.file().getStringList("RealMines.announceTimes").contains(String.valueOf(count.getSecondsLeft()))) {
+            if (RMConfig.values().isAnnounceTime(count.getSecondsLeft())) {
                 if (this.m.isSilent()) return;
                 this.m.broadcastMessage(TranslatableLine.MINE_RESET_WARNING.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.m.getDisplayName())).setV2(TranslatableLine.ReplacableVar.TIME.eq(String.valueOf(count.getSecondsLeft()))).get());
             }
@@ -61,6 +61,12 @@ public class MineTimer {
             this.count.killTask();
     }
 
+    //continues a countdown saved in the runtime state of the mine
+    public void resume(final int secondsLeft) {
+        this.kill();
+        this.startTask(secondsLeft);
+    }
+
     public void restart() {
         this.kill();
         this.start();
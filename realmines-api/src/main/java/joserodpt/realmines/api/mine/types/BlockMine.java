@@ -13,6 +13,7 @@ package joserodpt.realmines.api.mine.types;
  * @link https://github.com/joserodpt/RealMines
  */
 
+import com.sk89q.worldedit.EditSession;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.function.pattern.RandomPattern;
 import com.sk89q.worldedit.math.BlockVector3;
@@ -35,6 +36,8 @@ import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
 
 public class BlockMine extends RMine {
     private final List<Material> sorted = new ArrayList<>();
@@ -57,28 +60,28 @@ public class BlockMine extends RMine {
 
     //after converting from old config to new config
     public BlockMine(String name, YamlConfiguration config) throws RMFailedToLoadException {
+        this(name, config, false);
+    }
+
+    //deferred: the loader fills the mine and updates its signs afterwards
+    public BlockMine(String name, YamlConfiguration config, boolean deferred) throws RMFailedToLoadException {
         super(name, config);
 
-        if (!RMConfig.file().getBoolean("RealMines.disableMineResetOnServerStart", false)) {
-            this.fillContent();
+        if (!deferred) {
+            if (!RMConfig.values().disableMineResetOnServerStart()) {
+                this.initialFill();
+            }
+            this.updateSigns();
         }
-        this.updateSigns();
     }
 
     @Override
-    public void fillContent() {
+    public CompletableFuture<Void> fillContent() {
+        CompletableFuture<Void> blocks = CompletableFuture.completedFuture(null);
         if (!super.getMineItems().isEmpty()) {
-            if (RMConfig.file().getBoolean("RealMines.useWorldEditForBlockPlacement")) {
+            if (RMConfig.values().useWorldEditForBlockPlacement()) {
                 try {
-                    //blocks
-                    RandomPattern randomPattern = new RandomPattern();
-
-                    super.getMineItems().values().stream().filter(mineItem -> mineItem.getPercentage() > 0)
-                            .forEach(mineBlock -> randomPattern.add(BukkitAdapter.adapt(mineBlock.getMaterial().createBlockData()).toBaseBlock(), mineBlock.getPercentage()));
-
-                    BlockVector3 point1 = BlockVector3.at(this.getMineCuboid().getPOS1().getX(), this.getMineCuboid().getPOS1().getY(), this.getMineCuboid().getPOS1().getZ());
-                    BlockVector3 point2 = BlockVector3.at(this.getMineCuboid().getPOS2().getX(), this.getMineCuboid().getPOS2().getY(), this.getMineCuboid().getPOS2().getZ());
-                    WorldEditUtils.setBlocks(new CuboidRegion(BukkitAdapter.adapt(this.getWorld()), point1, point2), randomPattern);
+                    blocks = WorldEditUtils.setBlocks(this.getRegion(), this.getRandomPattern());
                 } catch (Exception e) {
                     Bukkit.getLogger().severe("Error while setting blocks for mine: " + this.getName());
                     Bukkit.getLogger().warning("Error: " + e.getMessage());
@@ -87,10 +90,11 @@ public class BlockMine extends RMine {
             } else {
                 this.sortBlocks();
                 if (!super.getMineItems().isEmpty()) {
-                    Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> {
+                    final RandomGenerator random = this.newRandom();
+                    blocks = this.onMineRegion(() -> {
                         //blocks
                         for (Block block : this.getMineCuboid()) {
-                            Material set = this.getBlock();
+                            Material set = this.getBlock(random);
                             if (block.getType() != set) {
                                 block.setType(set);
                             }
@@ -99,7 +103,40 @@ public class BlockMine extends RMine {
                 }
             }
         }
-        super.fillFaces();
+        return CompletableFuture.allOf(blocks, super.fillFaces());
+    }
+
+    @Override
+    public CompletableFuture<Void> fillContent(final EditSession editSession) {
+        if (!RMConfig.values().useWorldEditForBlockPlacement()) {
+            return this.fillContent();
+        }
+
+        if (!super.getMineItems().isEmpty()) {
+            try {
+                editSession.setBlocks(this.getRegion(), this.getRandomPattern());
+            } catch (Exception e) {
+                Bukkit.getLogger().severe("Error while setting blocks for mine: " + this.getName());
+                Bukkit.getLogger().warning("Error: " + e.getMessage());
+            }
+        }
+        super.fillFaces(editSession);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private RandomPattern getRandomPattern() {
+        //blocks
+        RandomPattern randomPattern = new RandomPattern();
+
+        super.getMineItems().values().stream().filter(mineItem -> mineItem.getPercentage() > 0)
+                .forEach(mineBlock -> randomPattern.add(BukkitAdapter.adapt(mineBlock.getMaterial().createBlockData()).toBaseBlock(), mineBlock.getPercentage()));
+        return randomPattern;
+    }
+
+    private CuboidRegion getRegion() {
+        BlockVector3 point1 = BlockVector3.at(this.getMineCuboid().getPOS1().getX(), this.getMineCuboid().getPOS1().getY(), this.getMineCuboid().getPOS1().getZ());
+        BlockVector3 point2 = BlockVector3.at(this.getMineCuboid().getPOS2().getX(), this.getMineCuboid().getPOS2().getY(), this.getMineCuboid().getPOS2().getZ());
+        return new CuboidRegion(BukkitAdapter.adapt(this.getWorld()), point1, point2);
     }
 
 
@@ -122,10 +159,10 @@ public class BlockMine extends RMine {
         }
     }
 
-    private Material getBlock() {
+    private Material getBlock(final RandomGenerator random) {
         final Material m;
         if (!this.sorted.isEmpty()) {
-            m = this.sorted.get(RealMinesAPI.getRand().nextInt(this.sorted.size()));
+            m = this.sorted.get(random.nextInt(this.sorted.size()));
             this.sorted.remove(m);
         } else {
             m = Material.AIR;
@@ -134,21 +171,25 @@ public class BlockMine extends RMine {
     }
 
     public void removeMineBlockItem(final String blockSetKey, final MineItem mb) {
-        super.getBlockSet(blockSetKey).remove(mb);
-        this.saveData(MineData.BLOCKS);
+        this.getExecutor().execute(() -> {
+            super.getBlockSet(blockSetKey).remove(mb);
+            this.saveData(MineData.BLOCKS);
+        });
     }
 
     public void addItem(final String blockSetKey, final MineBlockItem mineBlock) {
-        RMBlockSet blockSet = this.getBlockSet(blockSetKey);
-        if (blockSet != null && !blockSet.contains(mineBlock)) {
-            blockSet.add(mineBlock);
-            this.saveData(MineData.BLOCKS);
-        }
+        this.getExecutor().execute(() -> {
+            RMBlockSet blockSet = this.getBlockSet(blockSetKey);
+            if (blockSet != null && !blockSet.contains(mineBlock)) {
+                blockSet.add(mineBlock);
+                this.saveData(MineData.BLOCKS);
+            }
+        });
     }
 
     @Override
     public void clearContents() {
-        if (RMConfig.file().getBoolean("RealMines.useWorldEditForBlockPlacement")) {
+        if (RMConfig.values().useWorldEditForBlockPlacement()) {
             BlockVector3 point1 = BlockVector3.at(this.getMineCuboid().getPOS1().getX(), this.getMineCuboid().getPOS1().getY(), this.getMineCuboid().getPOS1().getZ());
             BlockVector3 point2 = BlockVector3.at(this.getMineCuboid().getPOS2().getX(), this.getMineCuboid().getPOS2().getY(), this.getMineCuboid().getPOS2().getZ());
 
@@ -39,12 +39,14 @@ import joserodpt.realmines.api.utils.WorldEditUtils;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class SchematicMine extends RMine {
 
@@ -65,27 +67,42 @@ public class SchematicMine extends RMine {
 
     //after converting from old config to new config
     public SchematicMine(String name, YamlConfiguration config) throws RMFailedToLoadException {
+        this(name, config, false);
+    }
+
+    //deferred: the loader fills the mine and updates its signs afterwards
+    public SchematicMine(String name, YamlConfiguration config, boolean deferred) throws RMFailedToLoadException {
+        this(name, config, deferred, null);
+    }
+
+    //clipboard: already read with readSchematic on an I/O thread, null to read it here
+    public SchematicMine(String name, YamlConfiguration config, boolean deferred, Clipboard clipboard) throws RMFailedToLoadException {
         super(name, config);
 
         this.schematicFile = config.getString("schematic");
-        this.pasteClipboard = this.loadSchematic(schematicFile);
+        this.pasteClipboard = clipboard != null ? clipboard : this.loadSchematic(schematicFile);
 
-        if (!RMConfig.file().getBoolean("RealMines.disableMineResetOnServerStart", false)) {
-            this.fillContent();
-            this.processPastedBlocks();
+        if (!deferred) {
+            if (!RMConfig.values().disableMineResetOnServerStart()) {
+                this.initialFill();
+            }
+            this.updateSigns();
         }
-        this.updateSigns();
     }
 
     //new schematic mine
     public SchematicMine(String name, Location l, String schematicFile) throws RMFailedToLoadException {
+        this(name, l, schematicFile, null);
+    }
+
+    //clipboard: already read with readSchematic on an I/O thread, null to read it here
+    public SchematicMine(String name, Location l, String schematicFile, Clipboard clipboard) throws RMFailedToLoadException {
         super(name, l.getWorld());
 
         this.schematicFile = schematicFile;
-        this.getMineConfig().set("schematic", schematicFile);
         this.setPOS(l, null);
         this.saveConfig();
-        this.pasteClipboard = this.loadSchematic(schematicFile);
+        this.pasteClipboard = clipboard != null ? clipboard : this.loadSchematic(schematicFile);
 
         this.fillContent();
         this.processPastedBlocks();
@@ -128,11 +145,29 @@ public class SchematicMine extends RMine {
     }
 
     @Override
-    public void fillContent() {
+    public void initialFill() {
+        this.fillContent();
+        this.processPastedBlocks();
+    }
+
+    @Override
+    public CompletableFuture<Void> fillContent() {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
         org.bukkit.Bukkit.getAsyncScheduler().runNow(RealMinesAPI.getInstance().getPlugin(), t -> {
-            this.placeSchematic(this.pasteClipboard, this.getPOS1());
-            super.fillFaces();
+            try {
+                this.placeSchematic(this.pasteClipboard, this.getPOS1());
+            } finally {
+                super.fillFaces().whenComplete((v, e) -> done.complete(null));
+            }
         });
+        return done;
+    }
+
+    @Override
+    public CompletableFuture<Void> fillContent(final EditSession editSession) {
+        this.placeSchematic(this.pasteClipboard, this.getPOS1(), editSession);
+        super.fillFaces(editSession);
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -144,14 +179,28 @@ public class SchematicMine extends RMine {
         return this.schematicFile;
     }
 
+    @Override
+    protected void writeTypeConfig(final FileConfiguration config) {
+        config.set("schematic", this.schematicFile);
+    }
+
     //WORLD EDIT UTILS
     public Clipboard loadSchematic(final String name) {
+        return readSchematic(name);
+    }
+
+    //blocking, reads the whole clipboard from the plugin's schematics folder
+    public static Clipboard readSchematic(final String name) {
         final File folder = new File(RealMinesAPI.getInstance().getMineManager().getSchematicFolder(), "schematics");
         final File file = new File(folder, name);
 
         Clipboard clipboard = null;
 
         final ClipboardFormat format = ClipboardFormats.findByFile(file);
+        if (format == null) {
+            RealMinesAPI.getInstance().getPlugin().getLogger().severe("Failed to load schematic named " + name + ", its format is not supported.");
+            return null;
+        }
         try (final ClipboardReader reader = format.getReader(Files.newInputStream(file.toPath()))) {
             clipboard = reader.read();
         } catch (final IOException e) {
@@ -164,10 +213,16 @@ public class SchematicMine extends RMine {
 
     public void placeSchematic(final Clipboard clipboard, final Location loc) {
         if (clipboard != null) {
-            try {
-                final EditSession editSession = WorldEdit.getInstance().newEditSession(BukkitAdapter.adapt(loc.getWorld()));
-                editSession.setReorderMode(EditSession.ReorderMode.FAST);
+            final EditSession editSession = WorldEdit.getInstance().newEditSession(BukkitAdapter.adapt(loc.getWorld()));
+            editSession.setReorderMode(EditSession.ReorderMode.FAST);
+            this.placeSchematic(clipboard, loc, editSession);
+            editSession.flushSession();
+        }
+    }
 
+    public void placeSchematic(final Clipboard clipboard, final Location loc, final EditSession editSession) {
+        if (clipboard != null) {
+            try {
                 ClipboardHolder holder = new ClipboardHolder(clipboard);
                 Region region = clipboard.getRegion();
 
@@ -175,13 +230,12 @@ public class SchematicMine extends RMine {
                 Operation operation = holder
                         .createPaste(editSession)
                         .to(to)
-                        .ignoreAirBlocks(RMConfig.file().getBoolean("RealMines.ignoreAirBlocksSchematicPasting", true))
+                        .ignoreAirBlocks(RMConfig.values().ignoreAirBlocksSchematicPasting())
                         .copyBiomes(false)
                         .copyEntities(false)
                         .build();
 
                 Operations.complete(operation);
-                editSession.flushSession();
 
                 BlockVector3 clipboardOffset = clipboard.getRegion().getMinimumPoint().subtract(clipboard.getOrigin());
                 Vector3 min = to.toVector3().add(holder.getTransform().apply(clipboardOffset.toVector3()));
@@ -198,7 +252,7 @@ public class SchematicMine extends RMine {
     @Override
     public void clearContents() {
         org.bukkit.Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> {
-            if (RMConfig.file().getBoolean("RealMines.useWorldEditForBlockPlacement")) {
+            if (RMConfig.values().useWorldEditForBlockPlacement()) {
                 BlockVector3 point1 = BlockVector3.at(this.getMineCuboid().getPOS1().getX(), this.getMineCuboid().getPOS1().getY(), this.getMineCuboid().getPOS1().getZ());
                 BlockVector3 point2 = BlockVector3.at(this.getMineCuboid().getPOS2().getX(), this.getMineCuboid().getPOS2().getY(), this.getMineCuboid().getPOS2().getZ());
 
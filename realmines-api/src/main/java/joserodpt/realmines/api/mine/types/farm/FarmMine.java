@@ -34,12 +34,15 @@ import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
 
 public class FarmMine extends RMine {
 
     private final List<MineItem> sorted = new ArrayList<>();
-    private List<Block> mineGroundBlocks = new ArrayList<>();
+    private volatile List<Block> mineGroundBlocks = new ArrayList<>();
+    //the cuboid the ground blocks were found for
+    private volatile MineCuboid groundCuboid;
 
     //new mine
     public FarmMine(String name, World w, Location pos1, Location pos2) throws RMFailedToLoadException {
@@ -57,30 +60,36 @@ public class FarmMine extends RMine {
 
     //after converting from old config to new config
     public FarmMine(String name, YamlConfiguration config) throws RMFailedToLoadException {
+        this(name, config, false);
+    }
+
+    //deferred: the loader fills the mine and updates its signs afterwards
+    public FarmMine(String name, YamlConfiguration config, boolean deferred) throws RMFailedToLoadException {
         super(name, config);
 
-        if (!RMConfig.file().getBoolean("RealMines.disableMineResetOnServerStart", false)) {
-            this.fillContent();
+        if (!deferred) {
+            if (!RMConfig.values().disableMineResetOnServerStart()) {
+                this.initialFill();
+            }
+            this.updateSigns();
         }
-        this.updateSigns();
     }
 
-    @Override
-    public void setPOS(Location p1, Location p2) {
-        super.setPOS(p1, p2);
-        this.checkFarmBlocks();
-    }
+    //finds the blocks the crops are placed on, only on the region thread and again when the cuboid changes
+    private List<Block> getGroundBlocks() {
+        final MineCuboid cuboid = this.getMineCuboid();
+        if (cuboid == this.groundCuboid) {
+            return this.mineGroundBlocks;
+        }
 
-    private void checkFarmBlocks() {
-        //check farm blocks
+        final List<Block> ground = new ArrayList<>();
         if (!this.oneBlockHeight()) {
-            this.mineGroundBlocks.clear();
-            List<Block> underBlocks = new ArrayList<>(this.getMineCuboid().getFace(MineCuboid.CuboidDirection.Down).getBlocks());
+            List<Block> underBlocks = new ArrayList<>(cuboid.getFace(MineCuboid.CuboidDirection.Down).getBlocks());
             while (!underBlocks.isEmpty()) {
                 Block block = underBlocks.get(0);
                 Material upMat = block.getRelative(BlockFace.UP).getType();
                 if (block.getType() != Material.WATER && (upMat == Material.AIR || upMat == Material.SHORT_GRASS || upMat == Material.TALL_GRASS || FarmItem.getCrops().contains(upMat))) {
-                    this.mineGroundBlocks.add(block);
+                    ground.add(block);
                 } else {
                     if (block.getType() != Material.WATER) {
                         underBlocks.add(block.getRelative(BlockFace.UP));
@@ -89,6 +98,9 @@ public class FarmMine extends RMine {
                 underBlocks.remove(block);
             }
         }
+        this.mineGroundBlocks = ground;
+        this.groundCuboid = cuboid;
+        return ground;
     }
 
     @Override
@@ -96,36 +108,38 @@ public class FarmMine extends RMine {
         if (this.oneBlockHeight()) {
             Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> this.getMineCuboid().clear());
         } else {
-            Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> this.mineGroundBlocks.forEach(block -> block.getRelative(BlockFace.UP).setType(Material.AIR)));
+            Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> this.getGroundBlocks().forEach(block -> block.getRelative(BlockFace.UP).setType(Material.AIR)));
         }
     }
 
     @Override
-    public void fillContent() {
+    public CompletableFuture<Void> fillContent() {
         if (this.sorted == null) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
         this.sortCrops();
 
+        CompletableFuture<Void> crops = CompletableFuture.completedFuture(null);
         if (!super.getMineItems().isEmpty()) {
-            Bukkit.getRegionScheduler().execute(RealMinesAPI.getInstance().getPlugin(), this.getMineCuboid().getPOS1(), () -> {
+            final RandomGenerator random = this.newRandom();
+            crops = this.onMineRegion(() -> {
                 if (this.oneBlockHeight()) {
                     for (Block target : this.getMineCuboid()) {
-                        MineFarmItem fi = this.getFarmBlock();
+                        MineFarmItem fi = this.getFarmBlock(random);
                         Block under = target.getRelative(BlockFace.DOWN);
                         placeFarmItems(target, under, fi);
                     }
                 } else {
-                    for (Block under : this.mineGroundBlocks) {
+                    for (Block under : this.getGroundBlocks()) {
                         Block target = under.getRelative(BlockFace.UP);
-                        MineFarmItem fi = this.getFarmBlock();
+                        MineFarmItem fi = this.getFarmBlock(random);
                         placeFarmItems(target, under, fi);
                     }
                 }
             });
         }
 
-        super.fillFaces();
+        return CompletableFuture.allOf(crops, super.fillFaces());
     }
 
     private void placeFarmItems(Block target, Block under, MineFarmItem fi) {
@@ -178,9 +192,9 @@ public class FarmMine extends RMine {
         }
     }
 
-    private MineFarmItem getFarmBlock() {
+    private MineFarmItem getFarmBlock(final RandomGenerator random) {
         if (!sorted.isEmpty()) {
-            int randomIndex = new Random().nextInt(sorted.size());
+            int randomIndex = random.nextInt(sorted.size());
             return (MineFarmItem) sorted.remove(randomIndex);
         } else {
             return new MineFarmItem();
@@ -188,15 +202,19 @@ public class FarmMine extends RMine {
     }
 
     public void removeMineFarmItem(final String blockSetKey, final MineItem mb) {
-        super.getBlockSet(blockSetKey).remove(mb);
-        this.saveData(MineData.BLOCKS);
+        this.getExecutor().execute(() -> {
+            super.getBlockSet(blockSetKey).remove(mb);
+            this.saveData(MineData.BLOCKS);
+        });
     }
 
     public void addFarmItem(final String blockSetKey, final MineFarmItem mineFarmItem) {
-        RMBlockSet blockSet = this.getBlockSet(blockSetKey);
-        if (blockSet != null && !blockSet.contains(mineFarmItem)) {
-            blockSet.add(mineFarmItem);
-            this.saveData(MineData.BLOCKS);
-        }
+        this.getExecutor().execute(() -> {
+            RMBlockSet blockSet = this.getBlockSet(blockSetKey);
+            if (blockSet != null && !blockSet.contains(mineFarmItem)) {
+                blockSet.add(mineFarmItem);
+                this.saveData(MineData.BLOCKS);
+            }
+        });
     }
 }
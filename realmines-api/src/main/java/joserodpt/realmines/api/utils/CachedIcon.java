@@ -0,0 +1,55 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.config.RMLanguageConfig;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+ - Keeps a GUI icon until the state it shows changes or the language file is reloaded
+ - The stack is shared by every caller, copy it before changing it
+ */
+public final class CachedIcon {
+
+    private record Entry(long version, int language, int generation, ItemStack item) {
+    }
+
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile Entry entry;
+
+    public ItemStack get(final Supplier<ItemStack> builder) {
+        return this.get(0, builder);
+    }
+
+    //version: whatever the owner wants the icon to follow besides its own invalidate calls
+    public ItemStack get(final long version, final Supplier<ItemStack> builder) {
+        final int language = RMLanguageConfig.version();
+        final int generation = this.generation.get();
+        final Entry e = this.entry;
+        if (e != null && e.version() == version && e.language() == language && e.generation() == generation) {
+            return e.item();
+        }
+
+        final ItemStack item = builder.get();
+        this.entry = new Entry(version, language, generation, item);
+        return item;
+    }
+
+    public void invalidate() {
+        this.generation.incrementAndGet();
+    }
+}
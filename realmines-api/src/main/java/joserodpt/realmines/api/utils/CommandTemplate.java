@@ -0,0 +1,121 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.RealMinesAPI;
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+command split once into text and placeholder slots:
+- %player%, %blockloc% and %count% are filled in directly
+- PlaceholderAPI only runs if the command has other placeholders
+ */
+public final class CommandTemplate {
+
+    private static final String[] SLOTS = {"%player%", "%blockloc%", "%count%"};
+    private static final int PLAYER = 0, BLOCKLOC = 1, COUNT = 2;
+
+    private final String source;
+    //text parts, with the slot that follows each part (-1 for the last one)
+    private final String[] parts;
+    private final int[] slots;
+    private final int length;
+    private final boolean external;
+
+    private CommandTemplate(final String source, final String[] parts, final int[] slots, final boolean external) {
+        this.source = source;
+        this.parts = parts;
+        this.slots = slots;
+        this.external = external;
+
+        int length = 0;
+        for (final String part : parts) {
+            length += part.length();
+        }
+        this.length = length;
+    }
+
+    public static CommandTemplate compile(final String command) {
+        final List<String> parts = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+
+        int from = 0;
+        while (true) {
+            int next = -1, slot = -1;
+            for (int i = 0; i < SLOTS.length; ++i) {
+                final int at = command.indexOf(SLOTS[i], from);
+                if (at != -1 && (next == -1 || at < next)) {
+                    next = at;
+                    slot = i;
+                }
+            }
+
+            if (next == -1) {
+                parts.add(command.substring(from));
+                slots.add(-1);
+                break;
+            }
+
+            parts.add(command.substring(from, next));
+            slots.add(slot);
+            from = next + SLOTS[slot].length();
+        }
+
+        //a % pair left in the text is a placeholder from another plugin
+        final String text = String.join("", parts);
+        final int first = text.indexOf('%');
+        final boolean external = first != -1 && text.indexOf('%', first + 1) != -1;
+
+        return new CommandTemplate(command, parts.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray(), external);
+    }
+
+    public String getSource() {
+        return this.source;
+    }
+
+    public boolean hasCount() {
+        for (final int slot : this.slots) {
+            if (slot == COUNT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String apply(final Player p, final Location l, final int count) {
+        final StringBuilder sb = new StringBuilder(this.length + 32);
+        for (int i = 0; i < this.parts.length; ++i) {
+            sb.append(this.parts[i]);
+            switch (this.slots[i]) {
+                case PLAYER:
+                    sb.append(p.getName());
+                    break;
+                case BLOCKLOC:
+                    sb.append(l.getBlockX()).append(' ').append(l.getBlockY()).append(' ').append(l.getBlockZ());
+                    break;
+                case COUNT:
+                    sb.append(count);
+                    break;
+            }
+        }
+
+        final String cmd = sb.toString();
+        return this.external && RealMinesAPI.getInstance().hasPlaceholderAPI() ? PlaceholderAPI.setPlaceholders(p, cmd) : cmd;
+    }
+}
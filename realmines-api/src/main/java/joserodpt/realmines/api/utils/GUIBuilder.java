@@ -16,14 +16,10 @@ package joserodpt.realmines.api.utils;
 import org.bukkit.Bukkit;
 import org.bukkit.DyeColor;
 import org.bukkit.Material;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -33,7 +29,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
-public class GUIBuilder {
+public class GUIBuilder implements GUIHolder {
 
     /*
      * Modified and optimized version of AdvInventory Original author:
@@ -43,71 +39,32 @@ public class GUIBuilder {
      * versions: 1.8 and up
      */
 
-    private static final Map<UUID, GUIBuilder> inventories = new HashMap<>();
     private Inventory inv;
     private final Map<Integer, ClickRunnable> runnables = new HashMap<>();
-    private final UUID uuid;
 
     public GUIBuilder(final String name, final int size, final UUID uuid) {
         this(Text.color(name), size, uuid, null);
     }
 
     public GUIBuilder(final String name, final int size, final UUID uuid, final ItemStack placeholder) {
-        this.uuid = uuid;
         if (size == 0) {
             return;
         }
-        this.inv = Bukkit.createInventory(null, size, Text.color(name));
+        this.inv = Bukkit.createInventory(this, size, Text.color(name));
         if (placeholder != null) {
             for (int i = 0; i < size; ++i) {
                 this.inv.setItem(i, placeholder);
             }
         }
-        this.register();
-    }
-
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    final Player p = (Player) clicker;
-                    if (p != null) {
-                        final UUID uuid = p.getUniqueId();
-                        if (inventories.containsKey(uuid)) {
-                            final GUIBuilder current = inventories.get(uuid);
-                            if (!e.getInventory().getType().name()
-                                    .equalsIgnoreCase(current.getInventory().getType().name())) {
-                                return;
-                            }
-                            e.setCancelled(true);
-                            final int slot = e.getSlot();
-                            if (current.runnables.get(slot) != null) {
-                                current.runnables.get(slot).run(e);
-                            }
-                        }
-                    }
-                }
-            }
+    }
 
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unRegister();
-                    }
-                }
-            }
-        };
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
+        final int slot = e.getSlot();
+        if (this.runnables.get(slot) != null) {
+            this.runnables.get(slot).run(e);
+        }
     }
 
     public static ItemStack placeholder(final DyeColor d, final String n) {
@@ -118,6 +75,7 @@ public class GUIBuilder {
         return placeholder;
     }
 
+    @Override
     public Inventory getInventory() {
         return this.inv;
     }
@@ -147,25 +105,7 @@ public class GUIBuilder {
     }
 
     public void openInventory(final Player player) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = player.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = player.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                player.openInventory(inv);
-            }
-            this.register();
-        }
-    }
-
-    private void register() {
-        inventories.put(this.uuid, this);
-    }
-
-    private void unRegister() {
-        inventories.remove(this.uuid);
+        player.openInventory(this.inv);
     }
 
     public void addItem(final ClickRunnable clickRunnable, final ItemStack i, final int slot) {
@@ -0,0 +1,38 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+
+/*
+ - The only inventory listener RealMines registers
+ - Inventories from other plugins are dismissed with one holder type check
+ */
+public final class GUIDispatcher implements Listener {
+
+    @EventHandler
+    public void onClick(final InventoryClickEvent e) {
+        if (!(e.getInventory().getHolder(false) instanceof GUIHolder gui)) {
+            return;
+        }
+        if (!(e.getWhoClicked() instanceof Player p) || e.getCurrentItem() == null) {
+            return;
+        }
+
+        gui.onClick(e, p);
+    }
+}
@@ -0,0 +1,28 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+/*
+ - Every RealMines inventory is created with its GUI as the holder
+ - GUIDispatcher routes clicks to the holder, so a GUI lives exactly as long as its inventory
+ */
+public interface GUIHolder extends InventoryHolder {
+
+    //only called for players, and never for clicks outside the window
+    void onClick(InventoryClickEvent e, Player p);
+}
@@ -0,0 +1,77 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+/*
+gives items using one copy of the inventory storage:
+- first tops up the similar stacks, then fills the empty slots
+- only the amount that didn't fit is returned (or dropped)
+ */
+public final class InventoryFit {
+
+    private InventoryFit() {
+    }
+
+    //returns the amount that didn't fit
+    public static int add(final Inventory inv, final ItemStack item) {
+        if (item == null || item.getType() == Material.AIR || item.getAmount() <= 0) {
+            return 0;
+        }
+
+        final ItemStack[] storage = inv.getStorageContents();
+        final int max = Math.min(item.getMaxStackSize(), inv.getMaxStackSize());
+        int left = item.getAmount();
+
+        for (int i = 0; i < storage.length && left > 0; ++i) {
+            final ItemStack slot = storage[i];
+            if (slot == null || slot.getType() == Material.AIR || slot.getAmount() >= max || !slot.isSimilar(item)) {
+                continue;
+            }
+
+            final int add = Math.min(left, max - slot.getAmount());
+            slot.setAmount(slot.getAmount() + add);
+            inv.setItem(i, slot);
+            left -= add;
+        }
+
+        for (int i = 0; i < storage.length && left > 0; ++i) {
+            final ItemStack slot = storage[i];
+            if (slot != null && slot.getType() != Material.AIR) {
+                continue;
+            }
+
+            final int add = Math.min(left, max);
+            inv.setItem(i, item.asQuantity(add));
+            left -= add;
+        }
+
+        return left;
+    }
+
+    //gives the item to the player and drops what didn't fit at the location
+    //returns the amount that was dropped
+    public static int addOrDrop(final Player p, final ItemStack item, final Location l) {
+        final int left = add(p.getInventory(), item);
+        if (left > 0) {
+            p.getWorld().dropItemNaturally(l, item.asQuantity(left));
+        }
+        return left;
+    }
+}
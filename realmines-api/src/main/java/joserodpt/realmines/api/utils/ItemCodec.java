@@ -0,0 +1,69 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.config.RMConfig;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+stores the items of the break actions in the mine configs, in one of two formats:
+- JSON (readable, from ItemStackSpringer)
+- "b64:" followed by Paper's serializeAsBytes in Base64 (compact and much faster to read), used when compactItemStorage is on
+both formats are always readable, and identical decoded items are shared
+the items returned by decode are shared, they must be cloned before being changed
+ */
+public final class ItemCodec {
+
+    private static final String PREFIX = "b64:";
+    private static final Map<String, ItemStack> decoded = new ConcurrentHashMap<>();
+
+    private ItemCodec() {
+    }
+
+    public static ItemStack decode(final String data) {
+        ItemStack item = decoded.get(data);
+        if (item == null) {
+            item = read(data);
+            final ItemStack previous = decoded.putIfAbsent(data, item);
+            if (previous != null) {
+                item = previous;
+            }
+        }
+        return item;
+    }
+
+    //decodes a new item every time, without going through the shared ones
+    public static ItemStack read(final String data) {
+        return data.startsWith(PREFIX) ? ItemStack.deserializeBytes(Base64.getDecoder().decode(data.substring(PREFIX.length()))) : ItemStackSpringer.getItemDeSerializedJSON(data);
+    }
+
+    public static String encode(final ItemStack item) {
+        return encode(item, RMConfig.values().compactItemStorage());
+    }
+
+    public static String encode(final ItemStack item, final boolean compact) {
+        if (compact) {
+            return PREFIX + Base64.getEncoder().encodeToString(item.serializeAsBytes());
+        }
+        return ItemStackSpringer.getItemSerializedJSON(item);
+    }
+
+    public static void clearCache() {
+        decoded.clear();
+    }
+}
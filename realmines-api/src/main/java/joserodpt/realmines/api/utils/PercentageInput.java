@@ -15,31 +15,21 @@ package joserodpt.realmines.api.utils;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.plugin.java.JavaPlugin;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
-public class PercentageInput {
+public class PercentageInput implements GUIHolder {
 
-    private static Map<UUID, PercentageInput> inventories = new HashMap<>();
     private Inventory inv;
-    private final UUID uuid;
     private int percentage = 0;
     private PercentageInput.InputRunnable acceptTask;
     private JavaPlugin rm;
@@ -48,12 +38,9 @@ public class PercentageInput {
         this.percentage = initialPercentage;
         this.acceptTask = acceptTask;
         this.rm = rm;
-        this.uuid = as.getUniqueId();
-        this.inv = Bukkit.getServer().createInventory(null, InventoryType.DROPPER, Text.color("&8Percentage Selector"));
+        this.inv = Bukkit.getServer().createInventory(this, InventoryType.DROPPER, Text.color("&8Percentage Selector"));
 
         setInventory();
-
-        this.register();
     }
 
     public void setInventory() {
@@ -73,141 +60,90 @@ public class PercentageInput {
     }
 
     public void openInventory(Player target) {
-        Inventory inv = getInventory();
-        InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
+        target.openInventory(this.inv);
+    }
+
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
 
-            register();
+        if (e.getRawSlot() == 8) {
+            //rodar ação de sucesso
+            p.closeInventory();
+            p.getScheduler().runDelayed(this.rm, (ScheduledTask t) -> this.acceptTask.run(this.percentage), null, 3);
+            return;
         }
-    }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(InventoryClickEvent e) {
-                HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    Player p = (Player) clicker;
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        PercentageInput current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        e.setCancelled(true);
-
-                        if (e.getRawSlot() == 8) {
-                            //rodar ação de sucesso
-                            p.closeInventory();
-                            p.getScheduler().runDelayed(current.rm, (ScheduledTask t) -> current.acceptTask.run(current.percentage), null, 3);
-                            return;
-                        }
-
-                        if (e.getClick() == ClickType.DROP) {
-                            switch (e.getRawSlot()) {
-                                case 0:
-                                    --current.percentage;
-                                    break;
-                                case 1:
-                                    current.percentage -= 2;
-                                    break;
-                                case 2:
-                                    current.percentage -= 5;
-                                    break;
-                                case 3:
-                                    current.percentage -= 10;
-                                    break;
-                                case 4:
-                                    current.percentage -= 20;
-                                    break;
-                                case 5:
-                                    current.percentage -= 30;
-                                    break;
-                                case 6:
-                                    current.percentage -= 50;
-                                    break;
-                                case 7:
-                                    current.percentage -= 100;
-                                    break;
-                            }
-                            if (current.percentage < 0) {
-                                current.percentage = 0;
-                            }
-                        } else {
-                            switch (e.getRawSlot()) {
-                                case 0:
-                                    ++current.percentage;
-                                    break;
-                                case 1:
-                                    current.percentage += 2;
-                                    break;
-                                case 2:
-                                    current.percentage += 5;
-                                    break;
-                                case 3:
-                                    current.percentage += 10;
-                                    break;
-                                case 4:
-                                    current.percentage += 20;
-                                    break;
-                                case 5:
-                                    current.percentage += 30;
-                                    break;
-                                case 6:
-                                    current.percentage += 50;
-                                    break;
-                                case 7:
-                                    current.percentage += 100;
-                                    break;
-                            }
-                            if (current.percentage > 100) {
-                                current.percentage = 100;
-                            }
-                        }
-
-                        current.setInventory();
-                    }
-                }
+        if (e.getClick() == ClickType.DROP) {
+            switch (e.getRawSlot()) {
+                case 0:
+                    --this.percentage;
+                    break;
+                case 1:
+                    this.percentage -= 2;
+                    break;
+                case 2:
+                    this.percentage -= 5;
+                    break;
+                case 3:
+                    this.percentage -= 10;
+                    break;
+                case 4:
+                    this.percentage -= 20;
+                    break;
+                case 5:
+                    this.percentage -= 30;
+                    break;
+                case 6:
+                    this.percentage -= 50;
+                    break;
+                case 7:
+                    this.percentage -= 100;
+                    break;
             }
-
-            @EventHandler
-            public void onClose(InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    Player p = (Player) e.getPlayer();
-                    UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
-                }
+            if (this.percentage < 0) {
+                this.percentage = 0;
+            }
+        } else {
+            switch (e.getRawSlot()) {
+                case 0:
+                    ++this.percentage;
+                    break;
+                case 1:
+                    this.percentage += 2;
+                    break;
+                case 2:
+                    this.percentage += 5;
+                    break;
+                case 3:
+                    this.percentage += 10;
+                    break;
+                case 4:
+                    this.percentage += 20;
+                    break;
+                case 5:
+                    this.percentage += 30;
+                    break;
+                case 6:
+                    this.percentage += 50;
+                    break;
+                case 7:
+                    this.percentage += 100;
+                    break;
             }
-        };
+            if (this.percentage > 100) {
+                this.percentage = 100;
+            }
+        }
+
+        this.setInventory();
     }
 
+    @Override
     public Inventory getInventory() {
         return inv;
     }
 
-    private void register() {
-        inventories.put(this.uuid, this);
-    }
-
-    private void unregister() {
-        inventories.remove(this.uuid);
-    }
-
     @FunctionalInterface
     public interface InputRunnable {
         void run(int percentage);
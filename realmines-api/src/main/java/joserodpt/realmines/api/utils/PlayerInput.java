@@ -23,17 +23,17 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import java.util.concurrent.TimeUnit;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 public class PlayerInput implements Listener {
 
-    private static final Map<UUID, PlayerInput> inputs = new HashMap<>();
+    //chat is handled off the main thread, prompts nobody answers are dropped after a while
+    private static final SessionRegistry<PlayerInput> inputs = new SessionRegistry<>(1024, 5, TimeUnit.MINUTES, PlayerInput::stop);
     private final UUID uuid;
 
     private final List<String> texts = Text
@@ -51,6 +51,11 @@ public class PlayerInput implements Listener {
         this.runCancel = cancel;
         this.clearInput = clearInput;
         this.taskId = p.getScheduler().runAtFixedRate(RealMinesAPI.getInstance().getPlugin(), (ScheduledTask t) -> {
+            //also expires the prompt once its time is up
+            if (inputs.get(this.uuid) != this) {
+                t.cancel();
+                return;
+            }
             p.sendTitle(PlayerInput.this.texts.get(0), PlayerInput.this.texts.get(1), 0, 21, 0);
         }, null, 1, 20);
 
@@ -65,16 +70,28 @@ public class PlayerInput implements Listener {
                 final String input = event.getMessage();
                 final UUID uuid = p.getUniqueId();
 
-                if (inputs.containsKey(uuid)) {
+                final PlayerInput current = inputs.get(uuid);
+                if (current != null) {
                     event.setCancelled(true);
-                    handlePlayerInput(p, input, uuid);
+                    handlePlayerInput(p, input, current);
+                }
+            }
+
+            @EventHandler
+            public void onQuit(final PlayerQuitEvent event) {
+                final PlayerInput current = inputs.remove(event.getPlayer().getUniqueId());
+                if (current != null) {
+                    current.stop();
                 }
             }
         };
     }
 
-    private static void handlePlayerInput(final Player p, String input, final UUID uuid) {
-        final PlayerInput current = inputs.get(uuid);
+    private static void handlePlayerInput(final Player p, String input, final PlayerInput current) {
+        //a second message sent before the first one is handled is ignored
+        if (!inputs.remove(current.uuid, current)) {
+            return;
+        }
 
         if (current.clearInput) {
             input = ChatColor.stripColor(Text.color(input)).trim();
@@ -83,7 +100,6 @@ public class PlayerInput implements Listener {
         try {
             current.taskId.cancel();
             p.getScheduler().run(RealMinesAPI.getInstance().getPlugin(), (ScheduledTask t) -> p.sendTitle("", "", 0, 1, 0), null);
-            current.unregister();
             String cleanInput = ChatColor.stripColor(Text.color(input));
             if (input.equalsIgnoreCase("cancel")) {
                 TranslatableLine.SYSTEM_INPUT_CANCELLED.send(p);
@@ -101,8 +117,8 @@ public class PlayerInput implements Listener {
         inputs.put(this.uuid, this);
     }
 
-    private void unregister() {
-        inputs.remove(this.uuid);
+    private void stop() {
+        this.taskId.cancel();
     }
 
     @FunctionalInterface
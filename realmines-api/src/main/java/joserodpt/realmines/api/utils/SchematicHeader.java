@@ -0,0 +1,189 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+/*
+ - Dimensions and palette size of a Sponge (v2/v3) or MCEdit schematic, read straight from the NBT stream
+ - Block data is skipped without being decoded and reading stops as soon as the header is known
+ - MCEdit schematics have no palette, paletteSize is -1 for them
+ */
+public record SchematicHeader(Format format, int width, int height, int length, int paletteSize) {
+
+    public enum Format {
+        SPONGE_V2("Sponge v2"), SPONGE_V3("Sponge v3"), MCEDIT("MCEdit");
+
+        private final String displayName;
+
+        Format(final String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return this.displayName;
+        }
+    }
+
+    private static final int TAG_END = 0, TAG_BYTE_ARRAY = 7, TAG_STRING = 8, TAG_LIST = 9, TAG_COMPOUND = 10;
+
+    public long blocks() {
+        return (long) this.width * this.height * this.length;
+    }
+
+    public static boolean isSchematic(final String fileName) {
+        return fileName.endsWith(".schem") || fileName.endsWith(".schematic");
+    }
+
+    //null if the file is not a schematic this reader understands
+    public static SchematicHeader read(final File file) {
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file.toPath()))))) {
+            if (in.readByte() != TAG_COMPOUND) {
+                return null;
+            }
+            in.skipNBytes(in.readUnsignedShort());
+
+            final Scan scan = new Scan();
+            scan.schematic(in);
+            return scan.header();
+        } catch (final IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class Scan {
+        private int version = -1, width = -1, height = -1, length = -1, paletteSize = -1;
+        private boolean mcedit;
+
+        private boolean done() {
+            return this.width >= 0 && this.height >= 0 && this.length >= 0 && (this.paletteSize >= 0 || this.mcedit);
+        }
+
+        private SchematicHeader header() {
+            if (this.width < 0 || this.height < 0 || this.length < 0) {
+                return null;
+            }
+            if (this.mcedit) {
+                return new SchematicHeader(Format.MCEDIT, this.width, this.height, this.length, -1);
+            }
+            return new SchematicHeader(this.version >= 3 ? Format.SPONGE_V3 : Format.SPONGE_V2, this.width, this.height, this.length, this.paletteSize);
+        }
+
+        //returns true once the header is complete, the rest of the file is never read
+        private boolean schematic(final DataInputStream in) throws IOException {
+            int type;
+            while ((type = in.readByte()) != TAG_END) {
+                final String name = in.readUTF();
+                switch (name) {
+                    case "Width" -> this.width = readDimension(in, type);
+                    case "Height" -> this.height = readDimension(in, type);
+                    case "Length" -> this.length = readDimension(in, type);
+                    case "Version" -> {
+                        if (type == 3) {
+                            this.version = in.readInt();
+                        } else {
+                            skip(in, type);
+                        }
+                    }
+                    //v3 keeps everything inside a Schematic compound and the block palette inside Blocks
+                    case "Schematic", "Blocks" -> {
+                        if (type == TAG_COMPOUND) {
+                            if ("Blocks".equals(name)) {
+                                this.version = Math.max(this.version, 3);
+                            }
+                            if (this.schematic(in)) {
+                                return true;
+                            }
+                        } else {
+                            //MCEdit stores its block ids as a plain byte array
+                            this.mcedit |= type == TAG_BYTE_ARRAY;
+                            skip(in, type);
+                        }
+                    }
+                    case "Palette" -> {
+                        if (type == TAG_COMPOUND) {
+                            this.paletteSize = countEntries(in);
+                        } else {
+                            skip(in, type);
+                        }
+                    }
+                    case "Materials" -> {
+                        this.mcedit = true;
+                        skip(in, type);
+                    }
+                    default -> skip(in, type);
+                }
+                if (this.done()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static int readDimension(final DataInputStream in, final int type) throws IOException {
+        return switch (type) {
+            case 2 -> in.readUnsignedShort();
+            case 3 -> in.readInt();
+            default -> {
+                skip(in, type);
+                yield -1;
+            }
+        };
+    }
+
+    private static int countEntries(final DataInputStream in) throws IOException {
+        int count = 0;
+        int type;
+        while ((type = in.readByte()) != TAG_END) {
+            in.skipNBytes(in.readUnsignedShort());
+            skip(in, type);
+            ++count;
+        }
+        return count;
+    }
+
+    private static void skip(final DataInputStream in, final int type) throws IOException {
+        switch (type) {
+            case 1 -> in.skipNBytes(1);
+            case 2 -> in.skipNBytes(2);
+            case 3, 5 -> in.skipNBytes(4);
+            case 4, 6 -> in.skipNBytes(8);
+            case TAG_BYTE_ARRAY -> in.skipNBytes(in.readInt());
+            case TAG_STRING -> in.skipNBytes(in.readUnsignedShort());
+            case TAG_LIST -> {
+                final int elementType = in.readByte();
+                final int size = in.readInt();
+                for (int i = 0; i < size; ++i) {
+                    skip(in, elementType);
+                }
+            }
+            case TAG_COMPOUND -> {
+                int child;
+                while ((child = in.readByte()) != TAG_END) {
+                    in.skipNBytes(in.readUnsignedShort());
+                    skip(in, child);
+                }
+            }
+            case 11 -> in.skipNBytes(4L * in.readInt());
+            case 12 -> in.skipNBytes(8L * in.readInt());
+            default -> throw new IOException("Unknown NBT tag " + type);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.RealMinesAPI;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/*
+runs the submitted tasks one at a time, in submission order, without blocking the callers:
+- if nobody is running tasks, the caller runs its task right away (so uncontended edits stay synchronous)
+- if another thread is running tasks, the task is queued and that thread runs it next
+- tasks submitted from inside a running task run inline, as they already hold the executor
+a task can end up on any thread, so it may only touch the mine's own state and storage, never the world
+ */
+public class SerialExecutor implements Executor {
+
+    private final Supplier<String> name;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Thread> owner = new AtomicReference<>();
+
+    public SerialExecutor(final Supplier<String> name) {
+        this.name = name;
+    }
+
+    @Override
+    public void execute(final Runnable r) {
+        if (this.owner.get() == Thread.currentThread()) {
+            this.run(r);
+            return;
+        }
+
+        this.tasks.add(r);
+        this.drain();
+    }
+
+    public <T> CompletableFuture<T> submit(final Supplier<T> s) {
+        final CompletableFuture<T> f = new CompletableFuture<>();
+        this.execute(() -> {
+            try {
+                f.complete(s.get());
+            } catch (Exception e) {
+                f.completeExceptionally(e);
+            }
+        });
+        return f;
+    }
+
+    //for callers that read the result: waits until the task ran, after every task queued before it
+    public <T> T call(final Supplier<T> s) {
+        return this.submit(s).join();
+    }
+
+    private void drain() {
+        //re-check after releasing, a task may have been queued while this thread was leaving
+        while (!this.tasks.isEmpty() && this.owner.compareAndSet(null, Thread.currentThread())) {
+            try {
+                Runnable r;
+                while ((r = this.tasks.poll()) != null) {
+                    this.run(r);
+                }
+            } finally {
+                this.owner.set(null);
+            }
+        }
+    }
+
+    private void run(final Runnable r) {
+        try {
+            r.run();
+        } catch (Exception e) {
+            RealMinesAPI.getInstance().getLogger().severe("Error while running a task for " + this.name.get() + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
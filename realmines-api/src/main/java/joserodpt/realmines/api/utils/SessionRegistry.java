@@ -0,0 +1,128 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+ - Per player state that is not tied to an inventory, like chat input prompts
+ - Sessions expire after the given time and the registry never holds more than capacity entries
+ - onEvict runs for sessions dropped by expiry, capacity or replacement, not for explicit removes
+ */
+public class SessionRegistry<T> {
+
+    private record Session<T>(T value, long expiresAt) {
+        boolean expired(final long now) {
+            return now - this.expiresAt >= 0;
+        }
+    }
+
+    private final Map<UUID, Session<T>> sessions = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final long ttl;
+    private final Consumer<T> onEvict;
+
+    public SessionRegistry(final int capacity, final long ttl, final TimeUnit unit, final Consumer<T> onEvict) {
+        this.capacity = Math.max(1, capacity);
+        this.ttl = unit.toNanos(ttl);
+        this.onEvict = onEvict;
+    }
+
+    public void put(final UUID uuid, final T value) {
+        final long now = System.nanoTime();
+        if (this.sessions.size() >= this.capacity && !this.sessions.containsKey(uuid)) {
+            this.purge(now);
+            if (this.sessions.size() >= this.capacity) {
+                this.evictOldest();
+            }
+        }
+
+        final Session<T> old = this.sessions.put(uuid, new Session<>(value, now + this.ttl));
+        if (old != null && old.value() != value) {
+            this.onEvict.accept(old.value());
+        }
+    }
+
+    public T get(final UUID uuid) {
+        final Session<T> s = this.sessions.get(uuid);
+        if (s == null) {
+            return null;
+        }
+        if (s.expired(System.nanoTime())) {
+            this.evict(uuid, s);
+            return null;
+        }
+        return s.value();
+    }
+
+    public boolean contains(final UUID uuid) {
+        return this.get(uuid) != null;
+    }
+
+    public T remove(final UUID uuid) {
+        final Session<T> s = this.sessions.remove(uuid);
+        return s == null ? null : s.value();
+    }
+
+    //only removes the session if it still belongs to value, a newer one is left alone
+    public boolean remove(final UUID uuid, final T value) {
+        final Session<T> s = this.sessions.get(uuid);
+        return s != null && s.value() == value && this.sessions.remove(uuid, s);
+    }
+
+    public void purgeExpired() {
+        this.purge(System.nanoTime());
+    }
+
+    public void clear() {
+        this.sessions.forEach(this::evict);
+    }
+
+    public int size() {
+        return this.sessions.size();
+    }
+
+    private void purge(final long now) {
+        this.sessions.forEach((uuid, s) -> {
+            if (s.expired(now)) {
+                this.evict(uuid, s);
+            }
+        });
+    }
+
+    private void evictOldest() {
+        UUID oldest = null;
+        Session<T> oldestSession = null;
+        for (final Map.Entry<UUID, Session<T>> entry : this.sessions.entrySet()) {
+            if (oldestSession == null || entry.getValue().expiresAt() - oldestSession.expiresAt() < 0) {
+                oldest = entry.getKey();
+                oldestSession = entry.getValue();
+            }
+        }
+        if (oldest != null) {
+            this.evict(oldest, oldestSession);
+        }
+    }
+
+    private void evict(final UUID uuid, final Session<T> s) {
+        //whoever removes the session runs its eviction, so it never runs twice
+        if (this.sessions.remove(uuid, s)) {
+            this.onEvict.accept(s.value());
+        }
+    }
+}
@@ -15,6 +15,8 @@ package joserodpt.realmines.api.utils;
 
 import com.google.common.base.Strings;
 import joserodpt.realmines.api.config.RMConfig;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -49,6 +51,15 @@ public class Text {
         p.sendMessage(getPrefix() + Text.color("&f" + string));
     }
 
+    //the same text Text.send would show, as a component that can be sent to many players
+    public static Component prefixedComponent(final String string) {
+        return component(getPrefix() + Text.color("&f" + string));
+    }
+
+    public static Component component(final String string) {
+        return LegacyComponentSerializer.legacySection().deserialize(color(string));
+    }
+
     public static String formatNumber(double number) {
         String[] suffixes = {"", "k", "M", "T"};
         int index = 0;
@@ -101,7 +112,7 @@ public class Text {
     }
 
     public static String getPrefix() {
-        return color(RMConfig.file().getString("RealMines.Prefix"));
+        return RMConfig.values().prefix();
     }
 
     public static String formatEpoch(long l) {
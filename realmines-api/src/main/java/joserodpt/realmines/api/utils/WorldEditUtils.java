@@ -25,9 +25,13 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 
+import java.util.concurrent.CompletableFuture;
+
 public class WorldEditUtils {
 
-    public static void setBlocks(Region region, Pattern pattern) {
+    //the future completes once the edit session is closed and the blocks are in the world
+    public static CompletableFuture<Void> setBlocks(Region region, Pattern pattern) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
         Bukkit.getAsyncScheduler().runNow(RealMinesAPI.getInstance().getPlugin(), t -> {
             try (EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder()
                     .world(region.getWorld())
@@ -36,8 +40,20 @@ public class WorldEditUtils {
                 editSession.setBlocks(region, pattern);
             } catch (MaxChangedBlocksException exception) {
                 Bukkit.getLogger().warning("Error while setting blocks for RealMines: " + exception.getMessage());
+            } finally {
+                done.complete(null);
             }
         });
+        return done;
+    }
+
+    // edit session shared by several mines of the same world, the caller has to close it
+    public static EditSession newEditSession(World world) {
+        EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder()
+                .world(BukkitAdapter.adapt(world))
+                .build();
+        editSession.setReorderMode(EditSession.ReorderMode.FAST);
+        return editSession;
     }
 
     // blockvector3 to location function
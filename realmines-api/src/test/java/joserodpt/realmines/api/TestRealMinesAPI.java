@@ -0,0 +1,151 @@
+package joserodpt.realmines.api;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.managers.MineManagerAPI;
+import joserodpt.realmines.api.managers.MineResetTasksManagerAPI;
+import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.mine.components.actions.BreakActionCoalescer;
+import joserodpt.realmines.api.mine.components.actions.DropAggregator;
+import joserodpt.realmines.api.mine.storage.MineStorage;
+import net.milkbowl.vault.economy.Economy;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+//the api instance of the tests, the mines are kept in memory and their writes are counted
+public final class TestRealMinesAPI extends RealMinesAPI {
+
+    private final MemoryMineStorage storage = new MemoryMineStorage();
+    private final Logger logger = Logger.getLogger("RealMines");
+
+    //the instance can only be set once per jvm, every test shares it
+    public static synchronized TestRealMinesAPI install() {
+        if (RealMinesAPI.getInstance() == null) {
+            RealMinesAPI.setInstance(new TestRealMinesAPI());
+        }
+        final TestRealMinesAPI api = (TestRealMinesAPI) RealMinesAPI.getInstance();
+        api.storage.clear();
+        return api;
+    }
+
+    public MemoryMineStorage getMemoryStorage() {
+        return this.storage;
+    }
+
+    @Override
+    public JavaPlugin getPlugin() {
+        return null;
+    }
+
+    @Override
+    public Logger getLogger() {
+        return this.logger;
+    }
+
+    @Override
+    public MineManagerAPI getMineManager() {
+        return null;
+    }
+
+    @Override
+    public MineResetTasksManagerAPI getMineResetTasksManager() {
+        return null;
+    }
+
+    @Override
+    public MineStorage getMineStorage() {
+        return this.storage;
+    }
+
+    @Override
+    public boolean hasNewUpdate() {
+        return false;
+    }
+
+    @Override
+    public void reload() {
+    }
+
+    @Override
+    public Economy getEconomy() {
+        return null;
+    }
+
+    @Override
+    public BreakActionCoalescer getBreakActionCoalescer() {
+        return null;
+    }
+
+    @Override
+    public DropAggregator getDropAggregator() {
+        return null;
+    }
+
+    @Override
+    public boolean hasPlaceholderAPI() {
+        return false;
+    }
+
+    @Override
+    public String getVersion() {
+        return "test";
+    }
+
+    public static final class MemoryMineStorage implements MineStorage {
+
+        private final Map<String, byte[]> mines = new ConcurrentHashMap<>();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public List<String> getMineNames() {
+            return new ArrayList<>(this.mines.keySet());
+        }
+
+        @Override
+        public Entry read(final String mine) {
+            final byte[] data = this.mines.get(mine);
+            return data == null ? null : new Entry(data, RMine.configStamp(data));
+        }
+
+        @Override
+        public long write(final String mine, final FileConfiguration config) {
+            final byte[] data = config.saveToString().getBytes(StandardCharsets.UTF_8);
+            this.mines.put(mine, data);
+            this.writes.incrementAndGet();
+            return RMine.configStamp(data);
+        }
+
+        @Override
+        public boolean delete(final String mine) {
+            return this.mines.remove(mine) != null;
+        }
+
+        public int getWrites() {
+            return this.writes.get();
+        }
+
+        void clear() {
+            this.mines.clear();
+            this.writes.set(0);
+        }
+    }
+}
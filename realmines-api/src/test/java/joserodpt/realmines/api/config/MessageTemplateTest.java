@@ -0,0 +1,67 @@
+package joserodpt.realmines.api.config;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+
+import org.bukkit.ChatColor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageTemplateTest {
+
+    @Test
+    void linesWithoutPlaceholdersAreOnlyColoured() {
+        assertEquals(ChatColor.GREEN + "Mine reset!", MessageTemplate.compile("&aMine reset!").format());
+    }
+
+    @Test
+    void replacesEveryPlaceholder() {
+        final MessageTemplate template = MessageTemplate.compile("%mine% has %remainingblocks%/%totalblocks% blocks, %mine%!");
+
+        assertEquals("quarry has 10/50 blocks, quarry!", template.format(
+                TranslatableLine.ReplacableVar.TOTALBLOCKS.eq("50"),
+                TranslatableLine.ReplacableVar.MINE.eq("quarry"),
+                TranslatableLine.ReplacableVar.REMAININGBLOCKS.eq("10")));
+    }
+
+    @Test
+    void placeholdersWithoutAValueAreKept() {
+        final MessageTemplate template = MessageTemplate.compile("%mine% resets in %time%");
+
+        assertEquals("quarry resets in %time%", template.format(TranslatableLine.ReplacableVar.MINE.eq("quarry")));
+        assertEquals("%mine% resets in %time%", template.format());
+    }
+
+    @Test
+    void unknownPlaceholdersAndLonePercentsAreText() {
+        final MessageTemplate template = MessageTemplate.compile("100% of %unknown% at %value%%");
+
+        assertEquals("100% of %unknown% at 5%", template.format(TranslatableLine.ReplacableVar.VALUE.eq("5")));
+    }
+
+    @Test
+    void colourCodesAroundAndInsideValuesAreTranslated() {
+        final MessageTemplate template = MessageTemplate.compile("&e%mine%&f reset");
+
+        assertEquals(ChatColor.YELLOW + "" + ChatColor.AQUA + "Quarry" + ChatColor.WHITE + " reset",
+                template.format(TranslatableLine.ReplacableVar.MINE.eq("&bQuarry")));
+    }
+
+    @Test
+    void nullLinesFormatEmpty() {
+        assertEquals("", MessageTemplate.compile(null).format());
+        assertEquals("", MessageTemplate.compile("").format(TranslatableLine.ReplacableVar.MINE.eq("quarry")));
+    }
+}
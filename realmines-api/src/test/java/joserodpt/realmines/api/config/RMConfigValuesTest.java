@@ -0,0 +1,144 @@
+package joserodpt.realmines.api.config;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.EntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMConfigValuesTest {
+
+    @BeforeEach
+    void setUp() {
+        //invalid entries are logged through the server logger
+        MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void emptyConfigUsesTheDefaults() throws IOException {
+        final RMConfigValues values = RMConfigValues.from(load(""));
+
+        assertEquals("", values.prefix());
+        assertFalse(values.teleportPlayers());
+        assertFalse(values.useWorldEditForBlockPlacement());
+        assertTrue(values.ignoreAirBlocksSchematicPasting());
+        assertFalse(values.coalesceBreakActions());
+        assertEquals(40, values.coalesceBreakActionsTicks());
+        assertEquals("NATURAL", values.dropItemsMode());
+        assertEquals(20, values.dropItemsWindowTicks());
+        assertEquals(64, values.dropItemsEntityBudget());
+        assertFalse(values.sweepEntitiesOnReset());
+        assertTrue(values.sweepEntityTypes().isEmpty());
+        assertFalse(values.compactItemStorage());
+        assertEquals(10, values.initialFillsPerTick());
+        assertFalse(values.saveRuntimeState());
+        assertEquals(300, values.runtimeStateSaveInterval());
+        assertFalse(values.watchMineFiles());
+        assertEquals(500, values.watchMineFilesDebounceMillis());
+        assertEquals("YAML", values.mineStorage());
+        assertEquals(0, values.announceTimes().toArray().length);
+    }
+
+    @Test
+    void readsTheConfiguredValues() throws IOException {
+        final RMConfigValues values = RMConfigValues.from(load(String.join("\n",
+                "RealMines:",
+                "  Prefix: '&6[Mines] '",
+                "  useWorldEditForBlockPlacement: true",
+                "  dropItemsMode: aggregate",
+                "  mineStorage: binary",
+                "  saveRuntimeState: true",
+                "")));
+
+        assertEquals(ChatColor.GOLD + "[Mines] ", values.prefix());
+        assertTrue(values.useWorldEditForBlockPlacement());
+        assertEquals("AGGREGATE", values.dropItemsMode());
+        assertEquals("BINARY", values.mineStorage());
+        assertTrue(values.saveRuntimeState());
+    }
+
+    @Test
+    void clampsTheIntervals() throws IOException {
+        final RMConfigValues values = RMConfigValues.from(load(String.join("\n",
+                "RealMines:",
+                "  coalesceBreakActionsTicks: 0",
+                "  initialFillsPerTick: -3",
+                "  watchMineFilesDebounceMillis: 10",
+                "")));
+
+        assertEquals(1, values.coalesceBreakActionsTicks());
+        assertEquals(1, values.initialFillsPerTick());
+        assertEquals(50, values.watchMineFilesDebounceMillis());
+    }
+
+    @Test
+    void skipsInvalidEntityTypesAndPlayers() throws IOException {
+        final RMConfigValues values = RMConfigValues.from(load(String.join("\n",
+                "RealMines:",
+                "  sweepEntityTypes:",
+                "    - item",
+                "    - NOT_AN_ENTITY",
+                "    - PLAYER",
+                "    - ARROW",
+                "")));
+
+        assertEquals(Set.of(EntityType.ITEM, EntityType.ARROW), values.sweepEntityTypes());
+    }
+
+    @Test
+    void announceTimesAreSortedAndSearchable() throws IOException {
+        final RMConfigValues values = RMConfigValues.from(load(String.join("\n",
+                "RealMines:",
+                "  announceTimes:",
+                "    - 30",
+                "    - 5",
+                "    - soon",
+                "    - ' 10 '",
+                "    - 5",
+                "")));
+
+        assertArrayEquals(new int[]{5, 10, 30}, values.announceTimes().toArray());
+        assertTrue(values.isAnnounceTime(10));
+        assertFalse(values.isAnnounceTime(20));
+
+        //the snapshot can't be changed through its accessors
+        values.announceTimes().toArray()[0] = 20;
+        assertFalse(values.isAnnounceTime(20));
+        assertEquals(values, RMConfigValues.from(load("RealMines:\n  announceTimes:\n    - 10\n    - 30\n    - 5\n")));
+    }
+
+    private static YamlDocument load(final String yaml) throws IOException {
+        return YamlDocument.create(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,176 @@
+package joserodpt.realmines.api.mine;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.TestRealMinesAPI;
+import joserodpt.realmines.api.mine.types.BlockMine;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class RMineConfigTest {
+
+    private static final String MINE = String.join("\n",
+            "name: quarry",
+            "type: BLOCKS",
+            "world: world",
+            "icon: DIAMOND_ORE",
+            "displayName: '&bQuarry'",
+            "color: BLUE",
+            "pos1: 0;60;0",
+            "pos2: 9;64;9",
+            "teleport: 5;65;5;90.0;0.0",
+            "reset:",
+            "  silent: true",
+            "  commands:",
+            "  - say reset",
+            "  percentage:",
+            "    active: true",
+            "    value: 20",
+            "  time:",
+            "    active: false",
+            "    value: 600",
+            "  notes: kept by hand",
+            "settings:",
+            "  break-permission: true",
+            "  discard-break-action-messages: false",
+            "  block-sets-mode: INCREMENTAL",
+            "signs:",
+            "- world;3;65;3;tl",
+            "faces:",
+            "  Up: GLASS",
+            "block-sets:",
+            "  default:",
+            "    description: Stone and ores",
+            "    icon: CAULDRON",
+            "    blocks:",
+            "      STONE:",
+            "        percentage: 0.75",
+            "        disabled-vanilla-drop: false",
+            "        disabled-block-mining: false",
+            "      IRON_ORE:",
+            "        percentage: 0.25",
+            "        disabled-vanilla-drop: true",
+            "        disabled-block-mining: false",
+            "        break-actions:",
+            "          a1:",
+            "            type: EXECUTE_COMMAND",
+            "            chance: 50.0",
+            "            value: say %player% found iron",
+            "  second:",
+            "    description: Only stone",
+            "    icon: STONE",
+            "    blocks:",
+            "      STONE:",
+            "        percentage: 1.0",
+            "        disabled-vanilla-drop: false",
+            "        disabled-block-mining: false",
+            "custom:",
+            "  owner: someone",
+            "  levels:",
+            "  - 1",
+            "  - 2",
+            "");
+
+    private TestRealMinesAPI api;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock().addSimpleWorld("world");
+        this.api = TestRealMinesAPI.install();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void loadingDoesNotWriteTheMine() throws Exception {
+        final BlockMine mine = new BlockMine("quarry", load(MINE), true);
+
+        assertNotNull(mine.getMineCuboid());
+        assertEquals(0, this.api.getMemoryStorage().getWrites());
+    }
+
+    @Test
+    void savedConfigKeepsEveryKey() throws Exception {
+        final YamlConfiguration original = load(MINE);
+        final BlockMine mine = new BlockMine("quarry", original, true);
+        final YamlConfiguration saved = load(mine.toConfig().saveToString());
+
+        for (final String key : original.getKeys(true)) {
+            if (!original.isConfigurationSection(key)) {
+                assertEquals(original.get(key), saved.get(key), key);
+            }
+        }
+    }
+
+    @Test
+    void reloadedMineSavesTheSameConfig() throws Exception {
+        final String first = new BlockMine("quarry", load(MINE), true).toConfig().saveToString();
+        final String second = new BlockMine("quarry", load(first), true).toConfig().saveToString();
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void contentStampDoesNotDependOnTheBlockOrder() throws Exception {
+        final YamlConfiguration reversed = load(MINE);
+        final ConfigurationSection blocks = reversed.getConfigurationSection("block-sets.default.blocks");
+        final List<String> materials = new ArrayList<>(blocks.getKeys(false));
+        Collections.reverse(materials);
+        final Map<String, Object> values = new LinkedHashMap<>();
+        for (final String m : materials) {
+            blocks.getConfigurationSection(m).getValues(true).forEach((path, v) -> {
+                if (!(v instanceof ConfigurationSection)) {
+                    values.put(m + "." + path, v);
+                }
+            });
+        }
+        reversed.set("block-sets.default.blocks", null);
+        values.forEach((path, v) -> reversed.set("block-sets.default.blocks." + path, v));
+
+        final BlockMine mine = new BlockMine("quarry", load(MINE), true);
+        final BlockMine other = new BlockMine("quarry", reversed, true);
+        assertEquals(mine.getContentStamp(), other.getContentStamp());
+
+        //saved in material order, the same on every start whatever the hash codes of the materials
+        final List<String> saved = new ArrayList<>(load(other.toConfig().saveToString()).getConfigurationSection("block-sets.default.blocks").getKeys(false));
+        final List<String> sorted = new ArrayList<>(saved);
+        sorted.sort(Comparator.comparingInt(m -> Material.valueOf(m).ordinal()));
+        assertEquals(sorted, saved);
+    }
+
+    private static YamlConfiguration load(final String yaml) throws InvalidConfigurationException {
+        final YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(yaml);
+        return config;
+    }
+}
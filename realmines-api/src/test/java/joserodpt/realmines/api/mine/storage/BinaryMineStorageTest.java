@@ -0,0 +1,170 @@
+package joserodpt.realmines.api.mine.storage;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+
+import joserodpt.realmines.api.TestRealMinesAPI;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryMineStorageTest {
+
+    @TempDir
+    File folder;
+
+    @BeforeEach
+    void setUp() {
+        TestRealMinesAPI.install();
+    }
+
+    @Test
+    void readsBackWhatWasWritten() throws Exception {
+        final BinaryMineStorage storage = new BinaryMineStorage(this.folder);
+        final long stamp = storage.write("quarry", mine("STONE", 20));
+
+        final MineStorage.Entry entry = storage.read("quarry");
+        assertEquals(stamp, entry.stamp());
+        assertMine(entry, "STONE", 20);
+        assertEquals(List.of("quarry"), storage.getMineNames());
+        storage.close();
+    }
+
+    @Test
+    void keepsTheMinesAfterReopening() throws Exception {
+        final BinaryMineStorage first = new BinaryMineStorage(this.folder);
+        first.write("quarry", mine("STONE", 20));
+        first.write("quarry", mine("DIRT", 30));
+        first.write("pit", mine("SAND", 5));
+        first.close();
+        assertTrue(new File(this.folder, "mines.idx").exists());
+
+        final BinaryMineStorage second = new BinaryMineStorage(this.folder);
+        assertMine(second.read("quarry"), "DIRT", 30);
+        assertMine(second.read("pit"), "SAND", 5);
+        second.close();
+    }
+
+    @Test
+    void rebuildsTheIndexFromTheLog() throws Exception {
+        final BinaryMineStorage first = new BinaryMineStorage(this.folder);
+        first.write("quarry", mine("STONE", 20));
+        first.write("quarry", mine("DIRT", 30));
+        first.close();
+        Files.delete(new File(this.folder, "mines.idx").toPath());
+
+        final BinaryMineStorage second = new BinaryMineStorage(this.folder);
+        assertMine(second.read("quarry"), "DIRT", 30);
+        second.close();
+    }
+
+    @Test
+    void scansTheLogAfterAnOlderIndex() throws Exception {
+        final File index = new File(this.folder, "mines.idx");
+        final File older = new File(this.folder, "older.idx");
+
+        final BinaryMineStorage first = new BinaryMineStorage(this.folder);
+        first.write("quarry", mine("STONE", 20));
+        first.close();
+        Files.copy(index.toPath(), older.toPath());
+
+        final BinaryMineStorage second = new BinaryMineStorage(this.folder);
+        second.write("quarry", mine("DIRT", 30));
+        second.write("pit", mine("SAND", 5));
+        second.close();
+        Files.move(older.toPath(), index.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        final BinaryMineStorage third = new BinaryMineStorage(this.folder);
+        assertMine(third.read("quarry"), "DIRT", 30);
+        assertMine(third.read("pit"), "SAND", 5);
+        third.close();
+    }
+
+    @Test
+    void unchangedWriteDoesNotGrowTheLog() throws Exception {
+        final BinaryMineStorage storage = new BinaryMineStorage(this.folder);
+        final long stamp = storage.write("quarry", mine("STONE", 20));
+        final long size = new File(this.folder, "mines.db").length();
+
+        assertEquals(stamp, storage.write("quarry", mine("STONE", 20)));
+        assertEquals(size, new File(this.folder, "mines.db").length());
+        assertNotEquals(stamp, storage.write("quarry", mine("STONE", 21)));
+        storage.close();
+    }
+
+    @Test
+    void deletedMineStaysDeleted() throws Exception {
+        final BinaryMineStorage first = new BinaryMineStorage(this.folder);
+        first.write("quarry", mine("STONE", 20));
+        assertTrue(first.delete("quarry"));
+        assertFalse(first.delete("quarry"));
+        first.close();
+        Files.delete(new File(this.folder, "mines.idx").toPath());
+
+        final BinaryMineStorage second = new BinaryMineStorage(this.folder);
+        assertNull(second.read("quarry"));
+        assertTrue(second.isEmpty());
+        second.close();
+    }
+
+    @Test
+    void discardsATornTail() throws Exception {
+        final BinaryMineStorage first = new BinaryMineStorage(this.folder);
+        first.write("quarry", mine("STONE", 20));
+        first.close();
+        Files.delete(new File(this.folder, "mines.idx").toPath());
+
+        final File log = new File(this.folder, "mines.db");
+        final long size = log.length();
+        Files.write(log.toPath(), "half a record".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        final BinaryMineStorage second = new BinaryMineStorage(this.folder);
+        assertMine(second.read("quarry"), "STONE", 20);
+        assertEquals(size, log.length());
+        second.close();
+    }
+
+    private static YamlConfiguration mine(final String block, final int percentage) {
+        final YamlConfiguration config = new YamlConfiguration();
+        config.set("name", "quarry");
+        config.set("type", "BLOCKS");
+        config.set("block-sets.default.blocks." + block + ".percentage", 1.0);
+        config.set("reset.percentage.value", percentage);
+        return config;
+    }
+
+    private static void assertMine(final MineStorage.Entry entry, final String block, final int percentage) throws InvalidConfigurationException {
+        final YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(new String(entry.data(), StandardCharsets.UTF_8));
+        assertEquals("BLOCKS", config.getString("type"));
+        assertEquals(1, config.getConfigurationSection("block-sets.default.blocks").getKeys(false).size());
+        assertTrue(config.contains("block-sets.default.blocks." + block));
+        assertEquals(percentage, config.getInt("reset.percentage.value"));
+    }
+}
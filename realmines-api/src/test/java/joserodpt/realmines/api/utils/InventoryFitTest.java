@@ -0,0 +1,118 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import org.bukkit.Material;
+import org.bukkit.entity.Item;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InventoryFitTest {
+
+    private PlayerMock player;
+    private PlayerInventory inv;
+
+    @BeforeEach
+    void setUp() {
+        final ServerMock server = MockBukkit.mock();
+        server.addSimpleWorld("world");
+        this.player = server.addPlayer();
+        this.inv = this.player.getInventory();
+        this.inv.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void topsUpPartialStacksFirst() {
+        this.inv.setItem(5, new ItemStack(Material.STONE, 60));
+
+        assertEquals(0, InventoryFit.add(this.inv, new ItemStack(Material.STONE, 10)));
+        assertEquals(64, this.inv.getItem(5).getAmount());
+        assertEquals(6, this.inv.getItem(0).getAmount());
+    }
+
+    @Test
+    void splitsOverEmptySlots() {
+        assertEquals(0, InventoryFit.add(this.inv, new ItemStack(Material.STONE, 130)));
+        assertEquals(64, this.inv.getItem(0).getAmount());
+        assertEquals(64, this.inv.getItem(1).getAmount());
+        assertEquals(2, this.inv.getItem(2).getAmount());
+    }
+
+    @Test
+    void respectsTheMaxStackSizeOfTheItem() {
+        this.inv.setItem(0, new ItemStack(Material.ENDER_PEARL, 14));
+
+        assertEquals(0, InventoryFit.add(this.inv, new ItemStack(Material.ENDER_PEARL, 4)));
+        assertEquals(16, this.inv.getItem(0).getAmount());
+        assertEquals(2, this.inv.getItem(1).getAmount());
+    }
+
+    @Test
+    void returnsWhatDoesNotFitInAFullInventory() {
+        this.fill(Material.DIRT);
+        this.inv.setItem(7, new ItemStack(Material.STONE, 62));
+
+        assertEquals(3, InventoryFit.add(this.inv, new ItemStack(Material.STONE, 5)));
+        assertEquals(64, this.inv.getItem(7).getAmount());
+    }
+
+    @Test
+    void leavesTheOffHandAndArmorAlone() {
+        this.fill(Material.DIRT);
+        this.inv.setItemInOffHand(new ItemStack(Material.STONE, 10));
+        this.inv.setHelmet(null);
+
+        assertEquals(5, InventoryFit.add(this.inv, new ItemStack(Material.STONE, 5)));
+        assertEquals(10, this.inv.getItemInOffHand().getAmount());
+        assertNull(this.inv.getHelmet());
+    }
+
+    @Test
+    void dropsWhatDoesNotFit() {
+        this.fill(Material.DIRT);
+
+        assertEquals(4, InventoryFit.addOrDrop(this.player, new ItemStack(Material.STONE, 4), this.player.getLocation()));
+        final Item dropped = (Item) this.player.getWorld().getEntities().stream()
+                .filter(e -> e instanceof Item)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(new ItemStack(Material.STONE, 4), dropped.getItemStack());
+    }
+
+    @Test
+    void ignoresEmptyItems() {
+        assertEquals(0, InventoryFit.add(this.inv, null));
+        assertEquals(0, InventoryFit.add(this.inv, new ItemStack(Material.AIR)));
+    }
+
+    private void fill(final Material material) {
+        for (int i = 0; i < this.inv.getStorageContents().length; ++i) {
+            this.inv.setItem(i, new ItemStack(material, 64));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.TestRealMinesAPI;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemCodecTest {
+
+    //written by ItemStackSpringer before the compact format existed, gson reads the amount back as a double
+    private static final String LEGACY = "{\"MATERIAL\":\"DIAMOND\",\"AMOUNT\":3.0,\"NAME\":\"&bShiny\",\"LORE\":[\"&7Found in a mine\"],\"ENCHANTMENTS\":\"unbreaking:2\"}";
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        TestRealMinesAPI.install();
+        ItemCodec.clearCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ItemCodec.clearCache();
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void compactRoundTrip() {
+        final ItemStack item = item();
+        final String data = ItemCodec.encode(item, true);
+
+        assertTrue(data.startsWith("b64:"));
+        assertEquals(item, ItemCodec.decode(data));
+    }
+
+    @Test
+    void jsonRoundTrip() {
+        final ItemStack item = item();
+        final String data = ItemCodec.encode(item, false);
+
+        assertTrue(data.startsWith("{"));
+        assertEquals(item, ItemCodec.decode(data));
+    }
+
+    @Test
+    void readsLegacyJson() {
+        final ItemStack legacy = ItemCodec.decode(LEGACY);
+
+        assertEquals(Material.DIAMOND, legacy.getType());
+        assertEquals(3, legacy.getAmount());
+        assertEquals(Text.color("&bShiny"), legacy.getItemMeta().getDisplayName());
+        assertEquals(List.of(Text.color("&7Found in a mine")), legacy.getItemMeta().getLore());
+        assertEquals(2, legacy.getEnchantmentLevel(Enchantment.UNBREAKING));
+    }
+
+    @Test
+    void legacyJsonConvertsToCompact() {
+        final ItemStack legacy = ItemCodec.read(LEGACY);
+
+        assertEquals(legacy, ItemCodec.read(ItemCodec.encode(legacy, true)));
+    }
+
+    @Test
+    void decodedItemsAreShared() {
+        final String data = ItemCodec.encode(item(), true);
+
+        assertSame(ItemCodec.decode(data), ItemCodec.decode(data));
+        assertNotSame(ItemCodec.read(data), ItemCodec.read(data));
+    }
+
+    private static ItemStack item() {
+        final ItemStack item = new ItemStack(Material.IRON_PICKAXE, 1);
+        final ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(Text.color("&6Mine Pick"));
+        meta.setLore(List.of(Text.color("&7From the quarry")));
+        item.setItemMeta(meta);
+        item.addUnsafeEnchantment(Enchantment.EFFICIENCY, 3);
+        return item;
+    }
+}
@@ -0,0 +1,178 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchematicHeaderTest {
+
+    private static final int END = 0, SHORT = 2, INT = 3, BYTE_ARRAY = 7, STRING = 8, LIST = 9, COMPOUND = 10, INT_ARRAY = 11;
+
+    @TempDir
+    File folder;
+
+    @Test
+    void readsSpongeV2() throws IOException {
+        final File file = this.write("v2.schem", out -> {
+            intTag(out, "Version", 2);
+            shortTag(out, "Width", 3);
+            shortTag(out, "Height", 4);
+            shortTag(out, "Length", 5);
+            intTag(out, "PaletteMax", 2);
+            tag(out, COMPOUND, "Palette");
+            intTag(out, "minecraft:stone", 0);
+            intTag(out, "minecraft:air", 1);
+            out.writeByte(END);
+            byteArrayTag(out, "BlockData", 60);
+            out.writeByte(END);
+        });
+
+        assertEquals(new SchematicHeader(SchematicHeader.Format.SPONGE_V2, 3, 4, 5, 2), SchematicHeader.read(file));
+    }
+
+    @Test
+    void readsSpongeV3() throws IOException {
+        final File file = this.write("v3.schem", out -> {
+            tag(out, COMPOUND, "Schematic");
+            intTag(out, "Version", 3);
+            shortTag(out, "Width", 2);
+            shortTag(out, "Height", 2);
+            shortTag(out, "Length", 2);
+            tag(out, INT_ARRAY, "Offset");
+            out.writeInt(3);
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeInt(0);
+            tag(out, COMPOUND, "Blocks");
+            tag(out, COMPOUND, "Palette");
+            intTag(out, "minecraft:stone", 0);
+            intTag(out, "minecraft:dirt", 1);
+            intTag(out, "minecraft:air", 2);
+            out.writeByte(END);
+            byteArrayTag(out, "Data", 8);
+            tag(out, LIST, "BlockEntities");
+            out.writeByte(COMPOUND);
+            out.writeInt(0);
+            out.writeByte(END);
+            out.writeByte(END);
+            out.writeByte(END);
+        });
+
+        final SchematicHeader header = SchematicHeader.read(file);
+        assertEquals(new SchematicHeader(SchematicHeader.Format.SPONGE_V3, 2, 2, 2, 3), header);
+        assertEquals(8, header.blocks());
+    }
+
+    @Test
+    void readsMCEdit() throws IOException {
+        final File file = this.write("old.schematic", out -> {
+            shortTag(out, "Width", 16);
+            shortTag(out, "Height", 1);
+            shortTag(out, "Length", 16);
+            tag(out, STRING, "Materials");
+            out.writeUTF("Alpha");
+            byteArrayTag(out, "Blocks", 256);
+            byteArrayTag(out, "Data", 256);
+            out.writeByte(END);
+        });
+
+        assertEquals(new SchematicHeader(SchematicHeader.Format.MCEDIT, 16, 1, 16, -1), SchematicHeader.read(file));
+    }
+
+    @Test
+    void stopsReadingOnceTheHeaderIsKnown() throws IOException {
+        //the tag after the palette is invalid, it is only reached if the reader keeps going
+        final File file = this.write("partial.schem", out -> {
+            shortTag(out, "Width", 1);
+            shortTag(out, "Height", 1);
+            shortTag(out, "Length", 1);
+            tag(out, COMPOUND, "Palette");
+            intTag(out, "minecraft:stone", 0);
+            out.writeByte(END);
+            out.writeByte(99);
+        });
+
+        assertEquals(new SchematicHeader(SchematicHeader.Format.SPONGE_V2, 1, 1, 1, 1), SchematicHeader.read(file));
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSchematics() throws IOException {
+        final File text = new File(this.folder, "notes.schem");
+        Files.write(text.toPath(), "not nbt".getBytes(StandardCharsets.UTF_8));
+        assertNull(SchematicHeader.read(text));
+
+        final File noSize = this.write("empty.schem", out -> {
+            intTag(out, "Version", 2);
+            out.writeByte(END);
+        });
+        assertNull(SchematicHeader.read(noSize));
+        assertNull(SchematicHeader.read(new File(this.folder, "missing.schem")));
+    }
+
+    @Test
+    void recognisesSchematicNames() {
+        assertTrue(SchematicHeader.isSchematic("house.schem"));
+        assertTrue(SchematicHeader.isSchematic("house.schematic"));
+        assertFalse(SchematicHeader.isSchematic("house.nbt"));
+    }
+
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    //a gzipped root compound with the given tags inside, the body writes the closing END
+    private File write(final String name, final Body body) throws IOException {
+        final File file = new File(this.folder, name);
+        try (final DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(file.toPath())))) {
+            tag(out, COMPOUND, "");
+            body.write(out);
+        }
+        return file;
+    }
+
+    private static void tag(final DataOutputStream out, final int type, final String name) throws IOException {
+        out.writeByte(type);
+        out.writeUTF(name);
+    }
+
+    private static void shortTag(final DataOutputStream out, final String name, final int value) throws IOException {
+        tag(out, SHORT, name);
+        out.writeShort(value);
+    }
+
+    private static void intTag(final DataOutputStream out, final String name, final int value) throws IOException {
+        tag(out, INT, name);
+        out.writeInt(value);
+    }
+
+    private static void byteArrayTag(final DataOutputStream out, final String name, final int size) throws IOException {
+        tag(out, BYTE_ARRAY, name);
+        out.writeInt(size);
+        out.write(new byte[size]);
+    }
+}
@@ -0,0 +1,113 @@
+package joserodpt.realmines.api.utils;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionRegistryTest {
+
+    private final List<String> evicted = new ArrayList<>();
+
+    @Test
+    void keepsSessionsUntilRemoved() {
+        final SessionRegistry<String> registry = this.registry(10, 1);
+        final UUID player = UUID.randomUUID();
+
+        registry.put(player, "rename");
+        assertEquals("rename", registry.get(player));
+        assertEquals("rename", registry.remove(player));
+        assertFalse(registry.contains(player));
+        assertTrue(this.evicted.isEmpty());
+    }
+
+    @Test
+    void expiredSessionsAreEvicted() {
+        final SessionRegistry<String> registry = this.registry(10, 0);
+        final UUID first = UUID.randomUUID(), second = UUID.randomUUID();
+
+        registry.put(first, "a");
+        registry.put(second, "b");
+        assertNull(registry.get(first));
+        registry.purgeExpired();
+
+        assertEquals(0, registry.size());
+        assertEquals(List.of("a", "b"), this.evicted.stream().sorted().toList());
+    }
+
+    @Test
+    void replacingASessionEvictsTheOldOne() {
+        final SessionRegistry<String> registry = this.registry(10, 1);
+        final UUID player = UUID.randomUUID();
+
+        registry.put(player, "old");
+        registry.put(player, "new");
+
+        assertEquals("new", registry.get(player));
+        assertEquals(List.of("old"), this.evicted);
+    }
+
+    @Test
+    void neverHoldsMoreThanTheCapacity() {
+        final SessionRegistry<String> registry = this.registry(2, 1);
+        final UUID third = UUID.randomUUID();
+
+        registry.put(UUID.randomUUID(), "first");
+        registry.put(UUID.randomUUID(), "second");
+        registry.put(third, "third");
+
+        //the oldest one goes, both older sessions may share the same clock reading
+        assertEquals(2, registry.size());
+        assertEquals("third", registry.get(third));
+        assertEquals(1, this.evicted.size());
+        assertFalse(this.evicted.contains("third"));
+    }
+
+    @Test
+    void removeOnlyTakesTheGivenSession() {
+        final SessionRegistry<String> registry = this.registry(10, 1);
+        final UUID player = UUID.randomUUID();
+
+        registry.put(player, "new");
+        assertFalse(registry.remove(player, "old"));
+        assertTrue(registry.remove(player, "new"));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void clearEvictsEverySession() {
+        final SessionRegistry<String> registry = this.registry(10, 1);
+        registry.put(UUID.randomUUID(), "a");
+        registry.put(UUID.randomUUID(), "b");
+
+        registry.clear();
+
+        assertEquals(0, registry.size());
+        assertEquals(2, this.evicted.size());
+    }
+
+    private SessionRegistry<String> registry(final int capacity, final long minutes) {
+        return new SessionRegistry<>(capacity, minutes, TimeUnit.MINUTES, this.evicted::add);
+    }
+}
@@ -0,0 +1,108 @@
+package joserodpt.realmines.benchmarks;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.utils.InventoryFit;
+import org.bukkit.Material;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+giving a break action item with InventoryFit against the old Inventory.addItem and drop of the leftovers:
+- empty: the item goes to the first slot
+- partial: the inventory is spread with partial stacks of the item
+- full: nothing fits and everything is dropped
+the inventory and the dropped items are set back before every call
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryFitBenchmark {
+
+    @Param({"empty", "partial", "full"})
+    public String inventory;
+
+    private Player player;
+    private ItemStack[] contents;
+    private final ItemStack item = new ItemStack(Material.RAW_IRON, 24);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ServerMock server = MockBukkit.mock();
+        server.addSimpleWorld("world");
+        this.player = server.addPlayer();
+
+        this.contents = new ItemStack[this.player.getInventory().getStorageContents().length];
+        for (int i = 0; i < this.contents.length; ++i) {
+            switch (this.inventory) {
+                case "partial" -> this.contents[i] = i % 3 == 0 ? new ItemStack(Material.RAW_IRON, 60) : new ItemStack(Material.COBBLESTONE, 64);
+                case "full" -> this.contents[i] = new ItemStack(Material.COBBLESTONE, 64);
+                default -> this.contents[i] = null;
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        final PlayerInventory inv = this.player.getInventory();
+        for (int i = 0; i < this.contents.length; ++i) {
+            inv.setItem(i, this.contents[i] == null ? null : this.contents[i].clone());
+        }
+        this.player.getWorld().getEntities().stream()
+                .filter(e -> !(e instanceof Player))
+                .forEach(Entity::remove);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public int inventoryFit() {
+        return InventoryFit.addOrDrop(this.player, this.item, this.player.getLocation());
+    }
+
+    @Benchmark
+    public int addItemAndDrop() {
+        int dropped = 0;
+        for (final ItemStack left : this.player.getInventory().addItem(this.item.clone()).values()) {
+            this.player.getWorld().dropItemNaturally(this.player.getLocation(), left);
+            dropped += left.getAmount();
+        }
+        return dropped;
+    }
+}
@@ -0,0 +1,111 @@
+package joserodpt.realmines.benchmarks;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.utils.ItemCodec;
+import joserodpt.realmines.api.utils.ItemStackSpringer;
+import joserodpt.realmines.api.utils.Text;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+the compact Base64 item format against the JSON one of ItemStackSpringer (the legacy format):
+- encode: what a break action costs to save
+- read: what an item costs to decode when a mine is loaded, without the shared items
+- decode: the shared item lookup used once the item was decoded
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemCodecBenchmark {
+
+    @Param({"plain", "named"})
+    public String item;
+
+    private ItemStack stack;
+    private String compact, legacy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MockBukkit.mock();
+        this.stack = this.item.equals("plain") ? new ItemStack(Material.DIAMOND, 16) : named();
+        this.compact = ItemCodec.encode(this.stack, true);
+        this.legacy = ItemStackSpringer.getItemSerializedJSON(this.stack);
+        ItemCodec.decode(this.compact);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ItemCodec.clearCache();
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public String encodeCompact() {
+        return ItemCodec.encode(this.stack, true);
+    }
+
+    @Benchmark
+    public String encodeLegacy() {
+        return ItemStackSpringer.getItemSerializedJSON(this.stack);
+    }
+
+    @Benchmark
+    public ItemStack readCompact() {
+        return ItemCodec.read(this.compact);
+    }
+
+    @Benchmark
+    public ItemStack readLegacy() {
+        return ItemStackSpringer.getItemDeSerializedJSON(this.legacy);
+    }
+
+    @Benchmark
+    public ItemStack decodeShared() {
+        return ItemCodec.decode(this.compact);
+    }
+
+    private static ItemStack named() {
+        final ItemStack item = new ItemStack(Material.IRON_PICKAXE, 1);
+        final ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(Text.color("&6Mine Pick"));
+        meta.setLore(List.of(Text.color("&7From the quarry"), Text.color("&7Level 3")));
+        item.setItemMeta(meta);
+        item.addUnsafeEnchantment(Enchantment.EFFICIENCY, 3);
+        item.addUnsafeEnchantment(Enchantment.UNBREAKING, 2);
+        return item;
+    }
+}
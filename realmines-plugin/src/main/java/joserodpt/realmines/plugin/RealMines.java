@@ -16,6 +16,10 @@ package joserodpt.realmines.plugin;
 import joserodpt.realmines.api.RealMinesAPI;
 import joserodpt.realmines.api.config.RMConfig;
 import joserodpt.realmines.api.config.RMLanguageConfig;
+import joserodpt.realmines.api.mine.components.actions.BreakActionCoalescer;
+import joserodpt.realmines.api.mine.components.actions.DropAggregator;
+import joserodpt.realmines.api.mine.storage.MineStorage;
+import joserodpt.realmines.api.utils.ItemCodec;
 import joserodpt.realmines.plugin.gui.GUIManager;
 import joserodpt.realmines.plugin.managers.MineManager;
 import joserodpt.realmines.plugin.managers.MineResetTasksManager;
@@ -30,6 +34,8 @@ public class RealMines extends RealMinesAPI {
     private final MineManager mineManager;
     private final MineResetTasksManager mineResetTasksManager;
     private final GUIManager guiManager;
+    private final BreakActionCoalescer breakActionCoalescer = new BreakActionCoalescer();
+    private final DropAggregator dropAggregator = new DropAggregator();
 
     public RealMines(RealMinesPlugin plugin) {
         this.plugin = plugin;
@@ -50,6 +56,11 @@ public class RealMines extends RealMinesAPI {
         return this.logger;
     }
 
+    @Override
+    public MineStorage getMineStorage() {
+        return this.mineManager.getStorage();
+    }
+
     public GUIManager getGUIManager() {
         return this.guiManager;
     }
@@ -71,11 +82,20 @@ public class RealMines extends RealMinesAPI {
 
     @Override
     public void reload() {
+        this.reloadWithReport();
+    }
+
+    //only the mine files that changed are loaded again
+    public MineManager.ReloadReport reloadWithReport() {
         RMConfig.reload();
         RMLanguageConfig.reload();
-        this.mineManager.unloadMines();
-        this.mineManager.loadMines();
+        this.setupBreakActionCoalescer();
+        this.setupDropAggregator();
+        ItemCodec.clearCache();
+        final MineManager.ReloadReport report = this.mineManager.reloadMines();
+        this.mineManager.setupFileWatcher();
         this.logger.info("[RealMines] Loaded " + this.mineManager.getMines().size() + " mines and " + this.mineManager.getSigns().size() + " mine signs.");
+        return report;
     }
 
     @Override
@@ -83,6 +103,40 @@ public class RealMines extends RealMinesAPI {
         return this.plugin.getEconomy();
     }
 
+    @Override
+    public boolean hasPlaceholderAPI() {
+        return this.plugin.hasPlaceholderAPI();
+    }
+
+    @Override
+    public BreakActionCoalescer getBreakActionCoalescer() {
+        return this.breakActionCoalescer;
+    }
+
+    @Override
+    public DropAggregator getDropAggregator() {
+        return this.dropAggregator;
+    }
+
+    public void setupDropAggregator() {
+        DropAggregator.Mode mode;
+        try {
+            mode = DropAggregator.Mode.valueOf(RMConfig.values().dropItemsMode());
+        } catch (IllegalArgumentException e) {
+            this.logger.warning("Invalid dropItemsMode in config.yml. Using NATURAL.");
+            mode = DropAggregator.Mode.NATURAL;
+        }
+        this.dropAggregator.setup(mode, RMConfig.values().dropItemsWindowTicks(), RMConfig.values().dropItemsEntityBudget());
+    }
+
+    public void setupBreakActionCoalescer() {
+        if (RMConfig.values().coalesceBreakActions()) {
+            this.breakActionCoalescer.start(this.plugin, RMConfig.values().coalesceBreakActionsTicks());
+        } else {
+            this.breakActionCoalescer.stop();
+        }
+    }
+
     @Override
     public String getVersion() {
         return this.plugin.getDescription().getVersion();
@@ -14,11 +14,20 @@ package joserodpt.realmines.plugin;
  */
 
 import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.mine.components.MineStats;
 import joserodpt.realmines.api.utils.Countdown;
+import joserodpt.realmines.api.utils.Text;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 public class RealMinesPlaceholderAPI extends PlaceholderExpansion {
 
     private final RealMines plugin;
@@ -98,114 +107,167 @@ public class RealMinesPlaceholderAPI extends PlaceholderExpansion {
         return this.plugin.getPlugin().getDescription().getVersion();
     }
 
+    /*
+     - per mine placeholders: %realmines_<type>_<mine>%
+     - batch placeholders: %realmines_top_mines%, %realmines_top_mines_<count>% and %realmines_mines_count%
+     */
+    private enum Type {
+        TOTALBLOCKS("totalblocks"),
+        MINEDBLOCKS("minedblocks"),
+        REMAININGBLOCKS("remainingblocks"),
+        PERREMAININGBLOCKS("perremainingblocks"),
+        PERMINEDBLOCKS("perminedblocks"),
+        LIFETIMEBREAKS("lifetimebreaks"),
+        BREAKSPERMINUTE("breaksperminute"),
+        SECONDSLEFT("secondsleft"),
+        TIMELEFT("timeleft"),
+        BAR("bar"),
+        PERCENTAGE_BAR("percentage_bar"),
+        TOP_MINES("top_mines"),
+        MINES_COUNT("mines_count");
+
+        private final String prefix;
+
+        Type(final String prefix) {
+            this.prefix = prefix;
+        }
+
+        private boolean isBatch() {
+            return this == TOP_MINES || this == MINES_COUNT;
+        }
+    }
+
+    //longest prefixes first, so percentage_bar is never read as a bar of the mine "bar"
+    private static final Type[] BY_PREFIX_LENGTH = Arrays.stream(Type.values())
+            .sorted(Comparator.comparingInt((Type t) -> t.prefix.length()).reversed())
+            .toArray(Type[]::new);
+    //scoreboards ask for the same placeholders many times per tick, values are computed at most once per tick
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final int MAX_CACHED = 4096;
+    private static final int DEFAULT_TOP_MINES = 5;
+
+    private record Key(Type type, String arg) {
+    }
+
+    private record MineValues(RMine mine, long at, String[] values) {
+    }
+
+    private record BatchValue(long at, String value) {
+    }
+
+    private static final Key INVALID = new Key(null, null);
+
+    private final Map<String, Key> keys = new ConcurrentHashMap<>();
+    private final Map<String, MineValues> mineValues = new ConcurrentHashMap<>();
+    private final Map<String, BatchValue> batchValues = new ConcurrentHashMap<>();
+
     @Override
     public String onRequest(final OfflinePlayer player, final String identifier) {
-        final int mineIndex = 1;
-        if (identifier.startsWith("totalblocks")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                return String.valueOf(m.getBlockCount());
-            } else {
-                return "No mine named: " + mine;
-            }
+        final Key key = this.keyOf(identifier);
+        if (key == INVALID) {
+            return null;
         }
 
-        if (identifier.startsWith("minedblocks")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                return String.valueOf(m.getMinedBlocks());
-            } else {
-                return "No mine named: " + mine;
-            }
+        if (key.type().isBatch()) {
+            return this.batchValue(identifier, key);
         }
 
-        if (identifier.startsWith("remainingblocks")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                return String.valueOf(m.getRemainingBlocks());
-            } else {
-                return "No mine named: " + mine;
-            }
+        final RMine m = this.plugin.getMineManager().getMine(key.arg());
+        if (m == null) {
+            return "No mine named: " + key.arg();
         }
 
-        if (identifier.startsWith("perremainingblocks")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                return String.valueOf(m.getRemainingBlocksPer());
-            } else {
-                return "No mine named: " + mine;
+        final long now = System.nanoTime();
+        MineValues values = this.mineValues.get(key.arg());
+        if (values == null || values.mine() != m || now - values.at() > REFRESH_NANOS) {
+            values = new MineValues(m, now, render(m));
+            if (this.mineValues.size() >= MAX_CACHED) {
+                this.mineValues.clear();
             }
+            this.mineValues.put(key.arg(), values);
         }
+        return values.values()[key.type().ordinal()];
+    }
 
-        if (identifier.startsWith("perminedblocks")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                return String.valueOf(m.getMinedBlocksPer());
-            } else {
-                return "No mine named: " + mine;
-            }
+    private Key keyOf(final String identifier) {
+        final Key cached = this.keys.get(identifier);
+        if (cached != null) {
+            return cached;
         }
 
-        if (identifier.startsWith("secondsleft")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                if (m.getMineTimer().getCountdown() == null) {
-                    return "-1";
-                }
-                return Integer.toString(m.getMineTimer().getCountdown().getSecondsLeft());
-            } else {
-                return "No mine named: " + mine;
-            }
+        final Key parsed = parse(identifier);
+        if (this.keys.size() >= MAX_CACHED) {
+            this.keys.clear();
         }
+        this.keys.put(identifier, parsed);
+        return parsed;
+    }
 
-        if (identifier.startsWith("timeleft")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                if (m.getMineTimer().getCountdown() == null) {
-                    return "-1";
-                }
-                return Countdown.format(m.getMineTimer().getCountdown().getSecondsLeft() * 1000L);
-            } else {
-                return "No mine named: " + mine;
+    private static Key parse(final String identifier) {
+        for (final Type type : BY_PREFIX_LENGTH) {
+            if (!identifier.startsWith(type.prefix)) {
+                continue;
+            }
+            if (identifier.length() == type.prefix.length()) {
+                return type.isBatch() ? new Key(type, "") : INVALID;
+            }
+            if (identifier.charAt(type.prefix.length()) == '_') {
+                return new Key(type, identifier.substring(type.prefix.length() + 1));
             }
         }
+        return INVALID;
+    }
 
-        if (identifier.startsWith("bar")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                return m.getBar();
-            } else {
-                return "No mine named: " + mine;
-            }
+    //every per mine value from one snapshot of the mine's stats
+    private static String[] render(final RMine m) {
+        final MineStats.Snapshot stats = m.getStatsSnapshot(new MineStats.Snapshot());
+        final Countdown countdown = m.getMineTimer() == null ? null : m.getMineTimer().getCountdown();
+
+        final String[] values = new String[Type.values().length];
+        values[Type.TOTALBLOCKS.ordinal()] = String.valueOf(stats.getTotalBlocks());
+        values[Type.MINEDBLOCKS.ordinal()] = String.valueOf(stats.getMinedBlocks());
+        values[Type.REMAININGBLOCKS.ordinal()] = String.valueOf(stats.getRemainingBlocks());
+        values[Type.PERREMAININGBLOCKS.ordinal()] = String.valueOf(stats.getRemainingBlocksPer());
+        values[Type.PERMINEDBLOCKS.ordinal()] = String.valueOf(stats.getMinedBlocksPer());
+        values[Type.LIFETIMEBREAKS.ordinal()] = String.valueOf(stats.getLifetimeBreaks());
+        values[Type.BREAKSPERMINUTE.ordinal()] = String.valueOf(Math.round(stats.getBreaksPerMinute()));
+        values[Type.SECONDSLEFT.ordinal()] = countdown == null ? "-1" : Integer.toString(countdown.getSecondsLeft());
+        values[Type.TIMELEFT.ordinal()] = countdown == null ? "-1" : Countdown.format(countdown.getSecondsLeft() * 1000L);
+        values[Type.BAR.ordinal()] = RMine.renderBar(stats.getRemainingBlocks(), stats.getTotalBlocks());
+        values[Type.PERCENTAGE_BAR.ordinal()] = RMine.renderPercentageBar(stats.getRemainingBlocks(), stats.getTotalBlocks());
+        return values;
+    }
+
+    private String batchValue(final String identifier, final Key key) {
+        final long now = System.nanoTime();
+        final BatchValue cached = this.batchValues.get(identifier);
+        if (cached != null && now - cached.at() <= REFRESH_NANOS) {
+            return cached.value();
         }
 
-        if (identifier.startsWith("percentage_bar")) {
-            final String[] split = identifier.split("_");
-            final String mine = split[mineIndex];
-            final RMine m = this.plugin.getMineManager().getMine(mine);
-            if (m != null) {
-                return m.getPercentageBar();
-            } else {
-                return "No mine named: " + mine;
+        final String value;
+        if (key.type() == Type.MINES_COUNT) {
+            value = String.valueOf(this.plugin.getMineManager().getMines().size());
+        } else {
+            int count = DEFAULT_TOP_MINES;
+            if (!key.arg().isEmpty()) {
+                try {
+                    count = Math.max(1, Integer.parseInt(key.arg()));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
             }
+            value = this.plugin.getMineManager().getMines().values().stream()
+                    .sorted(Comparator.comparingLong((RMine m) -> m.getStats().getLifetimeBreaks()).reversed())
+                    .limit(count)
+                    .map(RMine::getDisplayName)
+                    .map(Text::color)
+                    .collect(Collectors.joining(Text.color("&r&f, ")));
         }
-
-        return null;
+        if (this.batchValues.size() >= MAX_CACHED) {
+            this.batchValues.clear();
+        }
+        this.batchValues.put(identifier, new BatchValue(now, value));
+        return value;
     }
-}
\ No newline at end of file
+}
@@ -26,8 +26,7 @@ import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.converters.RMSupportedConverters;
 import joserodpt.realmines.api.event.RealMinesPluginLoadedEvent;
 import joserodpt.realmines.api.mine.RMine;
-import joserodpt.realmines.api.utils.GUIBuilder;
-import joserodpt.realmines.api.utils.PercentageInput;
+import joserodpt.realmines.api.utils.GUIDispatcher;
 import joserodpt.realmines.api.utils.PlayerInput;
 import joserodpt.realmines.api.utils.Text;
 import joserodpt.realmines.plugin.command.BaseCommandWA;
@@ -37,14 +36,6 @@ import joserodpt.realmines.plugin.events.BlockEvents;
 import joserodpt.realmines.plugin.events.PlayerEvents;
 import joserodpt.realmines.plugin.gui.DirectoryBrowserGUI;
 import joserodpt.realmines.plugin.gui.MaterialPickerGUI;
-import joserodpt.realmines.plugin.gui.MineBreakActionsGUI;
-import joserodpt.realmines.plugin.gui.MineColorPickerGUI;
-import joserodpt.realmines.plugin.gui.MineFacesGUI;
-import joserodpt.realmines.plugin.gui.MineItemsGUI;
-import joserodpt.realmines.plugin.gui.MineListGUI;
-import joserodpt.realmines.plugin.gui.MineResetGUI;
-import joserodpt.realmines.plugin.gui.RealMinesGUI;
-import joserodpt.realmines.plugin.gui.SettingsGUI;
 import joserodpt.realpermissions.api.RealPermissionsAPI;
 import joserodpt.realpermissions.api.pluginhook.ExternalPlugin;
 import joserodpt.realpermissions.api.pluginhook.ExternalPluginPermission;
@@ -74,7 +65,9 @@ public class RealMinesPlugin extends JavaPlugin {
     public Boolean newUpdate = false;
     private PluginManager pm = Bukkit.getPluginManager();
     private ScheduledTask mineHighlight;
+    private ScheduledTask runtimeStateSaver;
     private Economy econ;
+    private boolean placeholderAPI;
 
     @Override
     public void onEnable() {
@@ -108,21 +101,13 @@ public class RealMinesPlugin extends JavaPlugin {
 
         Arrays.asList(new PlayerEvents(realMines),
                 new BlockEvents(realMines),
-                MineListGUI.getListener(),
-                GUIBuilder.getListener(),
-                MineFacesGUI.getListener(),
-                MaterialPickerGUI.getListener(),
-                MineItemsGUI.getListener(),
-                MineResetGUI.getListener(),
-                MineColorPickerGUI.getListener(),
-                MineBreakActionsGUI.getListener(),
-                RealMinesGUI.getListener(),
-                SettingsGUI.getListener(),
-                PercentageInput.getListener(),
-                DirectoryBrowserGUI.getListener(),
+                new GUIDispatcher(),
                 PlayerInput.getListener()
         ).forEach(listener -> this.pm.registerEvents(listener, this));
 
+        //material picker catalogs are built off the main thread so the first picker opens instantly
+        Bukkit.getAsyncScheduler().runNow(this, (ScheduledTask t) -> MaterialPickerGUI.warmUp());
+
         //vault hook
         if (getServer().getPluginManager().getPlugin("Vault") != null) {
             RegisteredServiceProvider<Economy> rsp = getServer().getServicesManager().getRegistration(Economy.class);
@@ -162,6 +147,10 @@ public class RealMinesPlugin extends JavaPlugin {
                 (sender, context) -> realMines.getMineManager().getRegisteredMines()
         );
 
+        commandManager.registerSuggestion(SuggestionKey.of("#storageactions"),
+                (sender, context) -> Arrays.asList("import", "export")
+        );
+
         commandManager.registerSuggestion(SuggestionKey.of("#minetasks"),
                 (sender, context) -> realMines.getMineResetTasksManager().getRegisteredTasks()
         );
@@ -179,10 +168,14 @@ public class RealMinesPlugin extends JavaPlugin {
         commandManager.registerMessage(BukkitMessageKey.NO_PERMISSION, (sender, context) -> TranslatableLine.SYSTEM_ERROR_PERMISSION.send(sender));
 
         getLogger().info("Loading Mines.");
+        realMines.getMineManager().setupStorage();
         realMines.getMineManager().loadMines();
         realMines.getMineResetTasksManager().loadTasks();
         getLogger().info("Loaded " + realMines.getMineManager().getMines().size() + " mines and " + realMines.getMineManager().getSigns().size() + " mine signs.");
         getLogger().info("Loaded " + realMines.getMineResetTasksManager().getTasks().size() + " mine tasks.");
+        realMines.setupBreakActionCoalescer();
+        realMines.setupDropAggregator();
+        realMines.getMineManager().setupFileWatcher();
         this.mineHighlight = Bukkit.getAsyncScheduler().runAtFixedRate(this, (ScheduledTask t) -> {
             realMines.getMineManager().getMines().values().forEach(m -> {
                 org.bukkit.Location anchor = m.hasTP() ? m.getTeleport() : m.getPOS1();
@@ -192,14 +185,20 @@ public class RealMinesPlugin extends JavaPlugin {
             });
         }, 0, 500, TimeUnit.MILLISECONDS);
 
+        final int stateInterval = RMConfig.values().runtimeStateSaveInterval();
+        if (stateInterval > 0) {
+            this.runtimeStateSaver = Bukkit.getAsyncScheduler().runAtFixedRate(this, (ScheduledTask t) -> realMines.getMineManager().saveRuntimeState(), stateInterval, stateInterval, TimeUnit.SECONDS);
+        }
+
         if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null) {
+            this.placeholderAPI = true;
             new RealMinesPlaceholderAPI(realMines).register();
             getLogger().info("Hooked onto PlaceholderAPI!");
         }
 
         Bukkit.getPluginManager().callEvent(new RealMinesPluginLoadedEvent());
 
-        if (RMConfig.file().getBoolean("RealMines.useWorldEditForBlockPlacement")) {
+        if (RMConfig.values().useWorldEditForBlockPlacement()) {
             getLogger().info("Using FAWE/WorldEdit for block placement.");
         }
 
@@ -256,7 +255,15 @@ public class RealMinesPlugin extends JavaPlugin {
         if (this.mineHighlight != null) {
             this.mineHighlight.cancel();
         }
+        if (this.runtimeStateSaver != null) {
+            this.runtimeStateSaver.cancel();
+        }
+        realMines.getBreakActionCoalescer().stop();
+        realMines.getMineManager().stopFileWatcher();
+        DirectoryBrowserGUI.closeListings();
+        realMines.getMineManager().saveRuntimeState();
         realMines.getMineManager().clearMemory();
+        realMines.getMineStorage().close();
 
     }
 
@@ -267,4 +274,8 @@ public class RealMinesPlugin extends JavaPlugin {
     public Economy getEconomy() {
         return econ;
     }
+
+    public boolean hasPlaceholderAPI() {
+        return this.placeholderAPI;
+    }
 }
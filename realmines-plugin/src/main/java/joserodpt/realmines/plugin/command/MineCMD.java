@@ -21,16 +21,23 @@ import dev.triumphteam.cmd.core.annotation.Suggestion;
 import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.converters.RMSupportedConverters;
 import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.mine.storage.YamlMineStorage;
 import joserodpt.realmines.api.utils.Text;
 import joserodpt.realmines.plugin.RealMines;
 import joserodpt.realmines.plugin.gui.MineItemsGUI;
 import joserodpt.realmines.plugin.gui.MineListGUI;
 import joserodpt.realmines.plugin.gui.RealMinesGUI;
 import joserodpt.realmines.plugin.gui.SettingsGUI;
+import joserodpt.realmines.plugin.managers.MineManager;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 
 @Command(value = "realmines", alias = {"mine", "rm"})
@@ -60,8 +67,23 @@ public class MineCMD extends BaseCommandWA {
     @Permission("realmines.admin")
     @SuppressWarnings("unused")
     public void reload(final CommandSender commandSender) {
-        this.rm.reload();
+        final MineManager.ReloadReport report = this.rm.reloadWithReport();
         TranslatableLine.SYSTEM_RELOADED.send(commandSender);
+        TranslatableLine.SYSTEM_RELOADED_MINES.setV1(TranslatableLine.ReplacableVar.VALUE.eq(describe(report))).send(commandSender);
+    }
+
+    //the counts and then the names, so a mine file that failed to parse shows up in the chat and not only in the console
+    private static String describe(final MineManager.ReloadReport report) {
+        final StringBuilder sb = new StringBuilder("&a+" + report.added().size() + " &e~" + report.changed().size() + " &c-" + report.removed().size() + " &4!" + report.failed().size());
+        final List<String> names = new ArrayList<>();
+        report.added().forEach(name -> names.add("&a+" + name));
+        report.changed().forEach(name -> names.add("&e~" + name));
+        report.removed().forEach(name -> names.add("&c-" + name));
+        report.failed().forEach(name -> names.add("&4!" + name));
+        if (!names.isEmpty()) {
+            sb.append(" &7(").append(String.join(" ", names)).append("&7)");
+        }
+        return sb.toString();
     }
 
     @SubCommand(value = "mines", alias = {"p", "panel"})
@@ -206,6 +228,52 @@ public class MineCMD extends BaseCommandWA {
         }
     }
 
+    @SubCommand("storage")
+    @Permission("realmines.admin")
+    @WrongUsage("&c/mine storage <import|export>")
+    @SuppressWarnings("unused")
+    public void storagecmd(final CommandSender commandSender, @Suggestion("#storageactions") final String action) {
+        final MineManager mineManager = rm.getMineManager();
+        if (action.equalsIgnoreCase("export")) {
+            final File folder = new File(rm.getPlugin().getDataFolder(), "mines-export");
+            try {
+                Text.send(commandSender, "&fExported &b" + mineManager.exportMines(folder) + " &fmines to &b" + folder.getName() + "&f.");
+            } catch (final IOException e) {
+                Text.send(commandSender, "&cFailed to export the mines: " + e.getMessage());
+            }
+        } else if (action.equalsIgnoreCase("import")) {
+            if (mineManager.getStorage() instanceof YamlMineStorage) {
+                Text.send(commandSender, "&cThe mines are already stored as YAML files.");
+                return;
+            }
+            final int imported = mineManager.importMines(new File(rm.getPlugin().getDataFolder(), "mines"));
+            mineManager.reloadMines();
+            Text.send(commandSender, "&fImported &b" + imported + " &fmines.");
+        } else {
+            Text.send(commandSender, "&c/mine storage <import|export>");
+        }
+    }
+
+    @SubCommand("memory")
+    @Permission("realmines.admin")
+    @SuppressWarnings("unused")
+    public void memorycmd(final CommandSender commandSender) {
+        final List<RMine> mines = new ArrayList<>(rm.getMineManager().getMines().values());
+        mines.sort(Comparator.comparingLong(RMine::getRetainedSize).reversed());
+
+        long total = 0;
+        for (final RMine mine : mines) {
+            final long size = mine.getRetainedSize();
+            total += size;
+            Text.send(commandSender, "&f" + mine.getName() + " &7- &b" + formatSize(size) + " &7(" + mine.getBlockSets().size() + " block sets)");
+        }
+        Text.send(commandSender, "&fTotal for &b" + mines.size() + " &fmines: &b" + formatSize(total) + " &7(estimate)");
+    }
+
+    private static String formatSize(final long bytes) {
+        return bytes < 1024 ? bytes + " B" : String.format("%.1f KB", bytes / 1024D);
+    }
+
     @SubCommand(value = "silent", alias = "s")
     @Permission("realmines.silent")
     @WrongUsage("&c/mine silent <name>")
@@ -40,6 +40,7 @@ public class MineResetTaskCMD extends BaseCommandWA {
     }
 
     @Default
+    @SuppressWarnings("unused")
     public void defaultCommand(final CommandSender commandSender) {
         Text.sendList(commandSender,
                 Arrays.asList("", "         &9Real&bMines", "         &7Release &a" + rm.getPlugin().getDescription().getVersion(), ""));
@@ -48,6 +49,7 @@ public class MineResetTaskCMD extends BaseCommandWA {
     @SubCommand("create")
     @Permission("realmines.admin")
     @WrongUsage("&c/rmrt create <name> <delay>")
+    @SuppressWarnings("unused")
     public void createcmd(final CommandSender commandSender, @Suggestion("#minetasksuggestions") final String name, @ArgName("#int") final Integer delay) {
         if (commandSender instanceof Player) {
             final MineResetTask mrt = this.rm.getMineResetTasksManager().getTask(ChatColor.stripColor(Text.color(name)));
@@ -65,6 +67,7 @@ public class MineResetTaskCMD extends BaseCommandWA {
     @SubCommand("remove")
     @Permission("realmines.admin")
     @WrongUsage("&c/rmrt create <name> <delay>")
+    @SuppressWarnings("unused")
     public void removecmd(final CommandSender commandSender, @Suggestion("#minetasks") final String name) {
         if (commandSender instanceof Player) {
             final MineResetTask mrt = this.rm.getMineResetTasksManager().getTask(name);
@@ -79,9 +82,24 @@ public class MineResetTaskCMD extends BaseCommandWA {
         }
     }
 
+    @SubCommand("group")
+    @Permission("realmines.admin")
+    @WrongUsage("&c/rmrt group <taskname>")
+    @SuppressWarnings("unused")
+    public void groupcmd(final CommandSender commandSender, @Suggestion("#minetasks") final String name) {
+        final MineResetTask mrt = this.rm.getMineResetTasksManager().getTask(name);
+        if (mrt != null) {
+            mrt.setGrouped(!mrt.isGrouped());
+            Text.send(commandSender, mrt.getName() + " &r&fgrouped reset: " + (mrt.isGrouped() ? "&aON" : "&cOFF"));
+        } else {
+            TranslatableLine.SYSTEM_MINE_TASK_DOESNT_EXIST.send(commandSender);
+        }
+    }
+
     @SubCommand("link")
     @Permission("realmines.admin")
     @WrongUsage("&c/rmrt link <taskname> <mine>")
+    @SuppressWarnings("unused")
     public void linkcmd(final CommandSender commandSender, @Suggestion("#minetasks") final String name, @Suggestion("#mines") final String mine) {
         if (commandSender instanceof Player) {
             final MineResetTask mrt = this.rm.getMineResetTasksManager().getTask(name);
@@ -104,6 +122,7 @@ public class MineResetTaskCMD extends BaseCommandWA {
     @SubCommand("unlink")
     @Permission("realmines.admin")
     @WrongUsage("&c/rmrt unlink <taskname> <mine>")
+    @SuppressWarnings("unused")
     public void unlinkcmd(final CommandSender commandSender, @Suggestion("#minetasks") final String name, @Suggestion("#mines") final String mine) {
         if (commandSender instanceof Player) {
             final MineResetTask mrt = this.rm.getMineResetTasksManager().getTask(name);
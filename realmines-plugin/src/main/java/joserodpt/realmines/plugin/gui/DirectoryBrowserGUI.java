@@ -17,37 +17,29 @@ import joserodpt.realmines.api.RealMinesAPI;
 import joserodpt.realmines.api.config.RMLanguageConfig;
 import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.mine.components.RMFailedToLoadException;
+import joserodpt.realmines.api.utils.GUIHolder;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Pagination;
+import joserodpt.realmines.api.utils.SchematicHeader;
 import joserodpt.realmines.api.utils.Text;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 
 import java.io.File;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.UUID;
 
-public class DirectoryBrowserGUI {
+public class DirectoryBrowserGUI implements GUIHolder {
 
-    private static final Map<UUID, DirectoryBrowserGUI> inventories = new HashMap<>();
     static final ItemStack placeholder = Items.createItem(Material.BLACK_STAINED_GLASS_PANE, 1, "");
     static final ItemStack next = Items.createItem(Material.GREEN_STAINED_GLASS, 1, TranslatableLine.GUI_NEXT_PAGE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Next.Description"));
@@ -56,24 +48,28 @@ public class DirectoryBrowserGUI {
     static final ItemStack close = Items.createItem(Material.ACACIA_DOOR, 1, TranslatableLine.GUI_CLOSE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Close.Description"));
     private final Inventory inv;
-    private final UUID uuid;
-    private final HashMap<Integer, File> display = new HashMap<>();
+    private final HashMap<Integer, DirectoryListing.Entry> display = new HashMap<>();
     private final Collection<String> allowedExtensions;
     private final FileRunnable onFileChoosen;
+    private final Player viewer;
     int pageNumber = 0;
-    Pagination<File> p;
+    Pagination<DirectoryListing.Entry> p;
     private File upDir;
     private File currentDir;
+    private int request;
 
     public DirectoryBrowserGUI(final Player p, final File startDir, String title, Collection<String> allowedExtensions, FileRunnable onFileChoosen) {
+        this.viewer = p;
         this.onFileChoosen = onFileChoosen;
         this.allowedExtensions = allowedExtensions;
-        this.uuid = p.getUniqueId();
-        this.inv = Bukkit.getServer().createInventory(null, 54, title);
+        this.inv = Bukkit.getServer().createInventory(this, 54, title);
 
         loadDirectory(startDir);
+    }
 
-        this.register();
+    //stops watching the directories that were browsed
+    public static void closeListings() {
+        DirectoryListing.close();
     }
 
     private void loadDirectory(final File dir) {
@@ -82,6 +78,7 @@ public class DirectoryBrowserGUI {
         }
 
         this.currentDir = dir;
+        this.pageNumber = 0;
         try {
             this.upDir = dir.getParentFile();
         } catch (Exception e) {
@@ -90,120 +87,109 @@ public class DirectoryBrowserGUI {
         this.load();
     }
 
+    //the directory is listed on the async scheduler, the inventory is filled back on the viewer's thread
     public void load() {
-        List<File> files = Arrays.stream(Objects.requireNonNull(this.currentDir.listFiles())).sorted(Comparator.comparingLong(File::lastModified)).filter(f -> {
-            if (f.isDirectory()) {
-                return true;
-            }
-            for (String ext : this.allowedExtensions) {
-                if (f.getName().endsWith(ext)) {
-                    return true;
+        final File dir = this.currentDir;
+        final int request = ++this.request;
+        this.p = null;
+        this.fillChest(new ArrayList<>());
+
+        Bukkit.getAsyncScheduler().runNow(RealMinesAPI.getInstance().getPlugin(), (ScheduledTask t) -> {
+            final List<DirectoryListing.Entry> entries = DirectoryListing.of(dir).stream().filter(this::isShown).toList();
+            this.viewer.getScheduler().run(RealMinesAPI.getInstance().getPlugin(), (ScheduledTask t2) -> {
+                //another directory was opened in the meantime
+                if (request != this.request) {
+                    return;
                 }
+
+                this.p = new Pagination<>(28, entries);
+                if (!this.p.exists(this.pageNumber)) {
+                    this.pageNumber = 0;
+                }
+                this.fillChest(entries.isEmpty() ? new ArrayList<>() : this.p.getPage(this.pageNumber));
+            }, null);
+        });
+    }
+
+    private boolean isShown(final DirectoryListing.Entry entry) {
+        if (entry.directory()) {
+            return true;
+        }
+        for (String ext : this.allowedExtensions) {
+            if (entry.file().getName().endsWith(ext)) {
+                return true;
             }
-            return false;
-        }).toList();
-
-        if (files.isEmpty()) {
-            this.fillChest(Collections.emptyList());
-        } else {
-            this.p = new Pagination<>(28, files);
-            this.fillChest(this.p.getPage(this.pageNumber));
         }
+        return false;
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    final UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        final DirectoryBrowserGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        e.setCancelled(true);
-                        final Player p = (Player) clicker;
-
-                        switch (e.getRawSlot()) {
-                            case 4:
-                                //go up directory
-                                if (current.currentDir.getParentFile() != null) {
-                                    current.loadDirectory(current.currentDir.getParentFile());
-                                }
-                                break;
-                            case 49:
-                                p.closeInventory();
-                                break;
-                            case 26:
-                            case 35:
-                                this.nextPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                            case 18:
-                            case 27:
-                                this.backPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                        }
-
-                        if (current.display.containsKey(e.getRawSlot())) {
-                            File f = current.display.get(e.getRawSlot());
-                            if (f.isDirectory()) {
-                                current.loadDirectory(f);
-                            } else {
-                                p.closeInventory();
-                                p.getScheduler().runDelayed(RealMinesAPI.getInstance().getPlugin(), (ScheduledTask t) -> {
-                                    try {
-                                        current.onFileChoosen.fileRunnable(f);
-                                    } catch (RMFailedToLoadException ex) {
-                                        throw new RuntimeException(ex);
-                                    }
-                                }, null, 3);
-                            }
-                        }
-                    }
-                }
-            }
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
 
-            private void backPage(final DirectoryBrowserGUI asd) {
-                if (asd.p.exists(asd.pageNumber - 1)) {
-                    --asd.pageNumber;
+        switch (e.getRawSlot()) {
+            case 4:
+                //go up directory
+                if (this.currentDir.getParentFile() != null) {
+                    this.loadDirectory(this.currentDir.getParentFile());
                 }
+                break;
+            case 49:
+                p.closeInventory();
+                break;
+            case 26:
+            case 35:
+                this.nextPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+            case 18:
+            case 27:
+                this.backPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+        }
 
-                asd.fillChest(asd.p.getPage(asd.pageNumber));
+        if (this.display.containsKey(e.getRawSlot())) {
+            final DirectoryListing.Entry entry = this.display.get(e.getRawSlot());
+            final File f = entry.file();
+            if (entry.directory()) {
+                this.loadDirectory(f);
+            } else {
+                p.closeInventory();
+                p.getScheduler().runDelayed(RealMinesAPI.getInstance().getPlugin(), (ScheduledTask t) -> {
+                    try {
+                        this.onFileChoosen.fileRunnable(f);
+                    } catch (RMFailedToLoadException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                }, null, 3);
             }
+        }
+    }
 
-            private void nextPage(final DirectoryBrowserGUI asd) {
-                if (asd.p.exists(asd.pageNumber + 1)) {
-                    ++asd.pageNumber;
-                }
+    private void backPage() {
+        if (this.p == null || this.p.isEmpty()) {
+            return;
+        }
+        if (this.p.exists(this.pageNumber - 1)) {
+            --this.pageNumber;
+        }
 
-                asd.fillChest(asd.p.getPage(asd.pageNumber));
-            }
+        this.fillChest(this.p.getPage(this.pageNumber));
+    }
 
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
-                }
-            }
-        };
+    private void nextPage() {
+        if (this.p == null || this.p.isEmpty()) {
+            return;
+        }
+        if (this.p.exists(this.pageNumber + 1)) {
+            ++this.pageNumber;
+        }
+
+        this.fillChest(this.p.getPage(this.pageNumber));
     }
 
-    public void fillChest(final List<File> items) {
+    public void fillChest(final List<DirectoryListing.Entry> items) {
         this.inv.clear();
         this.display.clear();
 
@@ -226,8 +212,9 @@ public class DirectoryBrowserGUI {
         int slot = 0;
         for (final ItemStack i : this.inv.getContents()) {
             if (i == null && !items.isEmpty()) {
-                final File s = items.get(0);
-                this.inv.setItem(slot, Items.createItem(s.isDirectory() ? Material.CHEST : (s.getName().endsWith(".schem") || s.getName().endsWith(".schematic")) ? Material.FILLED_MAP : Material.MAP, 1, (s.isDirectory() ? "&f&l" : "&f") + s.getName(), Arrays.asList("&7Last modified: " + Text.formatEpoch(s.lastModified()), s.isDirectory() ? "&7Click to open." : "&7Click to select.")));
+                final DirectoryListing.Entry s = items.get(0);
+                final String name = s.file().getName();
+                this.inv.setItem(slot, Items.createItem(s.directory() ? Material.CHEST : SchematicHeader.isSchematic(name) ? Material.FILLED_MAP : Material.MAP, 1, (s.directory() ? "&f&l" : "&f") + name, describe(s)));
                 this.display.put(slot, s);
                 items.remove(0);
             }
@@ -237,29 +224,29 @@ public class DirectoryBrowserGUI {
         this.inv.setItem(49, close);
     }
 
-    public void openInventory(final Player target) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
+    private static List<String> describe(final DirectoryListing.Entry s) {
+        final List<String> lore = new ArrayList<>();
+        lore.add("&7Last modified: " + Text.formatEpoch(s.lastModified()));
+        final SchematicHeader h = s.header();
+        if (h != null) {
+            lore.add("&7Format: &f" + h.format().getDisplayName());
+            lore.add("&7Size: &f" + h.width() + "x" + h.height() + "x" + h.length());
+            lore.add("&7Blocks: &f" + h.blocks());
+            if (h.paletteSize() >= 0) {
+                lore.add("&7Palette: &f" + h.paletteSize() + " block states");
             }
         }
+        lore.add(s.directory() ? "&7Click to open." : "&7Click to select.");
+        return lore;
     }
 
-    public Inventory getInventory() {
-        return this.inv;
-    }
-
-    private void register() {
-        inventories.put(this.uuid, this);
+    public void openInventory(final Player target) {
+        target.openInventory(this.inv);
     }
 
-    private void unregister() {
-        inventories.remove(this.uuid);
+    @Override
+    public Inventory getInventory() {
+        return this.inv;
     }
 
     @FunctionalInterface
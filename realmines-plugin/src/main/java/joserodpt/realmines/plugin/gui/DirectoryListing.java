@@ -0,0 +1,167 @@
+package joserodpt.realmines.plugin.gui;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.utils.SchematicHeader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ - Directory contents for DirectoryBrowserGUI, read off the main thread and kept until the directory changes
+ - Every listed directory is registered on one WatchService, any event in it drops its listing
+ - Schematic headers are kept per file while its size and last modified time stay the same
+ */
+final class DirectoryListing {
+
+    record Entry(File file, boolean directory, long lastModified, SchematicHeader header) {
+    }
+
+    private record Header(long size, long lastModified, SchematicHeader header) {
+    }
+
+    private static final int MAX_DIRECTORIES = 64, MAX_HEADERS = 1024;
+    private static final Map<Path, List<Entry>> listings = new ConcurrentHashMap<>();
+    private static final Map<Path, WatchKey> keys = new ConcurrentHashMap<>();
+    private static final Map<Path, Header> headers = new ConcurrentHashMap<>();
+    private static final AtomicLong invalidations = new AtomicLong();
+    private static WatchService watchService;
+
+    private DirectoryListing() {
+    }
+
+    //blocking, call it from the async scheduler
+    static List<Entry> of(final File dir) {
+        final Path path = dir.toPath().toAbsolutePath().normalize();
+        final List<Entry> cached = listings.get(path);
+        if (cached != null) {
+            return cached;
+        }
+
+        //watch before reading, a change during the read then drops the new listing instead of being missed
+        final boolean watched = watch(path);
+        final long stamp = invalidations.get();
+        final List<Entry> entries = read(dir);
+        if (watched && invalidations.get() == stamp) {
+            if (listings.size() >= MAX_DIRECTORIES) {
+                clear();
+            }
+            listings.put(path, entries);
+        }
+        return entries;
+    }
+
+    static synchronized void close() {
+        clear();
+        headers.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (final IOException ignored) {
+            }
+            watchService = null;
+        }
+    }
+
+    private static List<Entry> read(final File dir) {
+        final File[] files = dir.listFiles();
+        if (files == null) {
+            return List.of();
+        }
+
+        final List<Entry> entries = new ArrayList<>(files.length);
+        for (final File f : files) {
+            final boolean directory = f.isDirectory();
+            final long lastModified = f.lastModified();
+            entries.add(new Entry(f, directory, lastModified, directory ? null : header(f, lastModified)));
+        }
+        entries.sort(Comparator.comparingLong(Entry::lastModified));
+        return List.copyOf(entries);
+    }
+
+    private static SchematicHeader header(final File f, final long lastModified) {
+        if (!SchematicHeader.isSchematic(f.getName())) {
+            return null;
+        }
+
+        final Path path = f.toPath().toAbsolutePath().normalize();
+        final long size = f.length();
+        final Header cached = headers.get(path);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            return cached.header();
+        }
+
+        if (headers.size() >= MAX_HEADERS) {
+            headers.clear();
+        }
+        final SchematicHeader header = SchematicHeader.read(f);
+        headers.put(path, new Header(size, lastModified, header));
+        return header;
+    }
+
+    private static synchronized boolean watch(final Path path) {
+        if (keys.containsKey(path)) {
+            return true;
+        }
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                final WatchService service = watchService;
+                Thread.ofVirtual().name("RealMines-DirectoryBrowserWatcher").start(() -> run(service));
+            }
+            keys.put(path, path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+            return true;
+        } catch (final IOException | UnsupportedOperationException e) {
+            //not watchable, the directory is listed again every time
+            return false;
+        }
+    }
+
+    private static void run(final WatchService service) {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                key.pollEvents();
+                invalidations.incrementAndGet();
+                final Path dir = (Path) key.watchable();
+                listings.remove(dir);
+                if (!key.reset()) {
+                    keys.remove(dir, key);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException ignored) {
+            //closed
+        }
+    }
+
+    private static synchronized void clear() {
+        listings.clear();
+        keys.values().forEach(WatchKey::cancel);
+        keys.clear();
+    }
+}
@@ -54,7 +54,7 @@ public class GUIManager {
         if (config.size() > 2) {
             config = config.subList(0, config.size() - 2);
         }
-        config.forEach(s -> ret.add(Text.color(s.replaceAll("%remainingblocks%", String.valueOf(m.getRemainingBlocks())).replaceAll("%totalblocks%", String.valueOf(m.getBlockCount())).replaceAll("%bar%", m.getBar()))));
+        config.forEach(s -> ret.add(Text.color(s.replace("%remainingblocks%", String.valueOf(m.getRemainingBlocks())).replace("%totalblocks%", String.valueOf(m.getBlockCount())).replace("%bar%", m.getBar()))));
         return ret;
     }
 
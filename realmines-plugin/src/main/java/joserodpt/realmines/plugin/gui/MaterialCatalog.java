@@ -0,0 +1,204 @@
+package joserodpt.realmines.plugin.gui;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.config.RMLanguageConfig;
+import joserodpt.realmines.api.config.TranslatableLine;
+import joserodpt.realmines.api.mine.types.farm.FarmItem;
+import joserodpt.realmines.api.utils.CachedIcon;
+import joserodpt.realmines.api.utils.Items;
+import joserodpt.realmines.api.utils.Text;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ - The materials one kind of picker offers, built once per kind on first use
+ - Searches go through a trigram index over the beautified names, results are index ranges into the catalog
+ */
+final class MaterialCatalog {
+
+    private static final Map<MaterialPickerGUI.MaterialLists, MaterialCatalog> catalogs = new ConcurrentHashMap<>();
+    private static final int[] NO_HITS = new int[0];
+
+    private final Material[] materials;
+    private final String[] names;
+    private final Map<Integer, int[]> trigrams;
+    private final CachedIcon[] icons;
+    private final Results all;
+
+    private MaterialCatalog(final List<Material> materials) {
+        this.materials = materials.toArray(new Material[0]);
+        this.names = new String[this.materials.length];
+        this.icons = new CachedIcon[this.materials.length];
+
+        final Map<Integer, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < this.materials.length; ++i) {
+            this.names[i] = normalize(this.materials[i].name());
+            this.icons[i] = new CachedIcon();
+            final String name = this.names[i];
+            for (int c = 0; c + 3 <= name.length(); ++c) {
+                final List<Integer> list = postings.computeIfAbsent(trigram(name, c), k -> new ArrayList<>());
+                //names are scanned in order, so every posting list stays sorted and without repeats
+                if (list.isEmpty() || list.get(list.size() - 1) != i) {
+                    list.add(i);
+                }
+            }
+        }
+
+        final Map<Integer, int[]> trigrams = new HashMap<>(postings.size() * 2);
+        postings.forEach((k, v) -> trigrams.put(k, v.stream().mapToInt(Integer::intValue).toArray()));
+        this.trigrams = trigrams;
+        this.all = new Results(this, null);
+    }
+
+    static MaterialCatalog of(final MaterialPickerGUI.MaterialLists list) {
+        return catalogs.computeIfAbsent(list, MaterialCatalog::build);
+    }
+
+    //builds every catalog ahead of the first picker
+    static void warmUp() {
+        for (final MaterialPickerGUI.MaterialLists list : MaterialPickerGUI.MaterialLists.values()) {
+            of(list);
+        }
+    }
+
+    private static MaterialCatalog build(final MaterialPickerGUI.MaterialLists list) {
+        return new MaterialCatalog(switch (list) {
+            case ONLY_ITEMS -> Arrays.stream(Material.values())
+                    .filter(m -> !m.equals(Material.AIR) && m.isItem())
+                    .toList();
+            case ALL_MATERIALS -> Arrays.stream(Material.values())
+                    .filter(m -> !m.equals(Material.AIR) && m.isItem() && m.isBlock())
+                    .toList();
+            case ONLY_BLOCKS -> Arrays.stream(Material.values())
+                    .filter(m -> !m.equals(Material.AIR) && m.isSolid() && m.isBlock() && m.isItem())
+                    .toList();
+            case ONLY_FARM_ICONS -> FarmItem.getIcons();
+        });
+    }
+
+    //"diamond_ore", "Diamond Ore" and "DIAMOND ORE" all become "diamond ore"
+    private static String normalize(final String s) {
+        return s.toLowerCase(Locale.ROOT).replace('_', ' ').trim();
+    }
+
+    private static int trigram(final String s, final int i) {
+        return (s.charAt(i) << 16) ^ (s.charAt(i + 1) << 8) ^ s.charAt(i + 2);
+    }
+
+    Results all() {
+        return this.all;
+    }
+
+    Results search(final String input) {
+        final String query = normalize(input == null ? "" : input);
+        if (query.isEmpty()) {
+            return this.all;
+        }
+
+        //too short for a trigram, the names are few enough to check them all
+        if (query.length() < 3) {
+            final int[] hits = new int[this.names.length];
+            int count = 0;
+            for (int i = 0; i < this.names.length; ++i) {
+                if (this.names[i].contains(query)) {
+                    hits[count++] = i;
+                }
+            }
+            return new Results(this, Arrays.copyOf(hits, count));
+        }
+
+        //intersect the posting lists starting from the shortest one
+        int[] candidates = null;
+        for (int c = 0; c + 3 <= query.length(); ++c) {
+            final int[] posting = this.trigrams.get(trigram(query, c));
+            if (posting == null) {
+                return new Results(this, NO_HITS);
+            }
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = candidates == null ? posting : intersect(posting, candidates);
+            } else {
+                candidates = intersect(candidates, posting);
+            }
+            if (candidates.length == 0) {
+                return new Results(this, NO_HITS);
+            }
+        }
+
+        //the trigrams can all be there without being next to each other
+        final int[] hits = new int[candidates.length];
+        int count = 0;
+        for (final int i : candidates) {
+            if (this.names[i].contains(query)) {
+                hits[count++] = i;
+            }
+        }
+        return new Results(this, Arrays.copyOf(hits, count));
+    }
+
+    private static int[] intersect(final int[] small, final int[] large) {
+        final int[] out = new int[small.length];
+        int count = 0;
+        for (final int i : small) {
+            if (Arrays.binarySearch(large, i) >= 0) {
+                out[count++] = i;
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    private ItemStack icon(final int index) {
+        final Material m = this.materials[index];
+        return this.icons[index].get(() -> Items.createItem(m, 1, TranslatableLine.GUI_PICK_NAME.setV1(TranslatableLine.ReplacableVar.MATERIAL.eq(Text.beautifyMaterialName(m))).get(), RMLanguageConfig.file().getStringList("GUI.Items.Pick.Description")));
+    }
+
+    //a view over the catalog, pages are read straight from it without copying
+    static final class Results {
+        private final MaterialCatalog catalog;
+        private final int[] hits;
+
+        private Results(final MaterialCatalog catalog, final int[] hits) {
+            this.catalog = catalog;
+            this.hits = hits;
+        }
+
+        int size() {
+            return this.hits == null ? this.catalog.materials.length : this.hits.length;
+        }
+
+        boolean isEmpty() {
+            return this.size() == 0;
+        }
+
+        Material material(final int i) {
+            return this.catalog.materials[this.hits == null ? i : this.hits[i]];
+        }
+
+        ItemStack icon(final int i) {
+            return this.catalog.icon(this.hits == null ? i : this.hits[i]);
+        }
+
+        int totalPages(final int pageSize) {
+            return (this.size() + pageSize - 1) / pageSize;
+        }
+    }
+}
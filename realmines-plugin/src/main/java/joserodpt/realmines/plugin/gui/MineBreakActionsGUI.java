@@ -23,6 +23,7 @@ import joserodpt.realmines.api.mine.components.actions.MineActionDummy;
 import joserodpt.realmines.api.mine.components.actions.MineActionGiveItem;
 import joserodpt.realmines.api.mine.components.actions.MineActionMoney;
 import joserodpt.realmines.api.mine.components.items.MineItem;
+import joserodpt.realmines.api.utils.GUIHolder;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Pagination;
 import joserodpt.realmines.api.utils.PlayerInput;
@@ -31,27 +32,19 @@ import joserodpt.realmines.plugin.RealMines;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
-public class MineBreakActionsGUI { //TODO TRANSLATE
+public class MineBreakActionsGUI implements GUIHolder { //TODO TRANSLATE
 
-    private static final Map<UUID, MineBreakActionsGUI> inventories = new HashMap<>();
     static final ItemStack placeholder = Items.createItem(Material.BLACK_STAINED_GLASS_PANE, 1, "");
     static final ItemStack next = Items.createItem(Material.GREEN_STAINED_GLASS, 1, TranslatableLine.GUI_NEXT_PAGE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Next.Description"));
@@ -62,7 +55,6 @@ public class MineBreakActionsGUI { //TODO TRANSLATE
     final ItemStack add = Items.createItem(Material.OBSERVER, 1, "&b&LAdd a New Break Action",
             Collections.singletonList("&fClick here to add a new break action to this item."));
     private final Inventory inv;
-    private final UUID uuid;
     private final HashMap<Integer, MineAction> display = new HashMap<>();
     private final RMine mine;
     private final MineItem mineItem;
@@ -73,15 +65,12 @@ public class MineBreakActionsGUI { //TODO TRANSLATE
 
     public MineBreakActionsGUI(final RealMines rm, final Player target, final RMine min, final MineItem mineItem, final String currentBlockSet) {
         this.rm = rm;
-        this.uuid = target.getUniqueId();
         this.currentBlockSet = currentBlockSet;
         this.mine = min;
         this.mineItem = mineItem;
-        this.inv = Bukkit.getServer().createInventory(null, 54, Text.beautifyMaterialName(mineItem.getMaterial()) + " break actions");
+        this.inv = Bukkit.getServer().createInventory(this, 54, Text.beautifyMaterialName(mineItem.getMaterial()) + " break actions");
 
         this.load();
-
-        this.register();
     }
 
     public void load() {
@@ -127,203 +116,152 @@ public class MineBreakActionsGUI { //TODO TRANSLATE
         this.inv.setItem(49, close);
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-
-                    final UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        final Player p = (Player) clicker;
-
-                        e.setCancelled(true);
-
-                        final MineBreakActionsGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        switch (e.getRawSlot()) {
-                            case 49:
-                                p.closeInventory();
-                                final MineItemsGUI v = new MineItemsGUI(current.rm, p, current.mine);
-                                v.openInventory(p);
-                                break;
-                            case 4:
-                                p.closeInventory();
-                                current.rm.getGUIManager().openBreakActionChooser(p, current.mine, current.mineItem, current.currentBlockSet);
-                                break;
-                            case 26:
-                            case 35:
-                                this.nextPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                            case 18:
-                            case 27:
-                                this.backPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                        }
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
+
+        switch (e.getRawSlot()) {
+            case 49:
+                p.closeInventory();
+                final MineItemsGUI v = new MineItemsGUI(this.rm, p, this.mine);
+                v.openInventory(p);
+                break;
+            case 4:
+                p.closeInventory();
+                this.rm.getGUIManager().openBreakActionChooser(p, this.mine, this.mineItem, this.currentBlockSet);
+                break;
+            case 26:
+            case 35:
+                this.nextPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+            case 18:
+            case 27:
+                this.backPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+        }
 
-                        if (current.display.containsKey(e.getRawSlot())) {
-                            final MineAction a = current.display.get(e.getRawSlot());
+        if (this.display.containsKey(e.getRawSlot())) {
+            final MineAction a = this.display.get(e.getRawSlot());
+
+            if (a.isInteractable()) {
+                switch (e.getClick()) {
+                    case DROP:
+                        this.mineItem.getBreakActions().remove(a);
+                        this.mine.saveData(RMine.MineData.BLOCKS);
+                        this.load();
+                        break;
+                    case RIGHT:
+                        switch (a.getType()) {
+                            case DROP_ITEM:
+                            case GIVE_ITEM:
+                                if (p.getInventory().getItemInMainHand().getType() == Material.AIR) {
+                                    return;
+                                }
 
-                            if (a.isInteractable()) {
-                                switch (e.getClick()) {
-                                    case DROP:
-                                        current.mineItem.getBreakActions().remove(a);
-                                        current.mine.saveData(RMine.MineData.BLOCKS);
-                                        current.load();
-                                        break;
-                                    case RIGHT:
-                                        switch (a.getType()) {
-                                            case DROP_ITEM:
-                                            case GIVE_ITEM:
-                                                if (p.getInventory().getItemInMainHand().getType() == Material.AIR) {
-                                                    return;
-                                                }
-
-                                                switch (a.getType()) {
-                                                    case GIVE_ITEM:
-                                                        ((MineActionGiveItem) a).setItem(p.getInventory().getItemInMainHand());
-                                                        break;
-                                                    case DROP_ITEM:
-                                                        ((MineActionDropItem) a).setItem(p.getInventory().getItemInMainHand());
-                                                        break;
-                                                }
-
-                                                current.mine.saveData(RMine.MineData.BLOCKS);
-                                                break;
-                                            case EXECUTE_COMMAND:
-                                                p.closeInventory();
-
-                                                TranslatableLine.MINE_BREAK_ACTION_INPUT_COMMAND.send(p);
-                                                new PlayerInput(false, p, s -> {
-                                                    ((MineActionCommand) a).setCommand(s);
-                                                    current.mine.saveData(RMine.MineData.BLOCKS);
-
-                                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(current.rm, p, current.mine, current.mineItem, current.currentBlockSet);
-                                                    v.openInventory(p);
-                                                }, s -> {
-                                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(current.rm, p, current.mine, current.mineItem, current.currentBlockSet);
-                                                    v.openInventory(p);
-                                                });
-                                                break;
-                                            case GIVE_MONEY:
-                                                p.closeInventory();
-
-                                                TranslatableLine.MINE_BREAK_ACTION_INPUT_AMOUNT.send(p);
-                                                new PlayerInput(true, p, s -> {
-                                                    final double d;
-                                                    try {
-                                                        d = Double.parseDouble(s);
-                                                    } catch (final Exception ex) {
-                                                        TranslatableLine.MINE_BREAK_ACTION_INPUT_AMOUNT_ERROR.send(p);
-                                                        return;
-                                                    }
-
-                                                    ((MineActionMoney) a).setAmount(d);
-                                                    current.mine.saveData(RMine.MineData.BLOCKS);
-
-                                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(current.rm, p, current.mine, current.mineItem, current.currentBlockSet);
-                                                    v.openInventory(p);
-                                                }, s -> {
-                                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(current.rm, p, current.mine, current.mineItem, current.currentBlockSet);
-                                                    v.openInventory(p);
-                                                });
-                                                break;
-                                        }
-                                        current.load();
+                                switch (a.getType()) {
+                                    case GIVE_ITEM:
+                                        ((MineActionGiveItem) a).setItem(p.getInventory().getItemInMainHand());
                                         break;
-
-                                    default:
-                                        //chance chance
-                                        TranslatableLine.MINE_BREAK_ACTION_INPUT_CHANCE.send(p);
-                                        new PlayerInput(true, p, s -> {
-                                            final double d;
-                                            try {
-                                                d = Double.parseDouble(s);
-                                            } catch (final Exception ex) {
-                                                TranslatableLine.MINE_BREAK_ACTION_INPUT_AMOUNT_ERROR.send(p);
-                                                return;
-                                            }
-
-                                            a.setChance(d);
-                                            current.mine.saveData(RMine.MineData.BLOCKS);
-
-                                            final MineBreakActionsGUI v = new MineBreakActionsGUI(current.rm, p, current.mine, current.mineItem, current.currentBlockSet);
-                                            v.openInventory(p);
-                                        }, s -> {
-                                            final MineBreakActionsGUI v = new MineBreakActionsGUI(current.rm, p, current.mine, current.mineItem, current.currentBlockSet);
-                                            v.openInventory(p);
-                                        });
+                                    case DROP_ITEM:
+                                        ((MineActionDropItem) a).setItem(p.getInventory().getItemInMainHand());
                                         break;
                                 }
-                            }
-                        }
-                    }
-                }
-            }
 
-            private void backPage(final MineBreakActionsGUI asd) {
-                if (asd.p.exists(asd.pageNumber - 1)) {
-                    --asd.pageNumber;
-                }
+                                this.mine.saveData(RMine.MineData.BLOCKS);
+                                break;
+                            case EXECUTE_COMMAND:
+                                p.closeInventory();
 
-                asd.fillChest(asd.p.getPage(asd.pageNumber));
-            }
+                                TranslatableLine.MINE_BREAK_ACTION_INPUT_COMMAND.send(p);
+                                new PlayerInput(false, p, s -> {
+                                    ((MineActionCommand) a).setCommand(s);
+                                    this.mine.saveData(RMine.MineData.BLOCKS);
+
+                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(this.rm, p, this.mine, this.mineItem, this.currentBlockSet);
+                                    v.openInventory(p);
+                                }, s -> {
+                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(this.rm, p, this.mine, this.mineItem, this.currentBlockSet);
+                                    v.openInventory(p);
+                                });
+                                break;
+                            case GIVE_MONEY:
+                                p.closeInventory();
 
-            private void nextPage(final MineBreakActionsGUI asd) {
-                if (asd.p.exists(asd.pageNumber + 1)) {
-                    ++asd.pageNumber;
-                }
+                                TranslatableLine.MINE_BREAK_ACTION_INPUT_AMOUNT.send(p);
+                                new PlayerInput(true, p, s -> {
+                                    final double d;
+                                    try {
+                                        d = Double.parseDouble(s);
+                                    } catch (final Exception ex) {
+                                        TranslatableLine.MINE_BREAK_ACTION_INPUT_AMOUNT_ERROR.send(p);
+                                        return;
+                                    }
+
+                                    ((MineActionMoney) a).setAmount(d);
+                                    this.mine.saveData(RMine.MineData.BLOCKS);
+
+                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(this.rm, p, this.mine, this.mineItem, this.currentBlockSet);
+                                    v.openInventory(p);
+                                }, s -> {
+                                    final MineBreakActionsGUI v = new MineBreakActionsGUI(this.rm, p, this.mine, this.mineItem, this.currentBlockSet);
+                                    v.openInventory(p);
+                                });
+                                break;
+                        }
+                        this.load();
+                        break;
+
+                    default:
+                        //chance chance
+                        TranslatableLine.MINE_BREAK_ACTION_INPUT_CHANCE.send(p);
+                        new PlayerInput(true, p, s -> {
+                            final double d;
+                            try {
+                                d = Double.parseDouble(s);
+                            } catch (final Exception ex) {
+                                TranslatableLine.MINE_BREAK_ACTION_INPUT_AMOUNT_ERROR.send(p);
+                                return;
+                            }
 
-                asd.fillChest(asd.p.getPage(asd.pageNumber));
-            }
+                            a.setChance(d);
+                            this.mine.saveData(RMine.MineData.BLOCKS);
 
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
+                            final MineBreakActionsGUI v = new MineBreakActionsGUI(this.rm, p, this.mine, this.mineItem, this.currentBlockSet);
+                            v.openInventory(p);
+                        }, s -> {
+                            final MineBreakActionsGUI v = new MineBreakActionsGUI(this.rm, p, this.mine, this.mineItem, this.currentBlockSet);
+                            v.openInventory(p);
+                        });
+                        break;
                 }
             }
-        };
+        }
     }
 
-    public void openInventory(final Player target) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
+    private void backPage() {
+        if (this.p.exists(this.pageNumber - 1)) {
+            --this.pageNumber;
         }
+
+        this.fillChest(this.p.getPage(this.pageNumber));
     }
 
-    public Inventory getInventory() {
-        return this.inv;
+    private void nextPage() {
+        if (this.p.exists(this.pageNumber + 1)) {
+            ++this.pageNumber;
+        }
+
+        this.fillChest(this.p.getPage(this.pageNumber));
     }
 
-    private void register() {
-        inventories.put(this.uuid, this);
+    public void openInventory(final Player target) {
+        target.openInventory(this.inv);
     }
 
-    private void unregister() {
-        inventories.remove(this.uuid);
+    @Override
+    public Inventory getInventory() {
+        return this.inv;
     }
 }
@@ -20,35 +20,24 @@ import joserodpt.realmines.api.mine.components.MineColor;
 import joserodpt.realmines.plugin.RealMines;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
-public class MineColorPickerGUI {
+public class MineColorPickerGUI implements GUIHolder {
 
-    private static final Map<UUID, MineColorPickerGUI> inventories = new HashMap<>();
     private final Inventory inv;
-    private final UUID uuid;
     private final RMine mi;
     private final RealMines rm;
     private final List<String> colorsDescription = RMLanguageConfig.file().getStringList("GUI.Items.Colors.Description");
 
     public MineColorPickerGUI(final RealMines rm, final Player as, final RMine mi) {
         this.rm = rm;
-        this.uuid = as.getUniqueId();
-        this.inv = Bukkit.getServer().createInventory(null, InventoryType.DROPPER, TranslatableLine.GUI_COLOR_PICKER_NAME.get());
+        this.inv = Bukkit.getServer().createInventory(this, InventoryType.DROPPER, TranslatableLine.GUI_COLOR_PICKER_NAME.get());
 
         this.mi = mi;
 
@@ -61,103 +50,52 @@ public class MineColorPickerGUI {
         this.inv.setItem(6, MineColor.ORANGE.getItem(TranslatableLine.GUI_COLORS_ORANGE.get(), this.colorsDescription));
         this.inv.setItem(7, MineColor.YELLOW.getItem(TranslatableLine.GUI_COLORS_YELLOW.get(), this.colorsDescription));
         this.inv.setItem(8, MineColor.PURPLE.getItem(TranslatableLine.GUI_COLORS_PURPLE.get(), this.colorsDescription));
-
-        this.register();
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    final UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        final MineColorPickerGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        e.setCancelled(true);
-                        final Player gp = (Player) clicker;
-
-                        switch (e.getRawSlot()) {
-                            case 0:
-                                current.mi.setMineColor(MineColor.RED);
-                                break;
-                            case 1:
-                                current.mi.setMineColor(MineColor.GREEN);
-                                break;
-                            case 2:
-                                current.mi.setMineColor(MineColor.BLUE);
-                                break;
-                            case 3:
-                                current.mi.setMineColor(MineColor.BROWN);
-                                break;
-                            case 4:
-                                current.mi.setMineColor(MineColor.GRAY);
-                                break;
-                            case 5:
-                                current.mi.setMineColor(MineColor.WHITE);
-                                break;
-                            case 6:
-                                current.mi.setMineColor(MineColor.ORANGE);
-                                break;
-                            case 7:
-                                current.mi.setMineColor(MineColor.YELLOW);
-                                break;
-                            case 8:
-                                current.mi.setMineColor(MineColor.PURPLE);
-                                break;
-                        }
-                        gp.playSound(gp.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 50, 50);
-                        gp.closeInventory();
-                        gp.getScheduler().runDelayed(current.rm.getPlugin(), (ScheduledTask t) -> current.rm.getGUIManager().openMine(current.mi, gp), null, 2);
-                    }
-                }
-            }
-
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
-                }
-            }
-        };
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player gp) {
+        e.setCancelled(true);
+
+        switch (e.getRawSlot()) {
+            case 0:
+                this.mi.setMineColor(MineColor.RED);
+                break;
+            case 1:
+                this.mi.setMineColor(MineColor.GREEN);
+                break;
+            case 2:
+                this.mi.setMineColor(MineColor.BLUE);
+                break;
+            case 3:
+                this.mi.setMineColor(MineColor.BROWN);
+                break;
+            case 4:
+                this.mi.setMineColor(MineColor.GRAY);
+                break;
+            case 5:
+                this.mi.setMineColor(MineColor.WHITE);
+                break;
+            case 6:
+                this.mi.setMineColor(MineColor.ORANGE);
+                break;
+            case 7:
+                this.mi.setMineColor(MineColor.YELLOW);
+                break;
+            case 8:
+                this.mi.setMineColor(MineColor.PURPLE);
+                break;
+        }
+        gp.playSound(gp.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 50, 50);
+        gp.closeInventory();
+        gp.getScheduler().runDelayed(this.rm.getPlugin(), (ScheduledTask t) -> this.rm.getGUIManager().openMine(this.mi, gp), null, 2);
     }
 
     public void openInventory(final Player target) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
-        }
+        target.openInventory(this.inv);
     }
 
+    @Override
     public Inventory getInventory() {
         return this.inv;
     }
-
-    private void register() {
-        inventories.put(this.uuid, this);
-    }
-
-    private void unregister() {
-        inventories.remove(this.uuid);
-    }
 }
@@ -17,35 +17,26 @@ import joserodpt.realmines.api.config.RMLanguageConfig;
 import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.mine.RMine;
 import joserodpt.realmines.api.mine.components.MineCuboid;
+import joserodpt.realmines.api.utils.GUIHolder;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.plugin.RealMines;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
-public class MineFacesGUI {
+public class MineFacesGUI implements GUIHolder {
 
-    private static final Map<UUID, MineFacesGUI> inventories = new HashMap<>();
     static final ItemStack close = Items.createItem(Material.ACACIA_DOOR, 1, TranslatableLine.GUI_CLOSE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Close.Description"));
     private final Inventory inv;
-    private final UUID uuid;
     private final RMine m;
 
     private final RealMines rm;
@@ -53,12 +44,9 @@ public class MineFacesGUI {
     public MineFacesGUI(final RealMines rm, final Player as, final RMine m) {
         this.rm = rm;
         this.m = m;
-        this.uuid = as.getUniqueId();
-        this.inv = Bukkit.getServer().createInventory(null, 54, TranslatableLine.GUI_FACES_NAME.get());
+        this.inv = Bukkit.getServer().createInventory(this, 54, TranslatableLine.GUI_FACES_NAME.get());
 
         load();
-
-        this.register();
     }
 
     private void load() {
@@ -83,73 +71,39 @@ public class MineFacesGUI {
         };
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    final UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        final MineFacesGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        e.setCancelled(true);
-                        final Player p = (Player) clicker;
-
-                        switch (e.getRawSlot()) {
-                            case 53:
-                                p.closeInventory();
-                                current.rm.getGUIManager().openMine(current.m, p);
-                                break;
-                            case 13:
-                            case 22:
-                            case 21:
-                            case 23:
-                            case 31:
-                            case 40:
-                                if (e.getClick() == ClickType.DROP) {
-                                    current.m.removeFaceblock(getDirection(e.getRawSlot()));
-                                    current.load();
-                                } else {
-                                    p.closeInventory();
-                                    p.getScheduler().runDelayed(current.rm.getPlugin(), (ScheduledTask t) -> {
-                                        final MaterialPickerGUI mpg = new MaterialPickerGUI(p, TranslatableLine.GUI_PICK_NEW_BLOCK_NAME.get(), MaterialPickerGUI.MaterialLists.ONLY_BLOCKS, mat -> {
-                                            if (mat != null) {
-                                                current.m.setFaceBlock(getDirection(e.getRawSlot()), mat);
-                                            }
-
-                                            final MineFacesGUI va = new MineFacesGUI(current.rm, p, current.m);
-                                            va.openInventory(p);
-                                        });
-                                        mpg.openInventory(p);
-                                    }, null, 1);
-                                }
-                        }
-                    }
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
+
+        switch (e.getRawSlot()) {
+            case 53:
+                p.closeInventory();
+                this.rm.getGUIManager().openMine(this.m, p);
+                break;
+            case 13:
+            case 22:
+            case 21:
+            case 23:
+            case 31:
+            case 40:
+                if (e.getClick() == ClickType.DROP) {
+                    this.m.removeFaceblock(getDirection(e.getRawSlot()));
+                    this.load();
+                } else {
+                    p.closeInventory();
+                    p.getScheduler().runDelayed(this.rm.getPlugin(), (ScheduledTask t) -> {
+                        final MaterialPickerGUI mpg = new MaterialPickerGUI(p, TranslatableLine.GUI_PICK_NEW_BLOCK_NAME.get(), MaterialPickerGUI.MaterialLists.ONLY_BLOCKS, mat -> {
+                            if (mat != null) {
+                                this.m.setFaceBlock(getDirection(e.getRawSlot()), mat);
+                            }
+
+                            final MineFacesGUI va = new MineFacesGUI(this.rm, p, this.m);
+                            va.openInventory(p);
+                        });
+                        mpg.openInventory(p);
+                    }, null, 1);
                 }
-            }
-
-
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
-                }
-            }
-        };
+        }
     }
 
     private ItemStack getIcon(final RMine m, final MineCuboid.CuboidDirection sel) {
@@ -166,27 +120,11 @@ public class MineFacesGUI {
     }
 
     public void openInventory(final Player target) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
-        }
+        target.openInventory(this.inv);
     }
 
+    @Override
     public Inventory getInventory() {
         return this.inv;
     }
-
-    private void register() {
-        inventories.put(this.uuid, this);
-    }
-
-    private void unregister() {
-        inventories.remove(this.uuid);
-    }
 }
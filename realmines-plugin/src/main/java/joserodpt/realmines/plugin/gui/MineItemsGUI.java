@@ -24,6 +24,7 @@ import joserodpt.realmines.api.mine.components.items.MineItem;
 import joserodpt.realmines.api.mine.components.items.farm.MineFarmItem;
 import joserodpt.realmines.api.mine.types.BlockMine;
 import joserodpt.realmines.api.mine.types.farm.FarmMine;
+import joserodpt.realmines.api.utils.GUIHolder;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Pagination;
 import joserodpt.realmines.api.utils.PercentageInput;
@@ -33,14 +34,9 @@ import joserodpt.realmines.plugin.RealMines;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 
@@ -48,13 +44,10 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
-public class MineItemsGUI {
+public class MineItemsGUI implements GUIHolder {
 
-    private static final Map<UUID, MineItemsGUI> inventories = new HashMap<>();
     static final ItemStack placeholder = Items.createItem(Material.BLACK_STAINED_GLASS_PANE, 1, "");
     static final ItemStack next = Items.createItem(Material.GREEN_STAINED_GLASS, 1, TranslatableLine.GUI_NEXT_PAGE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Next.Description"));
@@ -67,7 +60,6 @@ public class MineItemsGUI {
     static ItemStack addSet = Items.createItem(Material.CAULDRON, 1, "&fAdd &anew &fblock set",
             List.of("&fClick here to add a new block set."));
     private final Inventory inv;
-    private final UUID uuid;
     private final RMine mine;
     int pageNumber = 0;
     Pagination<MineItem> items;
@@ -84,13 +76,10 @@ public class MineItemsGUI {
     public MineItemsGUI(final RealMines rm, final Player target, final RMine mine, final String selectedBlockSet) {
         this.rm = rm;
         this.selectedBlockSet = selectedBlockSet;
-        this.uuid = target.getUniqueId();
         this.mine = mine;
-        this.inv = Bukkit.getServer().createInventory(null, mine.getType() == RMine.Type.SCHEMATIC ? 45 : 54, TranslatableLine.GUI_MINE_BLOCKS_NAME.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.mine.getDisplayName())).get());
+        this.inv = Bukkit.getServer().createInventory(this, mine.getType() == RMine.Type.SCHEMATIC ? 45 : 54, TranslatableLine.GUI_MINE_BLOCKS_NAME.setV1(TranslatableLine.ReplacableVar.MINE.eq(this.mine.getDisplayName())).get());
 
         this.load();
-
-        this.register();
     }
 
     public void load() {
@@ -170,314 +159,268 @@ public class MineItemsGUI {
         }
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
+
+        switch (e.getRawSlot()) {
+            case 39:
+                if (this.mine.getType() == RMine.Type.SCHEMATIC) {
+                    return;
+                }
+                this.mine.setBlockSetMode(this.mine.getBlockSetMode().next());
+                this.load();
+                break;
+            case 40:
+                if (this.mine.getType() == RMine.Type.SCHEMATIC) {
+                    p.closeInventory();
+                    this.rm.getGUIManager().openMine(this.mine, p);
+                    return;
+                }
+                this.mine.addBlockSet(null);
+                this.load();
+                break;
+            case 41:
+                if (this.mine.getType() == RMine.Type.SCHEMATIC) {
+                    return;
+                }
+                p.closeInventory();
+                this.rm.getGUIManager().openMine(this.mine, p);
+                break;
+            case 4:
+                if (this.mine.getType() == RMine.Type.SCHEMATIC) {
+                    return;
+                }
+
+                p.closeInventory();
+
+                final MaterialPickerGUI mpg = new MaterialPickerGUI(p, TranslatableLine.GUI_PICK_NEW_BLOCK_NAME.get(), this.mine.getType() == RMine.Type.FARM ? MaterialPickerGUI.MaterialLists.ONLY_FARM_ICONS : MaterialPickerGUI.MaterialLists.ONLY_BLOCKS, mat -> {
+                    if (mat != null) {
+                        switch (this.mine.getType()) {
+                            case BLOCKS ->
+                                    ((BlockMine) this.mine).addItem(this.selectedBlockSet, new MineBlockItem(mat));
+                            case FARM ->
+                                    ((FarmMine) this.mine).addFarmItem(this.selectedBlockSet, new MineFarmItem(mat));
+                        }
                     }
 
-                    final UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        final Player p = (Player) clicker;
+                    final MineItemsGUI v = new MineItemsGUI(this.rm, p, this.mine, this.selectedBlockSet);
+                    v.openInventory(p);
+                });
+                mpg.openInventory(p);
+                break;
+            case 0:
+                this.mine.setSettingBool(RMineSettings.BREAK_PERMISSION, !this.mine.getSettingBool(RMineSettings.BREAK_PERMISSION));
+                this.load();
+                break;
+            case 8:
+                this.mine.setSettingBool(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES, !this.mine.getSettingBool(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES));
+                this.load();
+                break;
+            case 26:
+            case 35:
+                this.nextPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+            case 18:
+            case 27:
+                this.backPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+            case 45:
+                this.backPageBlockSets();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+            case 53:
+                this.nextPageBlockSets();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+            default:
+                if (e.getRawSlot() >= e.getView().getTopInventory().getSize()) {
+                    try {
+                        switch (this.mine.getType()) {
+                            case BLOCKS ->
+                                    ((BlockMine) this.mine).addItem(this.selectedBlockSet, new MineBlockItem(e.getCurrentItem().getType()));
+                            case FARM ->
+                                    ((FarmMine) this.mine).addFarmItem(this.selectedBlockSet, new MineFarmItem(e.getCurrentItem().getType()));
+                        }
+                        this.load();
+                    } catch (Exception a) {
+                        Text.send(p, "&cYou can't add that block to the mine.");
+                    }
+                }
+        }
 
-                        e.setCancelled(true);
+        if (this.display.containsKey(e.getRawSlot())) {
+            Object obj = this.display.get(e.getRawSlot());
+            if (obj instanceof MineItem minItem) {
+                if (!minItem.isInteractable()) {
+                    return;
+                }
 
-                        final MineItemsGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
+                switch (e.getClick()) {
+                    case DROP:
+                        if (this.mine.getType() == RMine.Type.SCHEMATIC) {
                             return;
                         }
 
-                        switch (e.getRawSlot()) {
-                            case 39:
-                                if (current.mine.getType() == RMine.Type.SCHEMATIC) {
-                                    return;
-                                }
-                                current.mine.setBlockSetMode(current.mine.getBlockSetMode().next());
-                                current.load();
-                                break;
-                            case 40:
-                                if (current.mine.getType() == RMine.Type.SCHEMATIC) {
-                                    p.closeInventory();
-                                    current.rm.getGUIManager().openMine(current.mine, p);
-                                    return;
-                                }
-                                current.mine.addBlockSet(null);
-                                current.load();
-                                break;
-                            case 41:
-                                if (current.mine.getType() == RMine.Type.SCHEMATIC) {
-                                    return;
-                                }
-                                p.closeInventory();
-                                current.rm.getGUIManager().openMine(current.mine, p);
-                                break;
-                            case 4:
-                                if (current.mine.getType() == RMine.Type.SCHEMATIC) {
-                                    return;
-                                }
-
-                                p.closeInventory();
-
-                                final MaterialPickerGUI mpg = new MaterialPickerGUI(p, TranslatableLine.GUI_PICK_NEW_BLOCK_NAME.get(), current.mine.getType() == RMine.Type.FARM ? MaterialPickerGUI.MaterialLists.ONLY_FARM_ICONS : MaterialPickerGUI.MaterialLists.ONLY_BLOCKS, mat -> {
-                                    if (mat != null) {
-                                        switch (current.mine.getType()) {
-                                            case BLOCKS ->
-                                                    ((BlockMine) current.mine).addItem(current.selectedBlockSet, new MineBlockItem(mat));
-                                            case FARM ->
-                                                    ((FarmMine) current.mine).addFarmItem(current.selectedBlockSet, new MineFarmItem(mat));
-                                        }
-                                    }
-
-                                    final MineItemsGUI v = new MineItemsGUI(current.rm, p, current.mine, current.selectedBlockSet);
-                                    v.openInventory(p);
-                                });
-                                mpg.openInventory(p);
-                                break;
-                            case 0:
-                                current.mine.setSettingBool(RMineSettings.BREAK_PERMISSION, !current.mine.getSettingBool(RMineSettings.BREAK_PERMISSION));
-                                current.load();
-                                break;
-                            case 8:
-                                current.mine.setSettingBool(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES, !current.mine.getSettingBool(RMineSettings.DISCARD_BREAK_ACTION_MESSAGES));
-                                current.load();
-                                break;
-                            case 26:
-                            case 35:
-                                this.nextPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                            case 18:
-                            case 27:
-                                this.backPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                        // eliminar
+                        switch (this.mine.getType()) {
+                            case BLOCKS:
+                                ((BlockMine) this.mine).removeMineBlockItem(this.selectedBlockSet, minItem);
                                 break;
-                            case 45:
-                                this.backPageBlockSets(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                            case FARM:
+                                ((FarmMine) this.mine).removeMineFarmItem(this.selectedBlockSet, minItem);
                                 break;
-                            case 53:
-                                this.nextPageBlockSets(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                            default:
-                                if (e.getRawSlot() >= e.getView().getTopInventory().getSize()) {
-                                    try {
-                                        switch (current.mine.getType()) {
-                                            case BLOCKS ->
-                                                    ((BlockMine) current.mine).addItem(current.selectedBlockSet, new MineBlockItem(e.getCurrentItem().getType()));
-                                            case FARM ->
-                                                    ((FarmMine) current.mine).addFarmItem(current.selectedBlockSet, new MineFarmItem(e.getCurrentItem().getType()));
-                                        }
-                                        current.load();
-                                    } catch (Exception a) {
-                                        Text.send(p, "&cYou can't add that block to the mine.");
-                                    }
-                                }
                         }
 
-                        if (current.display.containsKey(e.getRawSlot())) {
-                            Object obj = current.display.get(e.getRawSlot());
-                            if (obj instanceof MineItem minItem) {
-                                if (!minItem.isInteractable()) {
-                                    return;
-                                }
-
-                                switch (e.getClick()) {
-                                    case DROP:
-                                        if (current.mine.getType() == RMine.Type.SCHEMATIC) {
-                                            return;
-                                        }
-
-                                        // eliminar
-                                        switch (current.mine.getType()) {
-                                            case BLOCKS:
-                                                ((BlockMine) current.mine).removeMineBlockItem(current.selectedBlockSet, minItem);
-                                                break;
-                                            case FARM:
-                                                ((FarmMine) current.mine).removeMineFarmItem(current.selectedBlockSet, minItem);
-                                                break;
-                                        }
-
-                                        TranslatableLine.SYSTEM_REMOVE.setV1(TranslatableLine.ReplacableVar.OBJECT.eq(Text.beautifyMaterialName(minItem.getMaterial()))).send(p);
-                                        current.load();
-                                        break;
-                                    case SHIFT_RIGHT:
-                                        if (minItem instanceof MineFarmItem) {
-                                            ((MineFarmItem) minItem).addAge(-1);
-                                            current.mine.saveData(RMine.MineData.BLOCKS);
-                                            current.load();
-                                        } else {
-                                            //enable block drop
-                                            minItem.toggleBlockMining();
-                                            current.mine.saveData(RMine.MineData.BLOCKS);
-                                            current.load();
-                                        }
-                                        break;
-                                    case SHIFT_LEFT:
-                                        if (minItem instanceof MineFarmItem) {
-                                            ((MineFarmItem) minItem).addAge(1);
-                                            current.mine.saveData(RMine.MineData.BLOCKS);
-                                        } else {
-                                            //disable block drop
-                                            minItem.toggleVanillaBlockDrop();
-                                            current.mine.saveData(RMine.MineData.BLOCKS);
-                                        }
-                                        current.load();
-                                        break;
-
-                                    case RIGHT:
-                                        p.closeInventory();
-                                        p.getScheduler().runDelayed(current.rm.getPlugin(), (ScheduledTask t) -> {
-                                            final MineBreakActionsGUI v = new MineBreakActionsGUI(current.rm, p, current.mine, minItem, current.selectedBlockSet);
-                                            v.openInventory(p);
-                                        }, null, 2);
-                                        break;
-                                    default:
-                                        if (current.mine.getType() == RMine.Type.SCHEMATIC) {
-                                            return;
-                                        }
-
-                                        // resto
-                                        current.editPercentage(p, minItem, current);
-                                        break;
-                                }
-                            }
-                            if (obj instanceof RMBlockSet blockSet) {
-                                switch (e.getClick()) {
-                                    case DROP:
-                                        if (blockSet.isDefault()) {
-                                            Text.send(p, "&cYou can't remove the default block set.");
-                                            return;
-                                        }
-
-                                        current.mine.removeBlockSet(blockSet);
-
-                                        if (blockSet.getKey().equalsIgnoreCase(current.selectedBlockSet)) {
-                                            current.selectedBlockSet = "default";
-                                        }
-
-                                        current.load();
-                                        break;
-                                    case LEFT:
-                                        current.selectedBlockSet = blockSet.getKey();
-                                        current.load();
-                                        break;
-                                    case SHIFT_LEFT:
-                                        p.closeInventory();
-                                        p.getScheduler().runDelayed(current.rm.getPlugin(), (ScheduledTask t2) -> {
-                                            final MaterialPickerGUI mpg = new MaterialPickerGUI(p, TranslatableLine.GUI_SELECT_ICON_NAME.setV1(TranslatableLine.ReplacableVar.MINE.eq(blockSet.getKey())).get(), MaterialPickerGUI.MaterialLists.ALL_MATERIALS, mat -> {
-                                                if (mat != null) {
-                                                    blockSet.setIcon(mat);
-                                                    current.mine.saveData(RMine.MineData.BLOCKS);
-                                                }
-                                                MineItemsGUI v = new MineItemsGUI(current.rm, p, current.mine, current.selectedBlockSet);
-                                                v.openInventory(p);
-                                            });
-                                            mpg.openInventory(p);
-                                        }, null, 2);
-                                        break;
-                                    case RIGHT:
-                                        p.closeInventory();
-                                        new PlayerInput(true, p, s -> {
-                                            String oldKey = blockSet.getKey();
-                                            current.mine.renameBlockSet(oldKey, s);
-                                            MineItemsGUI v = new MineItemsGUI(current.rm, p, current.mine, s);
-                                            v.openInventory(p);
-                                        }, s -> {
-                                            MineItemsGUI v = new MineItemsGUI(current.rm, p, current.mine, current.selectedBlockSet);
-                                            v.openInventory(p);
-                                        });
-                                        break;
-                                    case SHIFT_RIGHT:
-                                        p.closeInventory();
-                                        new PlayerInput(false, p, s -> {
-                                            blockSet.setDescription(s);
-                                            current.mine.saveData(RMine.MineData.BLOCKS);
-                                            MineItemsGUI v = new MineItemsGUI(current.rm, p, current.mine, current.selectedBlockSet);
-                                            v.openInventory(p);
-                                        }, s -> {
-                                            MineItemsGUI v = new MineItemsGUI(current.rm, p, current.mine, current.selectedBlockSet);
-                                            v.openInventory(p);
-                                        });
-                                        break;
-                                }
-                            }
+                        TranslatableLine.SYSTEM_REMOVE.setV1(TranslatableLine.ReplacableVar.OBJECT.eq(Text.beautifyMaterialName(minItem.getMaterial()))).send(p);
+                        this.load();
+                        break;
+                    case SHIFT_RIGHT:
+                        if (minItem instanceof MineFarmItem) {
+                            ((MineFarmItem) minItem).addAge(-1);
+                            this.mine.saveData(RMine.MineData.BLOCKS);
+                            this.load();
+                        } else {
+                            //enable block drop
+                            minItem.toggleBlockMining();
+                            this.mine.saveData(RMine.MineData.BLOCKS);
+                            this.load();
                         }
-                    }
+                        break;
+                    case SHIFT_LEFT:
+                        if (minItem instanceof MineFarmItem) {
+                            ((MineFarmItem) minItem).addAge(1);
+                            this.mine.saveData(RMine.MineData.BLOCKS);
+                        } else {
+                            //disable block drop
+                            minItem.toggleVanillaBlockDrop();
+                            this.mine.saveData(RMine.MineData.BLOCKS);
+                        }
+                        this.load();
+                        break;
+
+                    case RIGHT:
+                        p.closeInventory();
+                        p.getScheduler().runDelayed(this.rm.getPlugin(), (ScheduledTask t) -> {
+                            final MineBreakActionsGUI v = new MineBreakActionsGUI(this.rm, p, this.mine, minItem, this.selectedBlockSet);
+                            v.openInventory(p);
+                        }, null, 2);
+                        break;
+                    default:
+                        if (this.mine.getType() == RMine.Type.SCHEMATIC) {
+                            return;
+                        }
+
+                        // resto
+                        this.editPercentage(p, minItem, this);
+                        break;
                 }
             }
+            if (obj instanceof RMBlockSet blockSet) {
+                switch (e.getClick()) {
+                    case DROP:
+                        if (blockSet.isDefault()) {
+                            Text.send(p, "&cYou can't remove the default block set.");
+                            return;
+                        }
 
-            private void nextPageBlockSets(MineItemsGUI current) {
-                if (current.blockSets.exists(current.pageNumberBlockSets + 1)) {
-                    ++current.pageNumberBlockSets;
-                }
+                        this.mine.removeBlockSet(blockSet);
 
-                current.fillChest(current.items.getPage(current.pageNumber), current.blockSets.getPage(current.pageNumberBlockSets));
-            }
+                        if (blockSet.getKey().equalsIgnoreCase(this.selectedBlockSet)) {
+                            this.selectedBlockSet = "default";
+                        }
 
-            private void backPageBlockSets(MineItemsGUI current) {
-                if (current.blockSets.exists(current.pageNumberBlockSets - 1)) {
-                    --current.pageNumberBlockSets;
+                        this.load();
+                        break;
+                    case LEFT:
+                        this.selectedBlockSet = blockSet.getKey();
+                        this.load();
+                        break;
+                    case SHIFT_LEFT:
+                        p.closeInventory();
+                        p.getScheduler().runDelayed(this.rm.getPlugin(), (ScheduledTask t2) -> {
+                            final MaterialPickerGUI mpg = new MaterialPickerGUI(p, TranslatableLine.GUI_SELECT_ICON_NAME.setV1(TranslatableLine.ReplacableVar.MINE.eq(blockSet.getKey())).get(), MaterialPickerGUI.MaterialLists.ALL_MATERIALS, mat -> {
+                                if (mat != null) {
+                                    blockSet.setIcon(mat);
+                                    this.mine.saveData(RMine.MineData.BLOCKS);
+                                }
+                                MineItemsGUI v = new MineItemsGUI(this.rm, p, this.mine, this.selectedBlockSet);
+                                v.openInventory(p);
+                            });
+                            mpg.openInventory(p);
+                        }, null, 2);
+                        break;
+                    case RIGHT:
+                        p.closeInventory();
+                        new PlayerInput(true, p, s -> {
+                            String oldKey = blockSet.getKey();
+                            this.mine.renameBlockSet(oldKey, s);
+                            MineItemsGUI v = new MineItemsGUI(this.rm, p, this.mine, s);
+                            v.openInventory(p);
+                        }, s -> {
+                            MineItemsGUI v = new MineItemsGUI(this.rm, p, this.mine, this.selectedBlockSet);
+                            v.openInventory(p);
+                        });
+                        break;
+                    case SHIFT_RIGHT:
+                        p.closeInventory();
+                        new PlayerInput(false, p, s -> {
+                            blockSet.setDescription(s);
+                            this.mine.saveData(RMine.MineData.BLOCKS);
+                            MineItemsGUI v = new MineItemsGUI(this.rm, p, this.mine, this.selectedBlockSet);
+                            v.openInventory(p);
+                        }, s -> {
+                            MineItemsGUI v = new MineItemsGUI(this.rm, p, this.mine, this.selectedBlockSet);
+                            v.openInventory(p);
+                        });
+                        break;
                 }
-
-                current.fillChest(current.items.getPage(current.pageNumber), current.blockSets.getPage(current.pageNumberBlockSets));
             }
+        }
+    }
 
-            private void backPage(final MineItemsGUI asd) {
-                if (asd.items.exists(asd.pageNumber - 1)) {
-                    --asd.pageNumber;
-                }
+    private void nextPageBlockSets() {
+        if (this.blockSets.exists(this.pageNumberBlockSets + 1)) {
+            ++this.pageNumberBlockSets;
+        }
 
-                asd.fillChest(asd.items.getPage(asd.pageNumber), asd.blockSets.getPage(asd.pageNumberBlockSets));
-            }
+        this.fillChest(this.items.getPage(this.pageNumber), this.blockSets.getPage(this.pageNumberBlockSets));
+    }
 
-            private void nextPage(final MineItemsGUI asd) {
-                if (asd.items.exists(asd.pageNumber + 1)) {
-                    ++asd.pageNumber;
-                }
+    private void backPageBlockSets() {
+        if (this.blockSets.exists(this.pageNumberBlockSets - 1)) {
+            --this.pageNumberBlockSets;
+        }
 
-                asd.fillChest(asd.items.getPage(asd.pageNumber), asd.blockSets.getPage(asd.pageNumberBlockSets));
-            }
+        this.fillChest(this.items.getPage(this.pageNumber), this.blockSets.getPage(this.pageNumberBlockSets));
+    }
 
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
-                }
-            }
+    private void backPage() {
+        if (this.items.exists(this.pageNumber - 1)) {
+            --this.pageNumber;
         }
 
-                ;
+        this.fillChest(this.items.getPage(this.pageNumber), this.blockSets.getPage(this.pageNumberBlockSets));
     }
 
-    public void openInventory(final Player target) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
+    private void nextPage() {
+        if (this.items.exists(this.pageNumber + 1)) {
+            ++this.pageNumber;
         }
+
+        this.fillChest(this.items.getPage(this.pageNumber), this.blockSets.getPage(this.pageNumberBlockSets));
+    }
+
+    public void openInventory(final Player target) {
+        target.openInventory(this.inv);
     }
 
     protected void editPercentage(final Player p, final MineItem a, final MineItemsGUI current) {
         p.closeInventory();
 
-        if (RMConfig.file().getBoolean("RealMines.useButtonGUIForPercentages")) {
+        if (RMConfig.values().useButtonGUIForPercentages()) {
             PercentageInput pi = new PercentageInput(p, rm.getPlugin(), (int) (a.getPercentage() * 100), percentage -> {
                 a.setPercentage((double) percentage / 100);
                 current.mine.saveData(RMine.MineData.BLOCKS);
@@ -525,15 +468,8 @@ public class MineItemsGUI {
         }
     }
 
+    @Override
     public Inventory getInventory() {
         return this.inv;
     }
-
-    private void register() {
-        inventories.put(this.uuid, this);
-    }
-
-    private void unregister() {
-        inventories.remove(this.uuid);
-    }
 }
@@ -16,6 +16,7 @@ package joserodpt.realmines.plugin.gui;
 import joserodpt.realmines.api.config.RMLanguageConfig;
 import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.mine.components.MineIcon;
+import joserodpt.realmines.api.utils.GUIHolder;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.Pagination;
 import joserodpt.realmines.api.utils.Text;
@@ -23,29 +24,21 @@ import joserodpt.realmines.plugin.RealMines;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
-public class MineListGUI {
+public class MineListGUI implements GUIHolder {
 
     public enum MineListSort {DEFAULT, SIZE}
 
-    private static final Map<UUID, MineListGUI> inventories = new HashMap<>();
     static final ItemStack placeholder = Items.createItem(Material.BLACK_STAINED_GLASS_PANE, 1, "");
     static final ItemStack next = Items.createItem(Material.GREEN_STAINED_GLASS, 1, TranslatableLine.GUI_NEXT_PAGE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Next.Description"));
@@ -54,7 +47,6 @@ public class MineListGUI {
     static final ItemStack close = Items.createItem(Material.ACACIA_DOOR, 1, TranslatableLine.GUI_CLOSE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Close.Description"));
     private final Inventory inv;
-    private final UUID uuid;
     private final HashMap<Integer, MineIcon> display = new HashMap<>();
     int pageNumber = 0;
     Pagination<MineIcon> p;
@@ -63,12 +55,9 @@ public class MineListGUI {
 
     public MineListGUI(final RealMines rm, final Player as, final MineListSort so) {
         this.rm = rm;
-        this.uuid = as.getUniqueId();
-        this.inv = Bukkit.getServer().createInventory(null, 54, Text.pluginPrefix);
+        this.inv = Bukkit.getServer().createInventory(this, 54, Text.pluginPrefix);
 
         this.load(so);
-
-        this.register();
     }
 
     public void load(MineListSort so) {
@@ -82,94 +71,61 @@ public class MineListGUI {
         this.fillChest(this.p.getPage(this.pageNumber));
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    final UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        final MineListGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        e.setCancelled(true);
-                        final Player p = (Player) clicker;
-
-                        switch (e.getRawSlot()) {
-                            case 4:
-                                current.load(current.so == MineListSort.DEFAULT ? MineListSort.SIZE : MineListSort.DEFAULT);
-                                break;
-                            case 49:
-                                p.closeInventory();
-                                final RealMinesGUI rmg = new RealMinesGUI(p, current.rm);
-                                rmg.openInventory(p);
-                                break;
-                            case 26:
-                            case 35:
-                                this.nextPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                            case 18:
-                            case 27:
-                                this.backPage(current);
-                                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
-                                break;
-                        }
-
-                        if (current.display.containsKey(e.getRawSlot())) {
-                            MineIcon icon = current.display.get(e.getRawSlot());
-                            if (icon.getMine() == null) {
-                                return;
-                            }
-                            if (e.getClick() == ClickType.DROP) {
-                                current.rm.getMineManager().deleteMine(icon.getMine());
-                                TranslatableLine.SYSTEM_MINE_DELETED.send(p);
-                                current.load(current.so);
-                            } else {
-                                p.closeInventory();
-                                current.rm.getGUIManager().openMine(current.display.get(e.getRawSlot()).getMine(), p);
-                            }
-                        }
-                    }
-                }
-            }
-
-            private void backPage(final MineListGUI asd) {
-                if (asd.p.exists(asd.pageNumber - 1)) {
-                    --asd.pageNumber;
-                }
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
+
+        switch (e.getRawSlot()) {
+            case 4:
+                this.load(this.so == MineListSort.DEFAULT ? MineListSort.SIZE : MineListSort.DEFAULT);
+                break;
+            case 49:
+                p.closeInventory();
+                final RealMinesGUI rmg = new RealMinesGUI(p, this.rm);
+                rmg.openInventory(p);
+                break;
+            case 26:
+            case 35:
+                this.nextPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+            case 18:
+            case 27:
+                this.backPage();
+                p.playSound(p.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 50, 50);
+                break;
+        }
 
-                asd.fillChest(asd.p.getPage(asd.pageNumber));
+        if (this.display.containsKey(e.getRawSlot())) {
+            MineIcon icon = this.display.get(e.getRawSlot());
+            if (icon.getMine() == null) {
+                return;
+            }
+            if (e.getClick() == ClickType.DROP) {
+                this.rm.getMineManager().deleteMine(icon.getMine());
+                TranslatableLine.SYSTEM_MINE_DELETED.send(p);
+                this.load(this.so);
+            } else {
+                p.closeInventory();
+                this.rm.getGUIManager().openMine(this.display.get(e.getRawSlot()).getMine(), p);
             }
+        }
+    }
 
-            private void nextPage(final MineListGUI asd) {
-                if (asd.p.exists(asd.pageNumber + 1)) {
-                    ++asd.pageNumber;
-                }
+    private void backPage() {
+        if (this.p.exists(this.pageNumber - 1)) {
+            --this.pageNumber;
+        }
 
-                asd.fillChest(asd.p.getPage(asd.pageNumber));
-            }
+        this.fillChest(this.p.getPage(this.pageNumber));
+    }
 
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
-                }
-            }
-        };
+    private void nextPage() {
+        if (this.p.exists(this.pageNumber + 1)) {
+            ++this.pageNumber;
+        }
+
+        this.fillChest(this.p.getPage(this.pageNumber));
     }
 
     public void fillChest(final List<MineIcon> items) {
@@ -205,27 +161,11 @@ public class MineListGUI {
     }
 
     public void openInventory(final Player target) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
-        }
+        target.openInventory(this.inv);
     }
 
+    @Override
     public Inventory getInventory() {
         return this.inv;
     }
-
-    private void register() {
-        inventories.put(this.uuid, this);
-    }
-
-    private void unregister() {
-        inventories.remove(this.uuid);
-    }
 }
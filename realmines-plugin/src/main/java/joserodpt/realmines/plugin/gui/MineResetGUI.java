@@ -16,115 +16,70 @@ package joserodpt.realmines.plugin.gui;
 import joserodpt.realmines.api.config.RMLanguageConfig;
 import joserodpt.realmines.api.config.TranslatableLine;
 import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.utils.GUIHolder;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.PlayerInput;
 import joserodpt.realmines.api.utils.Text;
 import joserodpt.realmines.plugin.RealMines;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
-public class MineResetGUI {
+public class MineResetGUI implements GUIHolder {
 
-    private static final Map<UUID, MineResetGUI> inventories = new HashMap<>();
     private final Inventory inv;
 
-    private final UUID uuid;
     private final RMine min;
     private final RealMines rm;
 
     public MineResetGUI(final RealMines rm, final Player as, final RMine m) {
         this.rm = rm;
-        this.uuid = as.getUniqueId();
-        this.inv = Bukkit.getServer().createInventory(null, InventoryType.HOPPER, TranslatableLine.GUI_RESET_NAME.setV1(TranslatableLine.ReplacableVar.MINE.eq(m.getDisplayName())).get());
+        this.inv = Bukkit.getServer().createInventory(this, InventoryType.HOPPER, TranslatableLine.GUI_RESET_NAME.setV1(TranslatableLine.ReplacableVar.MINE.eq(m.getDisplayName())).get());
         this.min = m;
 
         this.load(m);
-
-        this.register();
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(final InventoryClickEvent e) {
-                final HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    final UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        final MineResetGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        e.setCancelled(true);
-                        final Player gp = (Player) clicker;
-
-                        switch (e.getRawSlot()) {
-                            case 2:
-                                gp.closeInventory();
-                                current.rm.getGUIManager().openMine(current.min, gp);
-                                break;
-                            case 0:
-                                switch (e.getClick()) {
-                                    case LEFT:
-                                        current.min.setResetState(RMine.Reset.PERCENTAGE, !current.min.isResetBy(RMine.Reset.PERCENTAGE));
-                                        current.load(current.min);
-                                        break;
-                                    case RIGHT:
-                                        current.editSetting(current.rm, 0, gp, current.min);
-                                        break;
-                                }
-                                break;
-                            case 4:
-                                switch (e.getClick()) {
-                                    case LEFT:
-                                        current.min.setResetState(RMine.Reset.TIME, !current.min.isResetBy(RMine.Reset.TIME));
-                                        current.load(current.min);
-                                        break;
-                                    case RIGHT:
-                                        current.editSetting(current.rm, 1, gp, current.min);
-                                        break;
-                                    default:
-                                        break;
-                                }
-                                break;
-                        }
-                    }
-                }
-            }
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player gp) {
+        e.setCancelled(true);
 
-            @EventHandler
-            public void onClose(final InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    final Player p = (Player) e.getPlayer();
-                    final UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
+        switch (e.getRawSlot()) {
+            case 2:
+                gp.closeInventory();
+                this.rm.getGUIManager().openMine(this.min, gp);
+                break;
+            case 0:
+                switch (e.getClick()) {
+                    case LEFT:
+                        this.min.setResetState(RMine.Reset.PERCENTAGE, !this.min.isResetBy(RMine.Reset.PERCENTAGE));
+                        this.load(this.min);
+                        break;
+                    case RIGHT:
+                        this.editSetting(this.rm, 0, gp, this.min);
+                        break;
                 }
-            }
-        };
+                break;
+            case 4:
+                switch (e.getClick()) {
+                    case LEFT:
+                        this.min.setResetState(RMine.Reset.TIME, !this.min.isResetBy(RMine.Reset.TIME));
+                        this.load(this.min);
+                        break;
+                    case RIGHT:
+                        this.editSetting(this.rm, 1, gp, this.min);
+                        break;
+                    default:
+                        break;
+                }
+                break;
+        }
     }
 
     public void load(final RMine m) {
@@ -160,16 +115,7 @@ public class MineResetGUI {
     }
 
     public void openInventory(final Player target) {
-        final Inventory inv = this.getInventory();
-        final InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            final Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
-        }
+        target.openInventory(this.inv);
     }
 
     protected void editSetting(final RealMines rm, final int i, final Player p, final RMine m) {
@@ -233,15 +179,8 @@ public class MineResetGUI {
         }
     }
 
+    @Override
     public Inventory getInventory() {
         return this.inv;
     }
-
-    private void register() {
-        inventories.put(this.uuid, this);
-    }
-
-    private void unregister() {
-        inventories.remove(this.uuid);
-    }
 }
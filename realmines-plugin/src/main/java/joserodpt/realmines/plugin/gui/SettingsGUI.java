@@ -16,34 +16,25 @@ package joserodpt.realmines.plugin.gui;
 import joserodpt.realmines.api.config.RMConfig;
 import joserodpt.realmines.api.config.RMLanguageConfig;
 import joserodpt.realmines.api.config.TranslatableLine;
+import joserodpt.realmines.api.utils.GUIHolder;
 import joserodpt.realmines.api.utils.Items;
 import joserodpt.realmines.api.utils.PlayerInput;
 import joserodpt.realmines.api.utils.Text;
 import joserodpt.realmines.plugin.RealMines;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 
-public class SettingsGUI {
+public class SettingsGUI implements GUIHolder {
 
-    private static Map<UUID, SettingsGUI> inventories = new HashMap<>();
     private Inventory inv;
     final ItemStack close = Items.createItem(Material.ACACIA_DOOR, 1, TranslatableLine.GUI_CLOSE_NAME.get(),
             RMLanguageConfig.file().getStringList("GUI.Items.Close.Description"));
-    private final UUID uuid;
     private RealMines rm;
 
     public enum Setting {REALM, PLAYERS}
@@ -52,8 +43,7 @@ public class SettingsGUI {
 
     public SettingsGUI(Player as, RealMines rm) {
         this.rm = rm;
-        this.uuid = as.getUniqueId();
-        this.inv = Bukkit.getServer().createInventory(null, 54, Text.color("&f&lReal&9&lMines &8| Settings"));
+        this.inv = Bukkit.getServer().createInventory(this, 54, Text.color("&f&lReal&9&lMines &8| Settings"));
 
         fillGUI();
     }
@@ -72,14 +62,14 @@ public class SettingsGUI {
         switch (def) {
             case REALM:
                 this.inv.setItem(13, Items.createItem(Material.WRITABLE_BOOK, 1, "&ePlugin Prefix", Arrays.asList("&fCurrent: &r" + Text.getPrefix(), "", "&fClick here to change the plugin's prefix.")));
-                this.inv.setItem(14, Items.createItem(Material.GRASS_BLOCK, 1, "&ePlace Farm Land Below Crop " + (RMConfig.file().getBoolean("RealMines.placeFarmLandBelowCrop") ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle this setting.")));
-                this.inv.setItem(15, Items.createItem(Material.OAK_SIGN, 1, "&eBroadcast Reset Message Only In World " + (RMConfig.file().getBoolean("RealMines.broadcastResetMessageOnlyInWorld") ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle this setting.")));
+                this.inv.setItem(14, Items.createItem(Material.GRASS_BLOCK, 1, "&ePlace Farm Land Below Crop " + (RMConfig.values().placeFarmLandBelowCrop() ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle this setting.")));
+                this.inv.setItem(15, Items.createItem(Material.OAK_SIGN, 1, "&eBroadcast Reset Message Only In World " + (RMConfig.values().broadcastResetMessageOnlyInWorld() ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle this setting.")));
                 break;
             case PLAYERS:
-                this.inv.setItem(22, Items.createItem(Material.ENDER_PEARL, 1, "&eTeleport Players " + (RMConfig.file().getBoolean("RealMines.teleportPlayers") ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle player teleportation.")));
-                this.inv.setItem(23, Items.createItem(Material.FILLED_MAP, 1, "&eTeleport Message " + (RMConfig.file().getBoolean("RealMines.teleportMessage") ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle the teleportation messages.")));
-                this.inv.setItem(24, Items.createItem(Material.MAP, 1, "&eAction Bar Messages " + (RMConfig.file().getBoolean("RealMines.actionbarMessages") ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle action bar messages.")));
-                this.inv.setItem(25, Items.createItem(Material.TNT, 1, "&eReset Mines with No Online Players " + (RMConfig.file().getBoolean("RealMines.resetMinesWhenNoPlayers") ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle this setting.")));
+                this.inv.setItem(22, Items.createItem(Material.ENDER_PEARL, 1, "&eTeleport Players " + (RMConfig.values().teleportPlayers() ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle player teleportation.")));
+                this.inv.setItem(23, Items.createItem(Material.FILLED_MAP, 1, "&eTeleport Message " + (RMConfig.values().teleportMessage() ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle the teleportation messages.")));
+                this.inv.setItem(24, Items.createItem(Material.MAP, 1, "&eAction Bar Messages " + (RMConfig.values().actionbarMessages() ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle action bar messages.")));
+                this.inv.setItem(25, Items.createItem(Material.TNT, 1, "&eReset Mines with No Online Players " + (RMConfig.values().resetMinesWhenNoPlayers() ? "&a&lON" : "&c&lOFF"), Arrays.asList("", "&fClick here to toggle this setting.")));
 
                 break;
         }
@@ -88,130 +78,79 @@ public class SettingsGUI {
     }
 
     public void openInventory(Player target) {
-        Inventory inv = getInventory();
-        InventoryView openInv = target.getOpenInventory();
-        if (openInv != null) {
-            Inventory openTop = target.getOpenInventory().getTopInventory();
-            if (openTop != null && openTop.getType().name().equalsIgnoreCase(inv.getType().name())) {
-                openTop.setContents(inv.getContents());
-            } else {
-                target.openInventory(inv);
-            }
-
-            register();
-        }
+        target.openInventory(this.inv);
     }
 
-    public static Listener getListener() {
-        return new Listener() {
-            @EventHandler
-            public void onClick(InventoryClickEvent e) {
-                HumanEntity clicker = e.getWhoClicked();
-                if (clicker instanceof Player) {
-                    Player p = (Player) clicker;
-                    if (e.getCurrentItem() == null) {
-                        return;
-                    }
-                    UUID uuid = clicker.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        SettingsGUI current = inventories.get(uuid);
-                        if (e.getInventory().getHolder() != current.getInventory().getHolder()) {
-                            return;
-                        }
-
-                        e.setCancelled(true);
-
-                        switch (e.getRawSlot()) {
-                            case 16:
-                                p.closeInventory();
-                                break;
-                            case 10:
-                                current.def = Setting.REALM;
-                                current.fillGUI();
-                                break;
-                            case 19:
-                                current.def = Setting.PLAYERS;
-                                current.fillGUI();
-                                break;
-
-                            case 13:
-                                p.closeInventory();
-
-                                new PlayerInput(false, p, input -> {
-                                    RMConfig.file().set("RealMines.Prefix", input);
-                                    RMConfig.save();
-                                    Text.send(p, "The plugin's prefix is now " + input);
-
-                                    SettingsGUI wv = new SettingsGUI(p, current.rm);
-                                    wv.openInventory(p);
-                                }, input -> {
-                                    SettingsGUI wv = new SettingsGUI(p, current.rm);
-                                    wv.openInventory(p);
-                                });
-                                break;
-
-                            case 14:
-                                toggle("placeFarmLandBelowCrop", current);
-                                break;
-
-                            case 15:
-                                toggle("broadcastResetMessageOnlyInWorld", current);
-                                break;
-
-                            case 22:
-                                toggle("teleportPlayers", current);
-                                break;
-                            case 23:
-                                toggle("teleportMessage", current);
-                                break;
-                            case 24:
-                                toggle("actionbarMessages", current);
-                                break;
-                            case 25:
-                                toggle("resetMinesWhenNoPlayers", current);
-                                break;
-
-                            case 37:
-                                p.closeInventory();
-                                RealMinesGUI rv = new RealMinesGUI(p, current.rm);
-                                rv.openInventory(p);
-                                break;
-                        }
-                    }
-                }
-            }
-
-            @EventHandler
-            public void onClose(InventoryCloseEvent e) {
-                if (e.getPlayer() instanceof Player) {
-                    if (e.getInventory() == null) {
-                        return;
-                    }
-                    Player p = (Player) e.getPlayer();
-                    UUID uuid = p.getUniqueId();
-                    if (inventories.containsKey(uuid)) {
-                        inventories.get(uuid).unregister();
-                    }
-                }
-            }
-
-            private void toggle(String s, SettingsGUI sg) {
-                RMConfig.file().set("RealMines." + s, !RMConfig.file().getBoolean("RealMines." + s));
-                RMConfig.save();
-                sg.fillGUI();
-            }
-        };
-    }
+    @Override
+    public void onClick(final InventoryClickEvent e, final Player p) {
+        e.setCancelled(true);
 
-    public Inventory getInventory() {
-        return inv;
+        switch (e.getRawSlot()) {
+            case 16:
+                p.closeInventory();
+                break;
+            case 10:
+                this.def = Setting.REALM;
+                this.fillGUI();
+                break;
+            case 19:
+                this.def = Setting.PLAYERS;
+                this.fillGUI();
+                break;
+
+            case 13:
+                p.closeInventory();
+
+                new PlayerInput(false, p, input -> {
+                    RMConfig.file().set("RealMines.Prefix", input);
+                    RMConfig.save();
+                    Text.send(p, "The plugin's prefix is now " + input);
+
+                    SettingsGUI wv = new SettingsGUI(p, this.rm);
+                    wv.openInventory(p);
+                }, input -> {
+                    SettingsGUI wv = new SettingsGUI(p, this.rm);
+                    wv.openInventory(p);
+                });
+                break;
+
+            case 14:
+                toggle("placeFarmLandBelowCrop");
+                break;
+
+            case 15:
+                toggle("broadcastResetMessageOnlyInWorld");
+                break;
+
+            case 22:
+                toggle("teleportPlayers");
+                break;
+            case 23:
+                toggle("teleportMessage");
+                break;
+            case 24:
+                toggle("actionbarMessages");
+                break;
+            case 25:
+                toggle("resetMinesWhenNoPlayers");
+                break;
+
+            case 37:
+                p.closeInventory();
+                RealMinesGUI rv = new RealMinesGUI(p, this.rm);
+                rv.openInventory(p);
+                break;
+        }
     }
 
-    private void register() {
-        inventories.put(this.uuid, this);
+    private void toggle(String s) {
+        RMConfig.file().set("RealMines." + s, !RMConfig.file().getBoolean("RealMines." + s));
+        RMConfig.save();
+        this.fillGUI();
     }
 
-    private void unregister() {
-        inventories.remove(this.uuid);
+    @Override
+    public Inventory getInventory() {
+        return inv;
     }
 }
\ No newline at end of file
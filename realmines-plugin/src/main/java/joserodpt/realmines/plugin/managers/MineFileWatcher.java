@@ -0,0 +1,146 @@
+package joserodpt.realmines.plugin.managers;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/*
+watches the mines and schematics folders and reloads the mines whose files changed:
+- events are collected until the folders stay quiet for the debounce delay
+- mine files that hold what the plugin last wrote for their mine are skipped, those are its own saves
+- only the affected mine files go through the incremental reload, a changed schematic reloads the mines that use it
+- the reload runs on the global region, this thread only collects the changed file names
+- files that fail to load are reported one by one, the other mines are still applied
+ */
+final class MineFileWatcher implements Runnable {
+
+    private final MineManager mineManager;
+    private final Plugin plugin;
+    private final Logger logger;
+    private final Path mines, schematics;
+    private final long debounceMillis;
+    private WatchService watchService;
+
+    MineFileWatcher(final MineManager mineManager, final Plugin plugin, final Logger logger, final Path mines, final Path schematics, final long debounceMillis) {
+        this.mineManager = mineManager;
+        this.plugin = plugin;
+        this.logger = logger;
+        this.mines = mines;
+        this.schematics = schematics;
+        this.debounceMillis = debounceMillis;
+    }
+
+    void start() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        for (final Path dir : new Path[]{this.mines, this.schematics}) {
+            Files.createDirectories(dir);
+            dir.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        Thread.ofVirtual().name("RealMines-MineFileWatcher").start(this);
+    }
+
+    void stop() {
+        try {
+            this.watchService.close();
+        } catch (final IOException e) {
+            this.logger.warning("Failed to stop watching the mine files: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = this.watchService.take();
+                final Set<String> mineFiles = new HashSet<>(), schematicFiles = new HashSet<>();
+                boolean overflow = false;
+                do {
+                    overflow |= this.collect(key, mineFiles, schematicFiles);
+                    key = this.watchService.poll(this.debounceMillis, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                mineFiles.removeIf(this.mineManager::isLastWrite);
+                if (overflow || !mineFiles.isEmpty() || !schematicFiles.isEmpty()) {
+                    try {
+                        this.apply(overflow, mineFiles, schematicFiles);
+                    } catch (final RuntimeException e) {
+                        this.logger.severe("Failed to apply the changed mine files: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException ignored) {
+            //stopped
+        }
+    }
+
+    //returns true if events were lost and every mine file has to be checked
+    private boolean collect(final WatchKey key, final Set<String> mineFiles, final Set<String> schematicFiles) {
+        boolean overflow = false;
+        final boolean minesFolder = this.mines.equals(key.watchable());
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+
+            final String fileName = event.context().toString();
+            if (!minesFolder) {
+                schematicFiles.add(fileName);
+            } else if (fileName.endsWith(".yml")) {
+                mineFiles.add(fileName);
+            }
+        }
+        key.reset();
+        return overflow;
+    }
+
+    //the files and schematics are read and parsed here on the watcher thread, only building and registering the mines runs on the global region
+    private void apply(final boolean overflow, final Set<String> mineFiles, final Set<String> schematicFiles) {
+        final Set<String> forced = schematicFiles.isEmpty() ? Set.of() : this.mineManager.getMineFilesUsing(schematicFiles);
+        final Set<String> affected = new HashSet<>(mineFiles);
+        affected.addAll(forced);
+        if (!overflow && affected.isEmpty()) {
+            return;
+        }
+
+        final MineManager.ReloadPlan plan = overflow ? this.mineManager.prepareReload(fileName -> true, Set.of()) : this.mineManager.prepareReload(affected::contains, forced);
+        Bukkit.getGlobalRegionScheduler().execute(this.plugin, () -> {
+            try {
+                final MineManager.ReloadReport report = this.mineManager.applyReload(plan);
+                for (final String failed : report.failed()) {
+                    this.logger.warning("Mine file " + failed + " was not applied, the mine keeps its previous config until the file is fixed.");
+                }
+            } catch (final RuntimeException e) {
+                this.logger.severe("Failed to apply the changed mine files: " + e.getMessage());
+            }
+        });
+    }
+}
@@ -16,8 +16,10 @@ package joserodpt.realmines.plugin.managers;
 import com.sk89q.worldedit.LocalSession;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.bukkit.WorldEditPlugin;
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
 import com.sk89q.worldedit.regions.Region;
 import dev.dejvokep.boostedyaml.block.implementation.Section;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import joserodpt.realmines.api.RealMinesAPI;
 import joserodpt.realmines.api.config.RMConfig;
 import joserodpt.realmines.api.config.RMMinesOldConfig;
@@ -33,6 +35,9 @@ import joserodpt.realmines.api.mine.components.RMineSettings;
 import joserodpt.realmines.api.mine.components.items.MineBlockItem;
 import joserodpt.realmines.api.mine.components.items.MineItem;
 import joserodpt.realmines.api.mine.components.items.farm.MineFarmItem;
+import joserodpt.realmines.api.mine.storage.BinaryMineStorage;
+import joserodpt.realmines.api.mine.storage.MineStorage;
+import joserodpt.realmines.api.mine.storage.YamlMineStorage;
 import joserodpt.realmines.api.mine.task.MineResetTask;
 import joserodpt.realmines.api.mine.types.BlockMine;
 import joserodpt.realmines.api.mine.types.SchematicMine;
@@ -45,30 +50,50 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class MineManager extends MineManagerAPI {
 
     private final RealMinesAPI rm;
-    private final Map<String, RMine> mines = new HashMap<>();
+    //replaced as a whole on every change, readers never lock
+    private volatile MineRegistry registry = MineRegistry.EMPTY;
+    private final MineStateStore stateStore;
+    private volatile MineStorage storage;
+    private volatile MineFileWatcher fileWatcher;
 
     public MineManager(RealMinesAPI rm) {
         this.rm = rm;
+        this.stateStore = new MineStateStore(rm.getPlugin().getDataFolder());
+        this.storage = new YamlMineStorage(new File(rm.getPlugin().getDataFolder(), "mines"));
     }
 
     @Override
@@ -80,6 +105,8 @@ public class MineManager extends MineManagerAPI {
 
     @Override
     public void loadMines() {
+        //published at once, instead of rebuilding the registry for every mine
+        final Map<String, RMine> loaded = new LinkedHashMap<>();
         if (RMMinesOldConfig.fileExists() && RMMinesOldConfig.file() != null) {
             rm.getLogger().warning("Converting mines into the new format...");
 
@@ -100,13 +127,13 @@ public class MineManager extends MineManagerAPI {
                 try {
                     switch (type) {
                         case "BLOCKS":
-                            mines.put(mineName, new BlockMine(mineName, mineConfigSection));
+                            loaded.put(mineName, new BlockMine(mineName, mineConfigSection));
                             break;
                         case "SCHEMATIC":
-                            mines.put(mineName, new SchematicMine(mineName, mineConfigSection));
+                            loaded.put(mineName, new SchematicMine(mineName, mineConfigSection));
                             break;
                         case "FARM":
-                            mines.put(mineName, new FarmMine(mineName, mineConfigSection));
+                            loaded.put(mineName, new FarmMine(mineName, mineConfigSection));
                             break;
                         default:
                             throw new IllegalStateException("Unexpected value: " + type);
@@ -121,47 +148,418 @@ public class MineManager extends MineManagerAPI {
 
             RMMinesOldConfig.delete();
             rm.getLogger().warning("Conversion finished with success.");
+            this.publish(mines -> mines.putAll(loaded));
         } else {
-            //new mine loading system
-            File minesFolder = new File(rm.getPlugin().getDataFolder(), "mines");
+            this.loadMineFiles(this.listMineFiles(), loaded);
+        }
+    }
+
+    //new mine loading system, the mines are named after their file (<name>.yml) whatever the storage is
+    private List<String> listMineFiles() {
+        try {
+            return this.storage.getMineNames().stream()
+                    .map(name -> name + ".yml")
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            rm.getLogger().severe("Failed to list the stored mines: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
 
-            if (!minesFolder.exists()) {
-                minesFolder.mkdirs();
+    private record MineFile(String fileName, byte[] data, long stamp) {
+    }
+
+    //clipboard: the schematic of a schematic mine, read with the file
+    private record MineDefinition(String fileName, String name, String type, YamlConfiguration config, long stamp, Clipboard clipboard) {
+    }
+
+    public record ReloadReport(List<String> added, List<String> changed, List<String> removed, List<String> failed) {
+    }
+
+    @FunctionalInterface
+    private interface LoadStep<T, R> {
+        R apply(T input) throws Exception;
+    }
+
+    //runs a loading step for every input on virtual threads, the inputs that failed are logged, left as null and added to failed
+    private <T, R> List<R> runParallel(final List<T> inputs, final LoadStep<T, R> step, final Function<T, String> fileName, final List<String> failed) {
+        final List<R> results = new ArrayList<>(inputs.size());
+        try (ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<R>> pending = new ArrayList<>(inputs.size());
+            for (final T input : inputs) {
+                pending.add(loader.submit(() -> step.apply(input)));
+            }
+            for (int i = 0; i < pending.size(); ++i) {
+                final String name = fileName.apply(inputs.get(i));
+                final R result = this.await(pending.get(i), name);
+                if (result == null) {
+                    failed.add(name);
+                }
+                results.add(result);
             }
+        }
+        return results;
+    }
 
-            for (final File file : minesFolder.listFiles()) {
-                if (file.getName().endsWith(".yml")) {
-                    try {
-                        YamlConfiguration mineConfig = YamlConfiguration.loadConfiguration(file);
-                        String mineName = mineConfig.getString("name");
-                        String type = mineConfig.getString("type");
-
-                        if (mineName == null || type == null) {
-                            rm.getLogger().warning("Failed to load mine " + file.getName() + "!");
-                            rm.getLogger().warning("Error: name or type not found.");
-                            continue;
-                        }
+    //the mine files are named after the storage key of their mine
+    private static String storageKey(final String fileName) {
+        return fileName.substring(0, fileName.length() - 4);
+    }
 
-                        switch (type) {
-                            case "BLOCKS":
-                                addMine(new BlockMine(mineName, mineConfig));
-                                break;
-                            case "SCHEMATIC":
-                                addMine(new SchematicMine(mineName, mineConfig));
-                                break;
-                            case "FARM":
-                                addMine(new FarmMine(mineName, mineConfig));
-                                break;
-                            default:
-                                throw new IllegalStateException("Unexpected value: " + type);
-                        }
-                    } catch (RMFailedToLoadException e) {
-                        rm.getLogger().severe("Failed to load mine " + file.getName() + "!");
-                        rm.getLogger().severe("Error: " + e.getMessage());
-                    }
+    private static String fileName(final RMine mine) {
+        return mine.getStorageKey() + ".yml";
+    }
+
+    private MineFile readMineFile(final String fileName) throws IOException {
+        final MineStorage.Entry entry = this.storage.read(storageKey(fileName));
+        if (entry == null) {
+            throw new IOException("the mine is no longer stored");
+        }
+        return new MineFile(fileName, entry.data(), entry.stamp());
+    }
+
+    private MineDefinition parseMineFile(final MineFile mineFile) throws InvalidConfigurationException {
+        final YamlConfiguration mineConfig = new YamlConfiguration();
+        mineConfig.loadFromString(new String(mineFile.data(), StandardCharsets.UTF_8));
+        String mineName = mineConfig.getString("name");
+        String type = mineConfig.getString("type");
+
+        if (mineName == null || type == null) {
+            rm.getLogger().warning("Failed to load mine " + mineFile.fileName() + "!");
+            rm.getLogger().warning("Error: name or type not found.");
+            return null;
+        }
+        final String schematic = mineConfig.getString("schematic");
+        final Clipboard clipboard = "SCHEMATIC".equals(type) && schematic != null ? SchematicMine.readSchematic(schematic) : null;
+        return new MineDefinition(mineFile.fileName(), mineName, type, mineConfig, mineFile.stamp(), clipboard);
+    }
+
+    private RMine buildMine(final MineDefinition definition) throws RMFailedToLoadException {
+        final RMine mine = switch (definition.type()) {
+            case "BLOCKS" -> new BlockMine(definition.name(), definition.config(), true);
+            case "SCHEMATIC" -> new SchematicMine(definition.name(), definition.config(), true, definition.clipboard());
+            case "FARM" -> new FarmMine(definition.name(), definition.config(), true);
+            default -> throw new IllegalStateException("Unexpected value: " + definition.type());
+        };
+        mine.setStorageKey(storageKey(definition.fileName()));
+        mine.setConfigStamp(definition.stamp());
+        return mine;
+    }
+
+    private List<MineDefinition> parseMineFiles(final List<MineFile> files, final List<String> failed) {
+        return this.runParallel(files, this::parseMineFile, MineFile::fileName, failed).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    //built on the calling thread, the mines start their timers and read the world while being built
+    //the failed mines are left out, the others are keyed by file name in the order of their definitions
+    private Map<String, RMine> buildMines(final List<MineDefinition> definitions, final List<String> failed) {
+        final Map<String, RMine> mines = new LinkedHashMap<>();
+        for (final MineDefinition definition : definitions) {
+            try {
+                mines.put(definition.fileName(), this.buildMine(definition));
+            } catch (final Exception e) {
+                rm.getLogger().severe("Failed to load mine " + definition.fileName() + "!");
+                rm.getLogger().severe("Error: " + e.getMessage());
+                failed.add(definition.fileName());
+            }
+        }
+        return mines;
+    }
+
+    //the first fills are spread over the next ticks, perTick mines at a time
+    private void queueFill(final RMine mine, final int position, final int perTick) {
+        final long delay = 1 + position / perTick;
+        final Location anchor = mine.getPOS1();
+        if (anchor == null || anchor.getWorld() == null) {
+            mine.initialFill();
+        } else {
+            Bukkit.getRegionScheduler().runDelayed(rm.getPlugin(), anchor, t -> mine.initialFill(), delay);
+        }
+    }
+
+    //reads and parses the mine files on virtual threads, builds and registers the mines at once and then spreads their first fills over the next ticks
+    private void loadMineFiles(final List<String> files, final Map<String, RMine> loaded) {
+        final long parseStart = System.nanoTime();
+        final List<String> failed = new ArrayList<>();
+        final List<MineDefinition> definitions = this.parseMineFiles(this.runParallel(files, this::readMineFile, fileName -> fileName, failed).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()), failed);
+
+        final long buildStart = System.nanoTime();
+        this.buildMines(definitions, failed).values().forEach(mine -> loaded.put(mine.getName(), mine));
+        rm.getLogger().info("Parsed " + definitions.size() + " mine files in " + millisSince(parseStart, buildStart) + " ms and built " + loaded.size() + " mines in " + millisSince(buildStart, System.nanoTime()) + " ms.");
+
+        final long registerStart = System.nanoTime();
+        this.publish(mines -> mines.putAll(loaded));
+        loaded.values().forEach(RMine::updateSigns);
+        rm.getLogger().info("Registered " + loaded.size() + " mines in " + millisSince(registerStart, System.nanoTime()) + " ms.");
+
+        //mines whose saved runtime state still matches keep their blocks, instead of being filled again
+        final Map<String, MineStateStore.State> states = RMConfig.values().saveRuntimeState() ? this.stateStore.load() : Collections.emptyMap();
+        final boolean fill = !RMConfig.values().disableMineResetOnServerStart();
+        final int perTick = RMConfig.values().initialFillsPerTick();
+        int restored = 0, queued = 0;
+        for (final RMine mine : loaded.values()) {
+            final MineStateStore.State state = states.get(mine.getName());
+            if (state != null && state.matches(mine)) {
+                mine.restoreState(state.minedBlocks(), state.lifetimeBreaks(), state.blockSetIndex(), state.secondsLeft());
+                ++restored;
+            } else if (fill || state != null) {
+                //a saved state that no longer matches means the mine was changed while the server was stopped
+                this.queueFill(mine, queued++, perTick);
+            }
+        }
+        if (restored > 0) {
+            rm.getLogger().info("Restored the runtime state of " + restored + " mines.");
+        }
+        if (queued > 0) {
+            rm.getLogger().info("Queued the first fill of " + queued + " mines over " + ((queued + perTick - 1) / perTick) + " ticks.");
+        }
+    }
+
+    //only the mines whose file was added, changed or removed are unloaded, parsed and filled again, the others keep running untouched
+    public ReloadReport reloadMines() {
+        return this.reloadMines(fileName -> true, Collections.emptySet());
+    }
+
+    //affected: the mine files to look at, forced: the mine files to load again even if unchanged (their schematic changed)
+    //the mines are matched to their files by storage key and their config is compared by the stamp of its last read or write
+    public synchronized ReloadReport reloadMines(final Predicate<String> affected, final Set<String> forced) {
+        return this.applyReload(this.prepareReload(affected, forced));
+    }
+
+    //what a reload found in the files, read and parsed but not applied yet
+    record ReloadPlan(long start, List<MineDefinition> definitions, List<RMine> removed, Set<String> forced, List<String> failed) {
+    }
+
+    //reads and parses the changed mine files (and their schematics), nothing is changed yet so it can run on any thread
+    ReloadPlan prepareReload(final Predicate<String> affected, final Set<String> forced) {
+        final long start = System.nanoTime();
+        final Map<String, RMine> byFile = new HashMap<>();
+        this.getMines().values().stream()
+                .filter(m -> affected.test(fileName(m)))
+                .forEach(m -> byFile.put(fileName(m), m));
+
+        final List<String> failed = new ArrayList<>();
+        final List<String> files = this.listMineFiles().stream()
+                .filter(affected)
+                .collect(Collectors.toList());
+        final List<MineFile> read = this.runParallel(files, this::readMineFile, fileName -> fileName, failed);
+        final List<MineFile> modified = new ArrayList<>();
+        for (int i = 0; i < files.size(); ++i) {
+            final String fileName = files.get(i);
+            final RMine existing = byFile.remove(fileName);
+            final MineFile mineFile = read.get(i);
+            //unreadable files keep their mine as it is
+            if (mineFile != null && (existing == null || forced.contains(fileName) || existing.getConfigStamp() != mineFile.stamp())) {
+                modified.add(mineFile);
+            }
+        }
+        return new ReloadPlan(start, this.parseMineFiles(modified, failed), new ArrayList<>(byFile.values()), forced, failed);
+    }
+
+    //builds, registers and fills the mines of a plan, on the thread that owns the mine registry
+    //the mines are matched again, they may have been saved or reloaded since the plan was made
+    synchronized ReloadReport applyReload(final ReloadPlan plan) {
+        final Map<String, RMine> current = new HashMap<>();
+        this.getMines().values().forEach(m -> current.put(fileName(m), m));
+
+        final List<String> failed = new ArrayList<>(plan.failed());
+        final List<MineDefinition> definitions = new ArrayList<>();
+        for (final MineDefinition definition : plan.definitions()) {
+            final RMine existing = current.get(definition.fileName());
+            if (existing == null || plan.forced().contains(definition.fileName()) || existing.getConfigStamp() != definition.stamp()) {
+                definitions.add(definition);
+            }
+        }
+
+        //a changed mine that fails to load keeps running with its previous config
+        final Map<String, RMine> built = this.buildMines(definitions, failed);
+        final List<String> added = new ArrayList<>(), changed = new ArrayList<>(), removed = new ArrayList<>();
+        final List<String> unregistered = new ArrayList<>();
+        built.forEach((fileName, mine) -> {
+            final RMine old = current.get(fileName);
+            if (old == null) {
+                added.add(mine.getName());
+            } else {
+                changed.add(mine.getName());
+                //the name in the file may have been changed too
+                unregistered.add(old.getName());
+                this.unloadMine(old, mine);
+            }
+        });
+        for (final RMine old : plan.removed()) {
+            if (current.get(fileName(old)) != old) {
+                continue;
+            }
+            removed.add(old.getName());
+            unregistered.add(old.getName());
+            this.unloadMine(old, null);
+        }
+
+        this.publish(mines -> {
+            unregistered.forEach(mines::remove);
+            built.values().forEach(mine -> mines.put(mine.getName(), mine));
+        });
+
+        final int perTick = RMConfig.values().initialFillsPerTick();
+        int queued = 0;
+        for (final RMine mine : built.values()) {
+            this.queueFill(mine, queued++, perTick);
+        }
+        built.values().forEach(RMine::updateSigns);
+
+        rm.getLogger().info("Reloaded mines in " + millisSince(plan.start(), System.nanoTime()) + " ms. Added: " + added + ", changed: " + changed + ", removed: " + removed + ", failed: " + failed + ".");
+        return new ReloadReport(added, changed, removed, failed);
+    }
+
+    //true if the mine file holds what was last read or written for its mine
+    boolean isLastWrite(final String fileName) {
+        final RMine mine = this.getMines().values().stream()
+                .filter(m -> fileName(m).equals(fileName))
+                .findFirst()
+                .orElse(null);
+        if (mine == null) {
+            return false;
+        }
+
+        try {
+            final MineStorage.Entry entry = this.storage.read(storageKey(fileName));
+            return entry != null && entry.stamp() == mine.getConfigStamp();
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    //mine files of the schematic mines that use one of the given schematics
+    Set<String> getMineFilesUsing(final Set<String> schematics) {
+        return this.getMines().values().stream()
+                .filter(m -> m instanceof SchematicMine && schematics.contains(((SchematicMine) m).getSchematicFilename()))
+                .map(MineManager::fileName)
+                .collect(Collectors.toSet());
+    }
+
+    //picked on startup, switching the storage needs a restart
+    public void setupStorage() {
+        final File dataFolder = rm.getPlugin().getDataFolder();
+        final YamlMineStorage files = new YamlMineStorage(new File(dataFolder, "mines"));
+        if (!"BINARY".equals(RMConfig.values().mineStorage())) {
+            this.storage = files;
+            return;
+        }
+
+        try {
+            final BinaryMineStorage binary = new BinaryMineStorage(dataFolder);
+            this.storage = binary;
+            if (binary.isEmpty() && !files.getMineNames().isEmpty()) {
+                rm.getLogger().warning("Importing the mine files into the binary mine storage...");
+                rm.getLogger().info("Imported " + this.importMines(files.getFolder()) + " mines into the binary mine storage.");
+            }
+        } catch (final IOException e) {
+            rm.getLogger().severe("Failed to open the binary mine storage, using the mine files instead: " + e.getMessage());
+            this.storage = files;
+        }
+    }
+
+    public MineStorage getStorage() {
+        return this.storage;
+    }
+
+    //copies every YAML mine file of the folder into the storage
+    public int importMines(final File folder) {
+        final File[] files = folder.listFiles((dir, fileName) -> fileName.endsWith(".yml"));
+        int imported = 0;
+        if (files != null) {
+            for (final File file : files) {
+                try {
+                    final YamlConfiguration mineConfig = new YamlConfiguration();
+                    mineConfig.loadFromString(Files.readString(file.toPath()));
+                    final String name = mineConfig.getString("name", file.getName().substring(0, file.getName().length() - 4));
+                    this.storage.write(name, mineConfig);
+                    ++imported;
+                } catch (final IOException | InvalidConfigurationException e) {
+                    rm.getLogger().severe("Failed to import mine " + file.getName() + "!");
+                    rm.getLogger().severe("Error: " + e.getMessage());
                 }
             }
         }
+        return imported;
+    }
+
+    //writes every stored mine to the folder as a YAML mine file
+    public int exportMines(final File folder) throws IOException {
+        Files.createDirectories(folder.toPath());
+        int exported = 0;
+        for (final String name : this.storage.getMineNames()) {
+            final MineStorage.Entry entry = this.storage.read(name);
+            if (entry != null) {
+                Files.write(new File(folder, name + ".yml").toPath(), entry.data());
+                ++exported;
+            }
+        }
+        return exported;
+    }
+
+    public void setupFileWatcher() {
+        this.stopFileWatcher();
+        if (!RMConfig.values().watchMineFiles()) {
+            return;
+        }
+        if (!(this.storage instanceof YamlMineStorage)) {
+            rm.getLogger().warning("watchMineFiles only works with the YAML mine storage.");
+            return;
+        }
+
+        final File dataFolder = rm.getPlugin().getDataFolder();
+        final MineFileWatcher watcher = new MineFileWatcher(this, rm.getPlugin(), rm.getLogger(), new File(dataFolder, "mines").toPath(), new File(dataFolder, "schematics").toPath(),
+                RMConfig.values().watchMineFilesDebounceMillis());
+        try {
+            watcher.start();
+            this.fileWatcher = watcher;
+        } catch (final IOException e) {
+            rm.getLogger().warning("Could not watch the mine files: " + e.getMessage());
+        }
+    }
+
+    public void stopFileWatcher() {
+        if (this.fileWatcher != null) {
+            this.fileWatcher.stop();
+            this.fileWatcher = null;
+        }
+    }
+
+    //stops a mine that is being replaced by a reload, the reset tasks are pointed to its new instance
+    private void unloadMine(final RMine old, final RMine replacement) {
+        if (old.getMineTimer() != null) {
+            old.getMineTimer().kill();
+        }
+        rm.getDropAggregator().clear(old);
+        rm.getMineResetTasksManager().getTasks().forEach(task -> task.replaceMine(old, replacement));
+    }
+
+    public void saveRuntimeState() {
+        if (RMConfig.values().saveRuntimeState()) {
+            this.stateStore.save(this.getMines().values());
+        }
+    }
+
+    private <T> T await(final Future<T> future, final String fileName) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rm.getLogger().severe("Interrupted while loading mine " + fileName + "!");
+        } catch (final ExecutionException e) {
+            rm.getLogger().severe("Failed to load mine " + fileName + "!");
+            rm.getLogger().severe("Error: " + e.getCause().getMessage());
+        }
+        return null;
+    }
+
+    private static long millisSince(final long start, final long end) {
+        return TimeUnit.NANOSECONDS.toMillis(end - start);
     }
 
     @Override
@@ -255,36 +653,49 @@ public class MineManager extends MineManagerAPI {
         final File pluginFolder = new File(rm.getPlugin().getDataFolder(), "schematics");
 
         DirectoryBrowserGUI dbg = new DirectoryBrowserGUI(p, pluginFolder, "Please select a schematic", Arrays.asList("schem", "schematic"), (file) -> {
-            File finalFile = null;
+            //the copy and the first read of the clipboard happen on an I/O thread, the mine is created back on the player's thread
+            Bukkit.getAsyncScheduler().runNow(rm.getPlugin(), (ScheduledTask t) -> {
+                File finalFile = null;
 
-            if (!file.getAbsolutePath().toLowerCase().contains("realmines")) {
-                try {
-                    if (pluginFolder.exists() && pluginFolder.isDirectory()) {
-                        finalFile = new File(pluginFolder, file.getName());
+                if (!file.getAbsolutePath().toLowerCase().contains("realmines")) {
+                    try {
+                        if (pluginFolder.exists() && pluginFolder.isDirectory()) {
+                            finalFile = new File(pluginFolder, file.getName());
 
-                        Files.copy(file.toPath(), finalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    } else {
-                        Bukkit.getLogger().warning("The plugin shematic's folder is not a directory or does not exist.");
+                            Files.copy(file.toPath(), finalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                        } else {
+                            Bukkit.getLogger().warning("The plugin shematic's folder is not a directory or does not exist.");
+                        }
+                    } catch (IOException e) {
+                        e.printStackTrace();
                     }
-                } catch (IOException e) {
-                    e.printStackTrace();
+                } else {
+                    finalFile = file;
                 }
-            } else {
-                finalFile = file;
-            }
 
-            if (finalFile != null && finalFile.exists()) {
-                final SchematicMine m = new SchematicMine(name, p.getLocation(), finalFile.getName());
+                final File schematic = finalFile;
+                final Clipboard clipboard = schematic != null && schematic.exists() ? SchematicMine.readSchematic(schematic.getName()) : null;
 
-                this.addMine(m);
-                m.setTeleport(p.getLocation());
-                m.reset(RMine.ResetCause.CREATION);
+                p.getScheduler().run(rm.getPlugin(), (ScheduledTask t2) -> {
+                    if (clipboard == null) {
+                        TranslatableLine.SYSTEM_INVALID_SCHEMATIC.send(p);
+                        return;
+                    }
 
-                Bukkit.getPluginManager().callEvent(new RealMinesMineChangeEvent(m, RealMinesMineChangeEvent.ChangeOperation.ADDED));
-            } else {
+                    try {
+                        final SchematicMine m = new SchematicMine(name, p.getLocation(), schematic.getName(), clipboard);
 
-                TranslatableLine.SYSTEM_INVALID_SCHEMATIC.send(p);
-            }
+                        this.addMine(m);
+                        m.setTeleport(p.getLocation());
+                        m.reset(RMine.ResetCause.CREATION);
+
+                        Bukkit.getPluginManager().callEvent(new RealMinesMineChangeEvent(m, RealMinesMineChangeEvent.ChangeOperation.ADDED));
+                    } catch (RMFailedToLoadException e) {
+                        rm.getLogger().severe("Failed to create schematic mine " + name + ": " + e.getMessage());
+                        TranslatableLine.SYSTEM_INVALID_SCHEMATIC.send(p);
+                    }
+                }, null);
+            });
         });
         dbg.openInventory(p);
     }
@@ -316,14 +727,14 @@ public class MineManager extends MineManagerAPI {
         }
 
         if (checkForPermission && !target.hasPermission("realmines.tp." + m.getName())) {
-            if (RMConfig.file().getBoolean("RealMines.teleportMessage")) {
+            if (RMConfig.values().teleportMessage()) {
                 TranslatableLine.SYSTEM_ERROR_PERMISSION.send(target);
             }
             return;
         }
 
         target.teleportAsync(dest).thenAccept(success -> {
-            if (success && !silent && RMConfig.file().getBoolean("RealMines.teleportMessage")) {
+            if (success && !silent && RMConfig.values().teleportMessage()) {
                 target.getScheduler().run(rm.getPlugin(), (io.papermc.paper.threadedregions.scheduler.ScheduledTask t) -> {
                     TranslatableLine.MINE_TELEPORT.setV1(TranslatableLine.ReplacableVar.MINE.eq(m.getDisplayName())).send(target);
                 }, null);
@@ -350,42 +761,48 @@ public class MineManager extends MineManagerAPI {
 
     @Override
     public RMine getMine(final String name) {
-        return this.getMines().getOrDefault(name, null);
+        return this.registry.getMine(name);
+    }
+
+    @Override
+    public RMine getMineAt(final Location l) {
+        return this.registry.getMineAt(l);
+    }
+
+    @Override
+    public List<RMine> getMines(final World w) {
+        return this.registry.getMines(w);
     }
 
     @Override
     public MineItem findBlockUpdate(final Player p, final Cancellable e, final Block block, final boolean broken) {
-        for (final RMine mine : this.getMines().values()) {
-            if (mine.getMineCuboid() == null) {
-                continue;
-            }
+        final RMine mine = this.getMineAt(block.getLocation());
+        if (mine == null) {
+            return null;
+        }
 
-            if (mine.getMineCuboid().contains(block)) {
-                if ((mine.getSettingBool(RMineSettings.BREAK_PERMISSION) && !p.hasPermission(mine.getBreakPermission()))
-                        || (mine.getSettingBool(RMineSettings.BLOCK_SETS_MODE) && !mine.getMineCuboid().getBlockTypes().contains(block.getType()))) {
-                    e.setCancelled(true);
-                    TranslatableLine.SYSTEM_ERROR_BREAK_PERMISSION.send(p);
-                    return null;
-                }
+        if ((mine.getSettingBool(RMineSettings.BREAK_PERMISSION) && !p.hasPermission(mine.getBreakPermission()))
+                || (mine.getSettingBool(RMineSettings.BLOCK_SETS_MODE) && !mine.getMineCuboid().getBlockTypes().contains(block.getType()))) {
+            e.setCancelled(true);
+            TranslatableLine.SYSTEM_ERROR_BREAK_PERMISSION.send(p);
+            return null;
+        }
 
-                if (mine.isFreezed()) {
-                    e.setCancelled(true);
-                } else {
-                    if (mine.getType() == RMine.Type.FARM && !FarmItem.getCrops().contains(block.getType())) {
+        if (mine.isFreezed()) {
+            e.setCancelled(true);
+        } else {
+            if (mine.getType() == RMine.Type.FARM && !FarmItem.getCrops().contains(block.getType())) {
+                e.setCancelled(true);
+            } else {
+                MineItem mi = mine.getMineItems().get(mine.getType() == RMine.Type.FARM ? FarmItem.getIconFromCrop(block.getType()) : block.getType());
+                if (mi != null) {
+                    if (mi.isBlockMiningDisabled()) {
                         e.setCancelled(true);
                     } else {
-                        MineItem mi = mine.getMineItems().get(mine.getType() == RMine.Type.FARM ? FarmItem.getIconFromCrop(block.getType()) : block.getType());
-                        if (mi != null) {
-                            if (mi.isBlockMiningDisabled()) {
-                                e.setCancelled(true);
-                            } else {
-                                Bukkit.getPluginManager().callEvent(new MineBlockBreakEvent(p, mine, block, broken));
-                                return mine.getMineItems().get(block.getType());
-                            }
-                        }
+                        Bukkit.getPluginManager().callEvent(new MineBlockBreakEvent(p, mine, block, broken));
+                        return mine.getMineItems().get(block.getType());
                     }
                 }
-                return null;
             }
         }
         return null;
@@ -405,6 +822,7 @@ public class MineManager extends MineManagerAPI {
                 mine.getMineTimer().kill();
             }
         }
+        rm.getDropAggregator().clear();
         this.clearMemory();
     }
 
@@ -453,7 +871,7 @@ public class MineManager extends MineManagerAPI {
         if (mine != null) {
             Bukkit.getPluginManager().callEvent(new RealMinesMineChangeEvent(mine, RealMinesMineChangeEvent.ChangeOperation.REMOVED));
 
-            if (RMConfig.file().getBoolean("RealMines.disableMineClearingWhenDeleting", false)) {
+            if (RMConfig.values().disableMineClearingWhenDeleting()) {
                 org.bukkit.Location anchor = mine.getPOS1();
                 if (anchor != null) {
                     Bukkit.getRegionScheduler().execute(rm.getPlugin(), anchor, mine::clear);
@@ -476,23 +894,40 @@ public class MineManager extends MineManagerAPI {
                     task.removeMine(mine);
                 }
             }
+            rm.getDropAggregator().clear(mine);
             this.unregisterMine(mine);
         }
     }
 
     @Override
     public void clearMemory() {
-        this.mines.clear();
+        this.publish(Map::clear);
     }
 
     @Override
     public Map<String, RMine> getMines() {
-        return this.mines;
+        return this.registry.getMines();
     }
 
     @Override
     public void addMine(final RMine mine) {
-        this.mines.put(mine.getName(), mine);
+        this.publish(mines -> mines.put(mine.getName(), mine));
+    }
+
+    @Override
+    public void refreshMine(final RMine mine) {
+        //the cuboid or world of a registered mine changed, rebuild the index
+        if (this.registry.getMine(mine.getName()) == mine) {
+            this.publish(mines -> {
+            });
+        }
+    }
+
+    //copies the registered mines, applies the change and publishes a new registry
+    private synchronized void publish(final Consumer<Map<String, RMine>> edit) {
+        final Map<String, RMine> mines = new LinkedHashMap<>(this.registry.getMines());
+        edit.accept(mines);
+        this.registry = new MineRegistry(mines);
     }
 
     @Override
@@ -504,13 +939,15 @@ public class MineManager extends MineManagerAPI {
     public void renameMine(RMine m, String newName) {
         this.unregisterMine(m);
         m.rename(ChatColor.stripColor(Text.color(newName)));
-        this.registerMine(m);
+        //queued after the rename, so the mine is registered under its new name
+        m.getExecutor().execute(() -> this.registerMine(m));
     }
 
     @Override
     public void unregisterMine(final RMine m) {
         m.deleteConfig();
-        this.getMines().remove(m.getName());
+        final String name = m.getName();
+        this.publish(mines -> mines.remove(name));
     }
 
     @Override
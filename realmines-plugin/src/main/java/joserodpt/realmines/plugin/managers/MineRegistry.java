@@ -0,0 +1,136 @@
+package joserodpt.realmines.plugin.managers;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.mine.components.MineCuboid;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+immutable view of the registered mines, rebuilt on every change:
+- mines by name
+- mines by world
+- mines by chunk, to find the mine of a block without going through every mine
+ */
+final class MineRegistry {
+
+    static final MineRegistry EMPTY = new MineRegistry(Collections.emptyMap());
+
+    private static final RMine[] NONE = new RMine[0];
+
+    private final Map<String, RMine> mines;
+    private final Map<String, List<RMine>> worlds;
+    private final Map<String, Map<Long, RMine[]>> chunks;
+    //mines without a world or cuboid yet (ex: schematic mines that weren't pasted)
+    private final List<RMine> unindexed;
+
+    MineRegistry(final Map<String, RMine> mines) {
+        this.mines = Collections.unmodifiableMap(new LinkedHashMap<>(mines));
+
+        final Map<String, List<RMine>> worlds = new HashMap<>();
+        final Map<String, Map<Long, List<RMine>>> chunks = new HashMap<>();
+        final List<RMine> unindexed = new ArrayList<>();
+
+        for (final RMine mine : this.mines.values()) {
+            if (mine.getWorld() != null) {
+                worlds.computeIfAbsent(mine.getWorld().getName(), k -> new ArrayList<>()).add(mine);
+            }
+
+            final MineCuboid c = mine.getMineCuboid();
+            if (mine.getWorld() == null || c == null) {
+                unindexed.add(mine);
+                continue;
+            }
+
+            final String world = mine.getWorld().getName();
+
+            final Map<Long, List<RMine>> worldChunks = chunks.computeIfAbsent(world, k -> new HashMap<>());
+            final int minX = c.getLowerX() >> 4;
+            final int maxX = c.getUpperX() >> 4;
+            final int minZ = c.getLowerZ() >> 4;
+            final int maxZ = c.getUpperZ() >> 4;
+            for (int x = minX; x <= maxX; ++x) {
+                for (int z = minZ; z <= maxZ; ++z) {
+                    worldChunks.computeIfAbsent(chunkKey(x, z), k -> new ArrayList<>(1)).add(mine);
+                }
+            }
+        }
+
+        final Map<String, List<RMine>> worldsView = new HashMap<>();
+        worlds.forEach((world, list) -> worldsView.put(world, List.copyOf(list)));
+        this.worlds = Collections.unmodifiableMap(worldsView);
+
+        final Map<String, Map<Long, RMine[]>> chunksView = new HashMap<>();
+        chunks.forEach((world, worldChunks) -> {
+            final Map<Long, RMine[]> arrays = new HashMap<>(worldChunks.size() * 2);
+            worldChunks.forEach((key, list) -> arrays.put(key, list.toArray(NONE)));
+            chunksView.put(world, arrays);
+        });
+        this.chunks = Collections.unmodifiableMap(chunksView);
+        this.unindexed = List.copyOf(unindexed);
+    }
+
+    private static long chunkKey(final int x, final int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    Map<String, RMine> getMines() {
+        return this.mines;
+    }
+
+    RMine getMine(final String name) {
+        return this.mines.get(name);
+    }
+
+    List<RMine> getMines(final World w) {
+        return this.worlds.getOrDefault(w.getName(), Collections.emptyList());
+    }
+
+    RMine getMineAt(final Location l) {
+        final World w = l.getWorld();
+        if (w == null) {
+            return null;
+        }
+
+        final Map<Long, RMine[]> worldChunks = this.chunks.get(w.getName());
+        if (worldChunks != null) {
+            final RMine[] candidates = worldChunks.get(chunkKey(l.getBlockX() >> 4, l.getBlockZ() >> 4));
+            if (candidates != null) {
+                for (final RMine mine : candidates) {
+                    final MineCuboid c = mine.getMineCuboid();
+                    if (c != null && c.contains(l)) {
+                        return mine;
+                    }
+                }
+            }
+        }
+
+        //the cuboid of these mines may have been set after the snapshot was built
+        for (final RMine mine : this.unindexed) {
+            final MineCuboid c = mine.getMineCuboid();
+            if (c != null && c.contains(l)) {
+                return mine;
+            }
+        }
+        return null;
+    }
+}
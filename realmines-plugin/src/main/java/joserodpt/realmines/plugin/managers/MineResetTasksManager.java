@@ -42,8 +42,9 @@ public class MineResetTasksManager extends MineResetTasksManagerAPI {
         if (RPMineResetTasksConfig.file().isSection("")) {
             for (final String s : RPMineResetTasksConfig.file().getSection("").getRoutesAsStrings(false)) {
                 final int interval = RPMineResetTasksConfig.file().getInt(s + ".Delay");
+                final boolean grouped = RPMineResetTasksConfig.file().getBoolean(s + ".Grouped", false);
 
-                final MineResetTask mrt = new MineResetTask(rm, s, interval, false);
+                final MineResetTask mrt = new MineResetTask(rm, s, interval, grouped, false);
 
                 for (final String s1 : RPMineResetTasksConfig.file().getStringList(s + ".LinkedMines")) {
                     final RMine m = this.rm.getMineManager().getMine(s1);
@@ -67,7 +68,6 @@ public class MineResetTasksManager extends MineResetTasksManagerAPI {
 
     @Override
     public List<String> getRegisteredTasks() {
-        RPMineResetTasksConfig.reload();
         return this.tasks.stream()
                 .map(MineResetTask::getName)
                 .collect(Collectors.toList());
@@ -0,0 +1,135 @@
+package joserodpt.realmines.plugin.managers;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+import joserodpt.realmines.api.RealMinesAPI;
+import joserodpt.realmines.api.mine.RMine;
+import joserodpt.realmines.api.mine.components.MineCuboid;
+import joserodpt.realmines.api.utils.Countdown;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+binary snapshot of the runtime state of the mines (runtime.dat), saved periodically and on shutdown:
+- mined blocks and lifetime breaks
+- current block set
+- seconds left on the reset timer
+- a checksum of the contents of the mine (type, block sets, faces, schematic and reset settings)
+a mine is only restored if its world, bounds and contents still match the ones saved, otherwise it is filled as usual
+ */
+final class MineStateStore {
+
+    private static final int MAGIC = 0x524D5354;
+    private static final int VERSION = 2;
+
+    record State(String world, int x1, int y1, int z1, int x2, int y2, int z2, long contentStamp, int minedBlocks, long lifetimeBreaks, int blockSetIndex, int secondsLeft) {
+
+        boolean matches(final RMine mine) {
+            final MineCuboid c = mine.getMineCuboid();
+            return c != null && mine.getWorld() != null && mine.getWorld().getName().equals(this.world)
+                    && c.getLowerX() == this.x1 && c.getLowerY() == this.y1 && c.getLowerZ() == this.z1
+                    && c.getUpperX() == this.x2 && c.getUpperY() == this.y2 && c.getUpperZ() == this.z2
+                    && mine.getContentStamp() == this.contentStamp;
+        }
+    }
+
+    private final File file;
+
+    MineStateStore(final File dataFolder) {
+        this.file = new File(dataFolder, "runtime.dat");
+    }
+
+    synchronized void save(final Collection<RMine> mines) {
+        final File tmp = new File(this.file.getParentFile(), this.file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            int count = 0;
+            for (final RMine mine : mines) {
+                if (mine.getMineCuboid() != null && mine.getWorld() != null) {
+                    ++count;
+                }
+            }
+            out.writeInt(count);
+
+            for (final RMine mine : mines) {
+                final MineCuboid c = mine.getMineCuboid();
+                if (c == null || mine.getWorld() == null) {
+                    continue;
+                }
+                final Countdown countdown = mine.getMineTimer() == null ? null : mine.getMineTimer().getCountdown();
+
+                out.writeUTF(mine.getName());
+                out.writeUTF(mine.getWorld().getName());
+                out.writeInt(c.getLowerX());
+                out.writeInt(c.getLowerY());
+                out.writeInt(c.getLowerZ());
+                out.writeInt(c.getUpperX());
+                out.writeInt(c.getUpperY());
+                out.writeInt(c.getUpperZ());
+                out.writeLong(mine.getContentStamp());
+                out.writeInt(mine.getStats().getMinedBlocks());
+                out.writeLong(mine.getStats().getLifetimeBreaks());
+                out.writeInt(mine.getBlockSetIndex());
+                out.writeInt(countdown == null ? -1 : countdown.getSecondsLeft());
+            }
+        } catch (final IOException e) {
+            RealMinesAPI.getInstance().getLogger().warning("Failed to save the runtime state of the mines: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(tmp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            RealMinesAPI.getInstance().getLogger().warning("Failed to save the runtime state of the mines: " + e.getMessage());
+        }
+    }
+
+    synchronized Map<String, State> load() {
+        if (!this.file.exists()) {
+            return Collections.emptyMap();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                RealMinesAPI.getInstance().getLogger().warning("Ignoring the runtime state of the mines, unknown format.");
+                return Collections.emptyMap();
+            }
+
+            final int count = in.readInt();
+            final Map<String, State> states = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; ++i) {
+                final String name = in.readUTF();
+                states.put(name, new State(in.readUTF(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                        in.readLong(), in.readInt(), in.readLong(), in.readInt(), in.readInt()));
+            }
+            return states;
+        } catch (final IOException e) {
+            RealMinesAPI.getInstance().getLogger().warning("Ignoring the runtime state of the mines: " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+}
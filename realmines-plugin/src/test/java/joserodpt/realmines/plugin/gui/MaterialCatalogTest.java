@@ -0,0 +1,106 @@
+package joserodpt.realmines.plugin.gui;
+
+/*
+ *  ______           ____  ____
+ *  | ___ \         | |  \/  (_)
+ *  | |_/ /___  __ _| | .  . |_ _ __   ___  ___
+ *  |    // _ \/ _` | | |\/| | | '_ \ / _ \/ __|
+ *  | |\ \  __/ (_| | | |  | | | | | |  __/\__ \
+ *  \_| \_\___|\__,_|_\_|  |_/_|_| |_|\___||___/
+ *
+ * Licensed under the MIT License
+ * @author José Rodrigues © 2019-2025
+ * @link https://github.com/joserodpt/RealMines
+ */
+
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MaterialCatalogTest {
+
+    private static MaterialCatalog catalog;
+
+    @BeforeAll
+    static void setUp() {
+        //the catalogs ask the server registries which materials are items and blocks
+        MockBukkit.mock();
+        catalog = MaterialCatalog.of(MaterialPickerGUI.MaterialLists.ONLY_ITEMS);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void emptyQueriesReturnTheWholeCatalog() {
+        assertSame(catalog.all(), catalog.search(""));
+        assertSame(catalog.all(), catalog.search("   "));
+        assertSame(catalog.all(), catalog.search(null));
+        assertFalse(catalog.all().isEmpty());
+    }
+
+    @Test
+    void findsTheSameMaterialsAsAScan() {
+        for (final String query : List.of("ore", "dia", "Diamond_Ore", "DIAMOND ORE", "oak log", "stone sl", "ax", "e", "glass pane")) {
+            assertEquals(scan(query), materials(catalog.search(query)), query);
+        }
+    }
+
+    @Test
+    void trigramsThatAreNotNextToEachOtherDoNotMatch() {
+        //"ore" and "dia" are both in "diamond ore", but not "ore dia"
+        assertTrue(catalog.search("ore dia").isEmpty());
+        assertTrue(catalog.search("zzq").isEmpty());
+    }
+
+    @Test
+    void resultsKeepTheCatalogOrder() {
+        final List<Material> hits = materials(catalog.search("ore"));
+
+        assertTrue(hits.contains(Material.DIAMOND_ORE));
+        for (int i = 1; i < hits.size(); ++i) {
+            assertTrue(hits.get(i - 1).ordinal() < hits.get(i).ordinal());
+        }
+    }
+
+    @Test
+    void countsThePages() {
+        final MaterialCatalog.Results results = catalog.search("ore");
+
+        assertEquals((results.size() + 44) / 45, results.totalPages(45));
+        assertEquals(0, catalog.search("zzq").totalPages(45));
+    }
+
+    private static List<Material> scan(final String query) {
+        final String q = query.toLowerCase(Locale.ROOT).replace('_', ' ').trim();
+        final List<Material> hits = new ArrayList<>();
+        for (final Material m : materials(catalog.all())) {
+            if (m.name().toLowerCase(Locale.ROOT).replace('_', ' ').contains(q)) {
+                hits.add(m);
+            }
+        }
+        return hits;
+    }
+
+    private static List<Material> materials(final MaterialCatalog.Results results) {
+        final List<Material> list = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); ++i) {
+            list.add(results.material(i));
+        }
+        return list;
+    }
+}